@@ -0,0 +1,116 @@
+package chess.benchmark;
+
+import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.move.MoveGenerator;
+import chess.domain.notation.Fen;
+import chess.domain.notation.FenPosition;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.GameStatus;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import chess.domain.status.ValidationResult;
+import chess.dto.ChessGameResponseDto;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 한 수를 처리할 때 거치는 도메인 경로별 비용 (국면 x 보드 저장 방식)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChessDomainBenchmark {
+
+    @Param
+    private CorpusPosition position;
+
+    @Param({"MAP", "BITBOARD"})
+    private StorageType storageType;
+
+    private Game game;
+    private Board board;
+    private MovementValidator movementValidator;
+    private MoveGenerator moveGenerator;
+    private StatusCalculator statusCalculator;
+    private String fen;
+
+    @Setup
+    public void setUp() {
+        CheckDetector checkDetector = new CheckDetector();
+        moveGenerator = new MoveGenerator(checkDetector);
+        movementValidator = new MovementValidator(checkDetector, moveGenerator);
+        statusCalculator = new StatusCalculator(
+                new CheckmateDetector(checkDetector, movementValidator),
+                new StalemateDetector(movementValidator, checkDetector),
+                new FiftyMoveDetector(),
+                new RepetitionDetector(),
+                new InsufficientMaterialDetector(),
+                new PositionAnalyzer(checkDetector, moveGenerator)
+        );
+
+        game = position.createGame(storageType);
+        board = game.getBoard();
+        fen = Fen.of(game);
+    }
+
+    @Benchmark
+    public ValidationResult validateMove() {
+        return movementValidator.evaluate(position.getSampleFrom(), position.getSampleTo(), board,
+                position.getTurn());
+    }
+
+    // Board.move와 같은 경로(makeMove)로 두고, 다음 호출을 위해 되돌린다
+    @Benchmark
+    public MoveUndo moveAndUndo() {
+        MoveUndo undo = board.makeMove(position.getSampleFrom(), position.getSampleTo());
+        board.unmakeMove(undo);
+        return undo;
+    }
+
+    @Benchmark
+    public int generateLegalMoves() {
+        return moveGenerator.countLegalMoves(board, position.getTurn());
+    }
+
+    @Benchmark
+    public GameStatus calculateNextStatus() {
+        return statusCalculator.calculateNextStatus(game);
+    }
+
+    @Benchmark
+    public ChessGameResponseDto createResponseDto() {
+        return ChessGameResponseDto.from(game.publishView());
+    }
+
+    @Benchmark
+    public FenPosition parseFen() {
+        return Fen.parse(fen, storageType);
+    }
+
+    @Benchmark
+    public String writeFen() {
+        return Fen.of(game);
+    }
+}
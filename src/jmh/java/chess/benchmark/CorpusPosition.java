@@ -0,0 +1,105 @@
+package chess.benchmark;
+
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.game.GameHistory;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.impls.King;
+import chess.domain.piece.impls.Pawn;
+import chess.domain.piece.impls.Rook;
+import chess.domain.status.GameStatus;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용 대표 국면 모음. 각 국면은 측정할 합법 수 하나(sampleFrom → sampleTo)를 함께 가진다.
+ */
+public enum CorpusPosition {
+
+    // 루이 로페즈, 흰색 차례
+    OPENING(Color.WHITE, "E1", "G1",
+            "E2E4", "E7E5", "G1F3", "B8C6", "F1B5", "A7A6"),
+
+    // 이탈리안 게임, 양쪽 캐슬링 이후 흰색 차례
+    MIDDLEGAME(Color.WHITE, "F3", "G5",
+            "E2E4", "E7E5", "G1F3", "B8C6", "F1C4", "F8C5", "C2C3", "G8F6", "D2D3", "D7D6",
+            "E1G1", "E8G8", "B1D2", "A7A6"),
+
+    // 룩 엔드게임, 흰색 차례
+    ENDGAME(Color.WHITE, "D1", "D7") {
+        @Override
+        protected Board createBoard(StorageType storageType) {
+            return boardOf(storageType,
+                    "G1", new King(Color.WHITE), "D1", new Rook(Color.WHITE),
+                    "F2", new Pawn(Color.WHITE), "G2", new Pawn(Color.WHITE), "H2", new Pawn(Color.WHITE),
+                    "A4", new Pawn(Color.WHITE),
+                    "G8", new King(Color.BLACK), "D8", new Rook(Color.BLACK),
+                    "F7", new Pawn(Color.BLACK), "G7", new Pawn(Color.BLACK), "H7", new Pawn(Color.BLACK),
+                    "B6", new Pawn(Color.BLACK));
+        }
+    },
+
+    // 1.e4 d5 2.Bb5+ 이후 체크를 받은 검은색 차례
+    CHECK(Color.BLACK, "C7", "C6",
+            "E2E4", "D7D5", "F1B5"),
+
+    // 검은색 킹의 합법 수가 하나뿐인 국면
+    NEAR_STALEMATE(Color.BLACK, "A8", "A7") {
+        @Override
+        protected Board createBoard(StorageType storageType) {
+            return boardOf(storageType,
+                    "C7", new King(Color.WHITE), "H6", new Pawn(Color.WHITE),
+                    "A8", new King(Color.BLACK), "H7", new Pawn(Color.BLACK));
+        }
+    };
+
+    private final Color turn;
+    private final Position sampleFrom;
+    private final Position sampleTo;
+    private final String[] moves;
+
+    CorpusPosition(Color turn, String sampleFrom, String sampleTo, String... moves) {
+        this.turn = turn;
+        this.sampleFrom = Position.from(sampleFrom);
+        this.sampleTo = Position.from(sampleTo);
+        this.moves = moves;
+    }
+
+    public Game createGame(StorageType storageType) {
+        Board board = createBoard(storageType);
+        return new Game(1L, board, turn, GameStatus.ONGOING, new GameHistory());
+    }
+
+    // 초기 배치에서 moves를 차례로 둔 보드
+    protected Board createBoard(StorageType storageType) {
+        Board board = new Board(storageType);
+        board.initialize();
+        for (String move : moves) {
+            board.move(Position.from(move.substring(0, 2)), Position.from(move.substring(2, 4)));
+        }
+        return board;
+    }
+
+    protected static Board boardOf(StorageType storageType, Object... placements) {
+        Map<Position, Piece> pieces = new HashMap<>();
+        for (int i = 0; i < placements.length; i += 2) {
+            pieces.put(Position.from((String) placements[i]), (Piece) placements[i + 1]);
+        }
+        return new Board(pieces, storageType);
+    }
+
+    public Color getTurn() {
+        return turn;
+    }
+
+    public Position getSampleFrom() {
+        return sampleFrom;
+    }
+
+    public Position getSampleTo() {
+        return sampleTo;
+    }
+}
@@ -0,0 +1,48 @@
+package chess;
+
+import chess.domain.board.storage.StorageType;
+import chess.domain.move.Move;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.Perft;
+import chess.domain.move.PerftResult;
+import chess.domain.notation.Fen;
+import chess.domain.notation.FenPosition;
+import chess.domain.status.CheckDetector;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * perft 명령행 도구
+ * 사용법: perft <depth> [MAP|BITBOARD] [FEN]
+ * FEN을 생략하면 초기 배치에서 시작한다.
+ */
+public class PerftApplication {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("사용법: perft <depth> [MAP|BITBOARD] [FEN]");
+            System.exit(1);
+        }
+        int depth = Integer.parseInt(args[0]);
+        StorageType storageType = StorageType.MAP;
+        if (args.length > 1) {
+            storageType = StorageType.valueOf(args[1].toUpperCase());
+        }
+
+        String fen = Fen.INITIAL;
+        if (args.length > 2) {
+            fen = String.join(" ", Arrays.copyOfRange(args, 2, args.length));
+        }
+        FenPosition position = Fen.parse(fen, storageType);
+
+        Perft perft = new Perft(new MoveGenerator(new CheckDetector()));
+        PerftResult result = perft.divide(position.board(), position.turn(), depth);
+
+        for (Map.Entry<Move, Long> entry : result.divide().entrySet()) {
+            System.out.printf("%s: %d%n", entry.getKey().toCoordinateNotation(), entry.getValue());
+        }
+        System.out.printf("%nnodes: %d%n", result.nodes());
+        System.out.printf("time: %d ms%n", result.elapsedNanos() / 1_000_000);
+        System.out.printf("nps: %d%n", result.nodesPerSecond());
+    }
+}
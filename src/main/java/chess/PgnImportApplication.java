@@ -0,0 +1,58 @@
+package chess;
+
+import chess.domain.move.MoveGenerator;
+import chess.domain.notation.PgnImportReport;
+import chess.domain.notation.PgnImporter;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import java.nio.file.Path;
+
+/**
+ * PGN 일괄 검증 명령행 도구
+ * 사용법: pgn-import <file> [threads]
+ * 실패한 게임은 표준 오류로, 처리량은 표준 출력으로 내보낸다.
+ */
+public class PgnImportApplication {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("사용법: pgn-import <file> [threads]");
+            System.exit(1);
+        }
+        Path path = Path.of(args[0]);
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 1) {
+            threads = Integer.parseInt(args[1]);
+        }
+
+        CheckDetector checkDetector = new CheckDetector();
+        MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+        MovementValidator movementValidator = new MovementValidator(checkDetector, moveGenerator);
+        StatusCalculator statusCalculator = new StatusCalculator(
+                new CheckmateDetector(checkDetector, movementValidator),
+                new StalemateDetector(movementValidator, checkDetector),
+                new FiftyMoveDetector(),
+                new RepetitionDetector(),
+                new InsufficientMaterialDetector(),
+                new PositionAnalyzer(checkDetector, moveGenerator)
+        );
+        PgnImporter importer = new PgnImporter(movementValidator, statusCalculator, moveGenerator);
+
+        PgnImportReport report = importer.importFile(path, threads, error ->
+                System.err.printf("game %d, ply %d (%s): %s%n",
+                        error.gameNumber(), error.ply(), error.move(), error.message()));
+
+        System.out.printf("games: %d (valid %d, errors %d)%n",
+                report.games(), report.validGames(), report.errorCount());
+        System.out.printf("plies: %d%n", report.plies());
+        System.out.printf("time: %d ms%n", report.elapsedNanos() / 1_000_000);
+        System.out.printf("games/s: %d, plies/s: %d%n", report.gamesPerSecond(), report.pliesPerSecond());
+    }
+}
@@ -0,0 +1,7 @@
+package chess.common.exception;
+
+public class AccessDeniedException extends ChessException {
+    public AccessDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package chess.common.exception;
+
+public class InvalidFenException extends ChessException {
+    public InvalidFenException(String message) {
+        super(message);
+    }
+}
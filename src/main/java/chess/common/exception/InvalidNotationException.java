@@ -0,0 +1,7 @@
+package chess.common.exception;
+
+public class InvalidNotationException extends ChessException {
+    public InvalidNotationException(String message) {
+        super(message);
+    }
+}
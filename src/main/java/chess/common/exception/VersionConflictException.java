@@ -0,0 +1,7 @@
+package chess.common.exception;
+
+public class VersionConflictException extends ChessException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,7 @@ public enum ErrorMessage {
     POSITION_INVALID_LENGTH("대수 기보 표기법은 두 글자로 구성해야 합니다.: %s", true),
     POSITION_INVALID_FILE("대수 기보 표기법의 첫 번째 글자는 A~H 이어야 합니다.: %s", true),
     POSITION_INVALID_RANK("대수 기보 표기법의 두 번째 글자는 1~8 이어야 합니다.: %s", true),
+    POSITION_INVALID_INDEX("Position 인덱스는 0부터 63 사이여야 합니다.: %s", true),
 
     PIECE_INVALID_CREATION_ARGUMENTS("Piece 생성 인자는 null일 수 없습니다."),
     PIECE_NOT_FOUND("기물이 존재하지 않습니다."),
@@ -16,15 +17,32 @@ public enum ErrorMessage {
     RULE_FRIENDLY_FIRE("아군 기물이 있는 위치로 이동할 수 없습니다."),
     RULE_INVALID_PIECE_MOVE("해당 기물의 이동 규칙에 어긋납니다."),
     RULE_PATH_BLOCKED("이동 경로에 장애물이 있어 이동할 수 없습니다."),
+    RULE_INVALID_PROMOTION_TYPE("해당 기물로는 승진할 수 없습니다.: %s", true),
 
     RULE_KING_IN_CHECK_AFTER_MOVE("킹이 체크 상태가 되는 위치로는 이동할 수 없습니다."),
 
     GAME_ALREADY_FINISHED("게임이 이미 종료되었습니다: %s", true),
     GAME_NOT_FOUND("존재하지 않는 게임 ID입니다: %s", true),
+    GAME_VERSION_CONFLICT("다른 요청이 먼저 게임을 바꾸었습니다. (game %s, 예상 버전 %s, 저장된 버전 %s)", true),
     STATE_INVALID_WINNER_COLOR("승리자의 색상이 WHITE 또는 BLACK이 아닙니다."),
 
     NO_HISTORY("기록이 없습니다."),
 
+    FEN_IS_EMPTY("FEN 문자열이 비어 있습니다."),
+    FEN_INVALID_PLACEMENT("FEN의 기물 배치가 올바르지 않습니다.: %s", true),
+    FEN_INVALID_TURN("FEN의 차례는 w 또는 b 이어야 합니다.: %s", true),
+    FEN_INVALID_CASTLING("FEN의 캐슬링 권리 표기가 올바르지 않습니다.: %s", true),
+    FEN_INVALID_EN_PASSANT("FEN의 앙파상 칸 표기가 올바르지 않습니다.: %s", true),
+    FEN_INVALID_COUNTER("FEN의 수 카운터가 올바르지 않습니다.: %s", true),
+    FEN_TOO_MANY_PIECES("FEN에 한 색의 기물이 너무 많습니다.: %s", true),
+
+    SAN_INVALID("SAN 표기가 올바르지 않습니다.: %s", true),
+    SAN_ILLEGAL_MOVE("현재 국면에서 둘 수 없는 수입니다.: %s", true),
+    SAN_AMBIGUOUS("해당 칸으로 움직일 수 있는 기물이 여럿입니다.: %s", true),
+    SAN_UNSUPPORTED_PROMOTION("퀸 이외의 기물로는 승진할 수 없습니다.: %s", true),
+    PGN_INVALID_TAG("PGN 태그 형식이 올바르지 않습니다.: %s", true),
+    PGN_RESULT_MISMATCH("PGN 결과가 게임 상태와 다릅니다.: %s", true),
+
     CASTLING_KING_MOVED("이미 움직인 킹은 캐슬링할 수 없습니다."),
     CASTLING_IN_CHECK("현재 체크 상태이므로 캐슬링할 수 없습니다."),
     CASTLING_ROOK_NOT_FOUND("캐슬링할 수 있는 룩이 없습니다."),
@@ -33,6 +51,16 @@ public enum ErrorMessage {
     CASTLING_PATH_ATTACKED("이동 경로가 공격받고 있어 캐슬링할 수 없습니다."),
 
     REPOSITORY_ID_INJECTION_FAILED("Game ID 주입 실패"),
+    JOURNAL_IO_FAILED("저널 파일을 읽거나 쓸 수 없습니다.: %s", true),
+    JOURNAL_FULL("저널 파일이 최대 크기(2GB)에 도달했습니다."),
+    JOURNAL_INVALID_EVENT("저널 이벤트 형식이 올바르지 않습니다.: %s", true),
+    JOURNAL_INVALID_SNAPSHOT("스냅숏 파일이 손상되었습니다.: %s", true),
+    JOURNAL_REPLAY_FAILED("저널을 재생할 수 없습니다. (game %s): %s", true),
+    JOURNAL_VERSION_MISMATCH("저널에 남길 변경이 게임 버전과 맞지 않습니다. (game %s, 저널 버전 %s, 변경 %s건, 게임 버전 %s)", true),
+    WRITE_BEHIND_CLOSED("저장소가 닫혀 게임을 저장할 수 없습니다."),
+    WRITE_BEHIND_CLOSE_FAILED("감싼 저장소를 닫지 못했습니다.: %s", true),
+
+    EXPORT_ACCESS_DENIED("게임 내보내기는 관리자만 할 수 있습니다."),
 
     PLAYER_INVALID_TURN("당신의 턴이 아닙니다: %s턴", true),
     PLAYER_CAN_NOT_UNDO("자신의 수만 무를 수 있습니다.");
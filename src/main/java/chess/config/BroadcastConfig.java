@@ -0,0 +1,34 @@
+package chess.config;
+
+import chess.service.GameBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 게임 방송을 요청 스레드 밖의 worker로 넘긴다 (GameBroadcaster 참고)
+ */
+@Configuration
+public class BroadcastConfig {
+
+    // 이미 JSON으로 만든 바이트를 보내므로 메시지 변환기를 거치지 않게 Message를 직접 만든다.
+    // 종료할 때 Spring이 close()를 호출해 남은 메시지를 보낸다
+    @Bean
+    public GameBroadcaster gameBroadcaster(
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${chess.broadcast.workers:4}") int workers,
+            @Value("${chess.broadcast.capacity:8192}") int capacity
+    ) {
+        return new GameBroadcaster(
+                (destination, payload) -> messagingTemplate.send(destination, MessageBuilder.withPayload(payload)
+                        .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                        .build()),
+                workers,
+                capacity
+        );
+    }
+}
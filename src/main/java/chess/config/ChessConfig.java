@@ -1,13 +1,19 @@
 package chess.config;
 
+import chess.domain.move.MoveGenerator;
+import chess.domain.notation.PgnImporter;
+import chess.domain.notation.PlayerPseudonyms;
 import chess.domain.status.CheckDetector;
 import chess.domain.status.CheckmateDetector;
 import chess.domain.status.FiftyMoveDetector;
 import chess.domain.status.InsufficientMaterialDetector;
 import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
 import chess.domain.status.RepetitionDetector;
 import chess.domain.status.StalemateDetector;
 import chess.domain.status.StatusCalculator;
+import java.nio.charset.StandardCharsets;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,8 +26,13 @@ public class ChessConfig {
     }
 
     @Bean
-    public MovementValidator movementValidator(CheckDetector checkDetector) {
-        return new MovementValidator(checkDetector);
+    public MoveGenerator moveGenerator(CheckDetector checkDetector) {
+        return new MoveGenerator(checkDetector);
+    }
+
+    @Bean
+    public MovementValidator movementValidator(CheckDetector checkDetector, MoveGenerator moveGenerator) {
+        return new MovementValidator(checkDetector, moveGenerator);
     }
 
     @Bean
@@ -49,20 +60,45 @@ public class ChessConfig {
         return new InsufficientMaterialDetector();
     }
 
+    @Bean
+    public PositionAnalyzer positionAnalyzer(CheckDetector checkDetector, MoveGenerator moveGenerator) {
+        return new PositionAnalyzer(checkDetector, moveGenerator);
+    }
+
     @Bean
     public StatusCalculator statusCalculator(
             CheckmateDetector checkmateDetector,
             StalemateDetector stalemateDetector,
             FiftyMoveDetector fiftyMoveDetector,
             RepetitionDetector repetitionDetector,
-            InsufficientMaterialDetector insufficientMaterialDetector
+            InsufficientMaterialDetector insufficientMaterialDetector,
+            PositionAnalyzer positionAnalyzer
     ) {
         return new StatusCalculator(
                 checkmateDetector,
                 stalemateDetector,
                 fiftyMoveDetector,
                 repetitionDetector,
-                insufficientMaterialDetector
+                insufficientMaterialDetector,
+                positionAnalyzer
         );
     }
-}
\ No newline at end of file
+
+    // key가 비어 있으면 실행할 때마다 새 key를 만들므로, 다시 시작하면 같은 플레이어의 가명이 바뀐다
+    @Bean
+    public PlayerPseudonyms playerPseudonyms(@Value("${chess.export.pseudonym-key:}") String key) {
+        if (key.isBlank()) {
+            return PlayerPseudonyms.random();
+        }
+        return new PlayerPseudonyms(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Bean
+    public PgnImporter pgnImporter(
+            MovementValidator movementValidator,
+            StatusCalculator statusCalculator,
+            MoveGenerator moveGenerator
+    ) {
+        return new PgnImporter(movementValidator, statusCalculator, moveGenerator);
+    }
+}
@@ -0,0 +1,33 @@
+package chess.config;
+
+import chess.domain.status.MovementValidator;
+import chess.domain.status.StatusCalculator;
+import chess.repository.GameRepository;
+import chess.repository.impls.JournalGameRepository;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * chess.repository=journal 일 때 게임을 저널 파일에 남기는 저장소를 쓴다
+ */
+@Configuration
+@ConditionalOnProperty(name = "chess.repository", havingValue = "journal")
+public class JournalConfig {
+
+    // 종료할 때 Spring이 close()를 호출해 스냅숏 스케줄을 멈추고 남은 이벤트를 동기화한다
+    @Bean
+    public GameRepository gameRepository(
+            @Value("${chess.journal.dir:data/journal}") String directory,
+            @Value("${chess.journal.flush-interval-ms:10}") long flushIntervalMillis,
+            @Value("${chess.journal.snapshot-interval-ms:300000}") long snapshotIntervalMillis,
+            @Value("${chess.journal.archive:false}") boolean archive,
+            MovementValidator movementValidator,
+            StatusCalculator statusCalculator
+    ) {
+        return new JournalGameRepository(Path.of(directory), flushIntervalMillis, snapshotIntervalMillis, archive,
+                movementValidator, statusCalculator);
+    }
+}
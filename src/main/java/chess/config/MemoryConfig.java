@@ -0,0 +1,32 @@
+package chess.config;
+
+import chess.repository.GameRepository;
+import chess.repository.impls.HibernationStore;
+import chess.repository.impls.InMemoryGameRepository;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * chess.repository=memory(기본값) 일 때 게임을 메모리에 두는 저장소를 쓴다.
+ * chess.hibernation.enabled=true 이면 오래 쓰지 않은 게임을 디스크로 내린다
+ */
+@Configuration
+@ConditionalOnProperty(name = "chess.repository", havingValue = "memory", matchIfMissing = true)
+public class MemoryConfig {
+
+    @Bean
+    public GameRepository gameRepository(
+            @Value("${chess.hibernation.enabled:false}") boolean hibernationEnabled,
+            @Value("${chess.hibernation.dir:data/hibernation}") String directory,
+            @Value("${chess.hibernation.idle-ms:600000}") long idleMillis,
+            @Value("${chess.hibernation.max-resident:100000}") int maxResident
+    ) {
+        if (!hibernationEnabled) {
+            return new InMemoryGameRepository();
+        }
+        return new InMemoryGameRepository(new HibernationStore(Path.of(directory)), idleMillis, maxResident);
+    }
+}
@@ -0,0 +1,35 @@
+package chess.config;
+
+import chess.repository.GameRepository;
+import chess.repository.impls.WriteBehindGameRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * chess.repository.write-behind.enabled=true 이면 어떤 GameRepository든 WriteBehindGameRepository로 감싼다
+ */
+@Configuration
+@ConditionalOnProperty(name = "chess.repository.write-behind.enabled", havingValue = "true")
+public class WriteBehindConfig {
+
+    // 종료할 때 Spring이 감싼 저장소의 close()를 호출해 남은 게임을 쓰고 원래 저장소를 닫는다
+    @Bean
+    public static BeanPostProcessor writeBehindGameRepositoryPostProcessor(
+            @Value("${chess.repository.write-behind.batch-size:128}") int batchSize,
+            @Value("${chess.repository.write-behind.capacity:4096}") int capacity,
+            @Value("${chess.repository.write-behind.flush-interval-ms:50}") long flushIntervalMillis
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof GameRepository repository && !(bean instanceof WriteBehindGameRepository)) {
+                    return new WriteBehindGameRepository(repository, batchSize, capacity, flushIntervalMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,28 +1,43 @@
 package chess.controller;
 
+import static chess.common.message.ErrorMessage.EXPORT_ACCESS_DENIED;
+
+import chess.common.exception.AccessDeniedException;
 import chess.dto.ChessGameResponseDto;
+import chess.domain.notation.GameExportFormat;
 import chess.dto.MoveRequestDto;
+import chess.service.GameExportFilter;
+import chess.service.GameExportService;
 import chess.service.GameService;
 import jakarta.servlet.http.HttpSession;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/games")
 public class ChessController {
 
     private final GameService gameService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final GameExportService gameExportService;
+    private final byte[] exportAdminToken;
 
-    public ChessController(GameService gameService, SimpMessagingTemplate messagingTemplate) {
+    public ChessController(GameService gameService, GameExportService gameExportService,
+                           @Value("${chess.export.admin-token:}") String exportAdminToken) {
         this.gameService = gameService;
-        this.messagingTemplate = messagingTemplate;
+        this.gameExportService = gameExportService;
+        this.exportAdminToken = exportAdminToken.getBytes(StandardCharsets.UTF_8);
     }
 
     @PostMapping
@@ -34,10 +49,26 @@ public class ChessController {
     @PostMapping("/{id}/join")
     public ResponseEntity<ChessGameResponseDto> joinGame(@PathVariable Long id, HttpSession session) {
         ChessGameResponseDto response = gameService.joinGame(id, session.getId());
+        return ResponseEntity.ok(response);
+    }
 
-        messagingTemplate.convertAndSend("/topic/games/" + id, response);
+    // 예: GET /games/export?format=NDJSON&finished=true&mine=true (X-Admin-Token 헤더 필요)
+    // 관리자만 부를 수 있고, mine이면 요청한 세션이 참가한 게임만 내보낸다
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportGames(
+            @RequestHeader(value = "X-Admin-Token", required = false) String adminToken,
+            @RequestParam(defaultValue = "PGN") GameExportFormat format,
+            @RequestParam(defaultValue = "false") boolean finished,
+            @RequestParam(defaultValue = "false") boolean mine,
+            HttpSession session
+    ) {
+        validateExportAccess(adminToken);
+        GameExportFilter filter = new GameExportFilter(finished, mine ? session.getId() : null);
+        StreamingResponseBody body = out -> gameExportService.export(filter, format, out);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -53,18 +84,20 @@ public class ChessController {
             HttpSession session
     ) {
         ChessGameResponseDto response = gameService.move(id, moveRequest, session.getId());
-
-        messagingTemplate.convertAndSend("/topic/games/" + id, response);
-
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/{id}/undo")
     public ResponseEntity<ChessGameResponseDto> undo(@PathVariable Long id, HttpSession session) {
         ChessGameResponseDto response = gameService.undo(id, session.getId());
-
-        messagingTemplate.convertAndSend("/topic/games/" + id, response);
-
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // 토큰을 설정하지 않았으면 아무도 내보낼 수 없다. 비교 시간으로 토큰을 알아낼 수 없게 MessageDigest.isEqual로 비교한다
+    private void validateExportAccess(String adminToken) {
+        if (exportAdminToken.length == 0 || adminToken == null
+                || !MessageDigest.isEqual(exportAdminToken, adminToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new AccessDeniedException(EXPORT_ACCESS_DENIED.getMessage());
+        }
+    }
+}
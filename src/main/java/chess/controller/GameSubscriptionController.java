@@ -0,0 +1,26 @@
+package chess.controller;
+
+import chess.dto.ChessGameResponseDto;
+import chess.service.GameService;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * /topic/games/{id}는 바뀐 칸만 보내므로, 클라이언트는 구독을 시작할 때와 버전을 놓쳤을 때
+ * /app/games/{id}를 구독해 현재 게임 전체를 자기에게만 한 번 받는다
+ */
+@Controller
+public class GameSubscriptionController {
+
+    private final GameService gameService;
+
+    public GameSubscriptionController(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    @SubscribeMapping("/games/{id}")
+    public ChessGameResponseDto subscribe(@DestinationVariable Long id) {
+        return gameService.load(id);
+    }
+}
@@ -0,0 +1,66 @@
+package chess.domain.board;
+
+/**
+ * 64비트 마스크 한 비트가 한 칸(Position.index())을 나타내는 비트보드 연산 모음
+ */
+public final class Bitboards {
+
+    public static final long EMPTY = 0L;
+
+    private static final int SIZE = 8;
+    private static final int SQUARES = SIZE * SIZE;
+
+    private static final long[][] BETWEEN = new long[SQUARES][SQUARES];
+
+    static {
+        for (int from = 0; from < SQUARES; from++) {
+            for (int to = 0; to < SQUARES; to++) {
+                BETWEEN[from][to] = computeBetween(from, to);
+            }
+        }
+    }
+
+    private Bitboards() {
+    }
+
+    public static long bit(int index) {
+        return 1L << index;
+    }
+
+    public static long bit(Position position) {
+        return bit(position.index());
+    }
+
+    public static boolean contains(long mask, int index) {
+        return (mask & bit(index)) != 0;
+    }
+
+    /**
+     * 두 칸이 같은 직선/대각선 위에 있으면 사이 칸들의 마스크, 아니면 EMPTY
+     */
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long between(Position from, Position to) {
+        return between(from.index(), to.index());
+    }
+
+    private static long computeBetween(int from, int to) {
+        int xDiff = to % SIZE - from % SIZE;
+        int yDiff = to / SIZE - from / SIZE;
+
+        boolean isStraight = (xDiff == 0) != (yDiff == 0);
+        boolean isDiagonal = Math.abs(xDiff) == Math.abs(yDiff) && xDiff != 0;
+        if (!isStraight && !isDiagonal) {
+            return EMPTY;
+        }
+
+        int step = Integer.compare(yDiff, 0) * SIZE + Integer.compare(xDiff, 0);
+        long mask = EMPTY;
+        for (int index = from + step; index != to; index += step) {
+            mask |= bit(index);
+        }
+        return mask;
+    }
+}
@@ -3,16 +3,20 @@ package chess.domain.board;
 import static chess.common.message.ErrorMessage.PIECE_NOT_FOUND;
 
 import chess.common.exception.PieceNotFoundException;
+import chess.domain.board.storage.PieceStorage;
+import chess.domain.board.storage.StorageType;
 import chess.domain.factory.PieceFactory;
 import chess.domain.factory.impls.BlackPieceFactory;
 import chess.domain.factory.impls.WhitePieceFactory;
 import chess.domain.game.BoardSnapshot;
+import chess.domain.move.PackedMove;
 import chess.domain.piece.Color;
 import chess.domain.piece.Piece;
 import chess.domain.piece.Type;
+import chess.domain.piece.impls.Bishop;
+import chess.domain.piece.impls.Knight;
 import chess.domain.piece.impls.Queen;
-import java.util.Collections;
-import java.util.HashMap;
+import chess.domain.piece.impls.Rook;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,31 +24,57 @@ import java.util.stream.IntStream;
 
 public class Board {
 
-    private final Map<Position, Piece> pieces;
+    private final PieceStorage pieces;
+    private final PieceLists pieceLists = new PieceLists();
     private Position enPassantTarget;
 
+    // 기물 배치, 캐슬링 권리, 앙파상 파일을 담은 Zobrist 해시. 차례는 GameHistory에서 섞는다
+    private long zobristKey;
+    private int castlingRights;
+
     public Board(Map<Position, Piece> initialPieces) {
-        this.pieces = new HashMap<>(initialPieces);
-        enPassantTarget = null;
+        this(initialPieces, StorageType.MAP);
+    }
+
+    public Board(Map<Position, Piece> initialPieces, StorageType storageType) {
+        this(initialPieces, storageType, null);
+    }
+
+    /**
+     * 직전 수가 폰의 두 칸 전진이었던 국면을 만들 때 enPassantTarget을 함께 지정한다 (FEN 불러오기 등)
+     */
+    public Board(Map<Position, Piece> initialPieces, StorageType storageType, Position enPassantTarget) {
+        this.pieces = storageType.create();
+        initialPieces.forEach((position, piece) -> placePiece(piece, position));
+        setEnPassantTarget(enPassantTarget);
+        updateCastlingRights();
     }
 
     public Board() {
-        this(new HashMap<>());
+        this(StorageType.MAP);
+    }
+
+    public Board(StorageType storageType) {
+        this(Map.of(), storageType);
     }
 
     public Board(Board board) {
-        this.pieces = new HashMap<>(board.pieces);
+        this.pieces = board.pieces.copy();
+        this.pieces.asMap().forEach(pieceLists::add);
         this.enPassantTarget = board.enPassantTarget;
+        this.zobristKey = board.zobristKey;
+        this.castlingRights = board.castlingRights;
     }
 
     public void initialize() {
-        pieces.clear();
+        clearPieces();
 
         PieceFactory whiteFactory = new WhitePieceFactory();
         PieceFactory blackFactory = new BlackPieceFactory();
 
         placePieces(whiteFactory, Color.WHITE);
         placePieces(blackFactory, Color.BLACK);
+        updateCastlingRights();
     }
 
     private void placePieces(PieceFactory factory, Color color) {
@@ -68,101 +98,209 @@ public class Board {
         Piece piece = getPiece(from);
 
         removePiece(from);
-        placePiece(piece.afterMove(), to);
+        placePiece(afterMove(piece), to);
+    }
+
+    // 이미 움직인 기물은 불변이므로 새로 만들지 않고 그대로 사용한다
+    private Piece afterMove(Piece piece) {
+        if (piece.isMoved()) {
+            return piece;
+        }
+        return piece.afterMove();
     }
 
     public void move(Position from, Position to) {
+        makeMove(from, to);
+    }
+
+    /**
+     * 보드를 복사하지 않고 이동을 적용한 뒤, unmakeMove로 되돌릴 수 있는 기록을 반환
+     */
+    public MoveUndo makeMove(Position from, Position to) {
+        Piece piece = findPiece(from);
+
+        if (isCastling(from, to, piece)) {
+            return makeCastling(from, to, piece);
+        }
+        if (isEnPassant(to, piece)) {
+            return makeEnPassant(from, to, piece);
+        }
+        return makeNormalMove(from, to, piece, Type.QUEEN);
+    }
+
+    /**
+     * PackedMove로 인코딩된 수를 적용한다. 종류(캐슬링, 앙파상, 승진 기물)는 다시 판단하지 않고 플래그를 따른다.
+     */
+    public MoveUndo makeMove(short move) {
+        Position from = PackedMove.from(move);
+        Position to = PackedMove.to(move);
+        Piece piece = findPiece(from);
+
+        return switch (PackedMove.type(move)) {
+            case CASTLING -> makeCastling(from, to, piece);
+            case EN_PASSANT -> makeEnPassant(from, to, piece);
+            case PROMOTION -> makeNormalMove(from, to, piece, PackedMove.promotionType(move));
+            case NORMAL, DOUBLE_PAWN_PUSH -> makeNormalMove(from, to, piece, Type.QUEEN);
+        };
+    }
+
+    private Piece findPiece(Position from) {
         Piece piece = getPiece(from);
         if (piece == null) {
             throw new PieceNotFoundException(PIECE_NOT_FOUND.getMessage());
         }
+        return piece;
+    }
 
-        if (isCastling(from, to, piece)) {
-            castling(from, to);
-            return;
+    private MoveUndo makeCastling(Position from, Position to, Piece king) {
+        Position previousEnPassantTarget = enPassantTarget;
+        Piece rook = castling(from, to);
+        setEnPassantTarget(null);
+        updateCastlingRights();
+        return new MoveUndo(from, to, king, null, null, rook, false, previousEnPassantTarget);
+    }
+
+    private MoveUndo makeEnPassant(Position from, Position to, Piece pawn) {
+        Position previousEnPassantTarget = enPassantTarget;
+        Position capturedPosition = Position.of(to.x(), from.y());
+        Piece capturedPawn = enPassant(from, to);
+        setEnPassantTarget(null);
+        return new MoveUndo(from, to, pawn, capturedPawn, capturedPosition, null, false, previousEnPassantTarget);
+    }
+
+    private MoveUndo makeNormalMove(Position from, Position to, Piece piece, Type promotionType) {
+        Position previousEnPassantTarget = enPassantTarget;
+        Piece capturedPiece = getPiece(to);
+        movePiece(from, to);
+        boolean isPromotion = updateAfterMove(from, to, piece, promotionType);
+        updateCastlingRights();
+        return new MoveUndo(from, to, piece, capturedPiece, to, null, isPromotion, previousEnPassantTarget);
+    }
+
+    public void unmakeMove(MoveUndo undo) {
+        removePiece(undo.to());
+        placePiece(undo.movedPiece(), undo.from());
+
+        if (undo.capturedPiece() != null) {
+            placePiece(undo.capturedPiece(), undo.capturedPosition());
         }
 
-        if (isEnPassant(to, piece)) {
-            enPassant(from, to);
-            return;
+        if (undo.isCastling()) {
+            removePiece(castlingRookTo(undo.from(), undo.to()));
+            placePiece(undo.castlingRook(), castlingRookFrom(undo.from(), undo.to()));
         }
 
-        movePiece(from, to);
-        updateAfterMove(from, to, piece);
+        setEnPassantTarget(undo.previousEnPassantTarget());
+        updateCastlingRights();
     }
 
-    private void updateAfterMove(Position from, Position to, Piece piece) {
+    private boolean updateAfterMove(Position from, Position to, Piece piece, Type promotionType) {
         updateEnPassantTarget(piece, from, to);
         if (isPromotion(to, piece)) {
-            promotion(to, piece.getColor());
+            promotion(to, piece.getColor(), promotionType);
+            return true;
         }
+        return false;
     }
 
     private boolean isCastling(Position from, Position to, Piece piece) {
         return piece.getType() == Type.KING && Math.abs(from.x() - to.x()) == 2;
     }
 
-    private void castling(Position kingFrom, Position kingTo) {
-        int direction;
-        Position rookFrom, rookTo;
+    private Piece castling(Position kingFrom, Position kingTo) {
+        Position rookFrom = castlingRookFrom(kingFrom, kingTo);
+        Piece rook = getPiece(rookFrom);
 
+        movePiece(kingFrom, kingTo);
+        movePiece(rookFrom, castlingRookTo(kingFrom, kingTo));
+        return rook;
+    }
+
+    private Position castlingRookFrom(Position kingFrom, Position kingTo) {
         if (kingTo.x() - kingFrom.x() > 0) {
-            direction = 1;
-            rookFrom = Position.of(7, kingFrom.y());
-            rookTo = Position.of(kingFrom.x() + direction, kingFrom.y());
-        } else {
-            direction = -1;
-            rookFrom = Position.of(0, kingFrom.y());
-            rookTo = Position.of(kingFrom.x() + direction, kingFrom.y());
+            return Position.of(7, kingFrom.y());
         }
+        return Position.of(0, kingFrom.y());
+    }
 
-        movePiece(kingFrom, kingTo);
-        movePiece(rookFrom, rookTo);
+    private Position castlingRookTo(Position kingFrom, Position kingTo) {
+        int direction = Integer.compare(kingTo.x() - kingFrom.x(), 0);
+        return Position.of(kingFrom.x() + direction, kingFrom.y());
     }
 
     private boolean isEnPassant(Position to, Piece piece) {
         return piece.getType() == Type.PAWN && to.equals(enPassantTarget);
     }
 
-    private void enPassant(Position from, Position to) {
+    private Piece enPassant(Position from, Position to) {
         movePiece(from, to);
 
         Position capturedPawnPos = Position.of(to.x(), from.y());
+        Piece capturedPawn = getPiece(capturedPawnPos);
         removePiece(capturedPawnPos);
+        return capturedPawn;
     }
 
     private void updateEnPassantTarget(Piece piece, Position from, Position to) {
         if (piece.getType() == Type.PAWN && Math.abs(from.y() - to.y()) == 2) {
             int middleY = (from.y() + to.y()) / 2;
-            this.enPassantTarget = Position.of(from.x(), middleY);
+            setEnPassantTarget(Position.of(from.x(), middleY));
             return;
         }
-        this.enPassantTarget = null;
+        setEnPassantTarget(null);
+    }
+
+    private void setEnPassantTarget(Position target) {
+        zobristKey ^= Zobrist.enPassant(enPassantTarget) ^ Zobrist.enPassant(target);
+        this.enPassantTarget = target;
+    }
+
+    // 킹/룩 시작 칸 여섯 곳만 확인하므로 이동마다 호출해도 상수 시간
+    private void updateCastlingRights() {
+        int rights = CastlingRight.of(this);
+        zobristKey ^= Zobrist.castling(castlingRights) ^ Zobrist.castling(rights);
+        this.castlingRights = rights;
     }
 
     private boolean isPromotion(Position to, Piece piece) {
         return piece.getType() == Type.PAWN && piece.getColor().getPawnPromotionRank() == to.y();
     }
 
-    private void promotion(Position to, Color color) {
+    private void promotion(Position to, Color color, Type promotionType) {
         removePiece(to);
-        pieces.put(to, new Queen(color, true));
+        placePiece(createPromotedPiece(color, promotionType), to);
     }
 
-    public Board movePieceVirtually(Position from, Position to) {
-        Board virtualBoard = new Board(this.pieces);
-
-        virtualBoard.movePiece(from, to);
-
-        return virtualBoard;
+    private Piece createPromotedPiece(Color color, Type promotionType) {
+        return switch (promotionType) {
+            case KNIGHT -> new Knight(color).afterMove();
+            case BISHOP -> new Bishop(color).afterMove();
+            case ROOK -> new Rook(color).afterMove();
+            default -> new Queen(color, true);
+        };
     }
 
     private void placePiece(Piece piece, Position position) {
+        removePiece(position);
         pieces.put(position, piece);
+        pieceLists.add(position, piece);
+        zobristKey ^= Zobrist.piece(piece, position.index());
     }
 
     private void removePiece(Position position) {
+        Piece piece = pieces.get(position);
+        if (piece == null) {
+            return;
+        }
         pieces.remove(position);
+        pieceLists.remove(position, piece);
+        zobristKey ^= Zobrist.piece(piece, position.index());
+    }
+
+    private void clearPieces() {
+        pieces.clear();
+        pieceLists.clear();
+        zobristKey = Zobrist.castling(castlingRights) ^ Zobrist.enPassant(enPassantTarget);
     }
 
     public Piece getPiece(Position position) {
@@ -170,28 +308,7 @@ public class Board {
     }
 
     public boolean hasObstacleInPath(Position from, Position to) {
-        int xDiff = to.x() - from.x();
-        int yDiff = to.y() - from.y();
-
-        boolean isStraight = (xDiff == 0 && yDiff != 0) || (xDiff != 0 && yDiff == 0);
-        boolean isDiagonal = (Math.abs(xDiff) == Math.abs(yDiff) && xDiff != 0);
-
-        if (!isStraight && !isDiagonal) {
-            return false;
-        }
-
-        int stepX = Integer.compare(xDiff, 0);
-        int stepY = Integer.compare(yDiff, 0);
-
-        int distance = Math.max(Math.abs(xDiff), Math.abs(yDiff));
-
-        return IntStream.range(1, distance)
-                .mapToObj(i -> {
-                    int currentX = from.x() + (i * stepX);
-                    int currentY = from.y() + (i * stepY);
-                    return Position.of(currentX, currentY);
-                })
-                .anyMatch(pieces::containsKey);
+        return pieces.hasPieceBetween(from, to);
     }
 
     public List<Position> findPositions(Color color, Type type) {
@@ -202,28 +319,48 @@ public class Board {
     }
 
     public Position findKingPosition(Color color) {
-        return findPositions(color, Type.KING).stream()
-                .findFirst()
-                .orElse(null);
+        return pieceLists.kingPosition(color);
+    }
+
+    public int getPieceCount(Color color, Type type) {
+        return pieceLists.count(color, type);
+    }
+
+    public MaterialSignature getMaterialSignature() {
+        return pieceLists.material();
     }
 
     public void restore(BoardSnapshot snapshot) {
-        this.pieces.clear();
-        this.pieces.putAll(snapshot.pieces());
-        this.enPassantTarget = snapshot.enPassantTarget();
+        clearPieces();
+        snapshot.pieces().forEach((position, piece) -> placePiece(piece, position));
+        setEnPassantTarget(snapshot.enPassantTarget());
+        updateCastlingRights();
     }
 
     public Map<Position, Piece> getPieces() {
-        return Collections.unmodifiableMap(pieces);
+        return pieces.asMap();
     }
 
+    /**
+     * 보드와 함께 바뀌는 읽기 전용 뷰. 순회하면서 보드를 바꾸려면 먼저 복사해야 한다.
+     */
     public Map<Position, Piece> getPiecesByTeam(Color color) {
-        return pieces.entrySet().stream()
-                .filter(entry -> entry.getValue().getColor() == color)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return pieceLists.byColor(color);
+    }
+
+    public StorageType getStorageType() {
+        return pieces.getType();
     }
 
     public Position getEnPassantTarget() {
         return enPassantTarget;
     }
+
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package chess.domain.board;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+
+/**
+ * 캐슬링 권리. 킹과 해당 룩이 시작 칸에서 움직이지 않았으면 권리가 남아 있다.
+ */
+public enum CastlingRight {
+    WHITE_KING_SIDE(Color.WHITE, 7),
+    WHITE_QUEEN_SIDE(Color.WHITE, 0),
+    BLACK_KING_SIDE(Color.BLACK, 7),
+    BLACK_QUEEN_SIDE(Color.BLACK, 0);
+
+    private static final int KING_START_X = 4;
+
+    private final Color color;
+    private final int rookX;
+
+    CastlingRight(Color color, int rookX) {
+        this.color = color;
+        this.rookX = rookX;
+    }
+
+    public static int of(Board board) {
+        int rights = 0;
+        for (CastlingRight right : values()) {
+            if (right.isAvailable(board)) {
+                rights |= right.mask();
+            }
+        }
+        return rights;
+    }
+
+    public boolean isAvailable(Board board) {
+        int rank = color.getPieceStartRank();
+        return isUnmoved(board.getPiece(Position.of(KING_START_X, rank)), Type.KING)
+                && isUnmoved(board.getPiece(Position.of(rookX, rank)), Type.ROOK);
+    }
+
+    private boolean isUnmoved(Piece piece, Type type) {
+        return piece != null && piece.getColor() == color && piece.getType() == type && !piece.isMoved();
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public int getRookX() {
+        return rookX;
+    }
+}
@@ -0,0 +1,74 @@
+package chess.domain.board;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+
+/**
+ * 색상/종류별 기물 수를 4비트씩 묶은 값. 비숍은 밝은 칸과 어두운 칸을 따로 센다.
+ * Board가 기물을 놓고 뺄 때마다 delta를 더하고 빼므로 조회에 보드 순회가 필요 없다.
+ */
+public record MaterialSignature(long key) {
+
+    public static final MaterialSignature EMPTY = new MaterialSignature(0L);
+
+    private static final int BITS = 4;
+    private static final long MASK = (1L << BITS) - 1;
+    /**
+     * 한 칸에 셀 수 있는 최대 기물 수. 한 색의 킹이 아닌 기물이 이보다 많으면 승진으로 넘칠 수 있다
+     */
+    public static final int MAX_COUNT = (int) MASK;
+    private static final int TYPE_COUNT = Type.values().length;
+    // 어두운 칸 비숍은 Type.BISHOP 자리를, 밝은 칸 비숍은 마지막 자리를 쓴다
+    private static final int LIGHT_BISHOP_SLOT = TYPE_COUNT;
+    private static final int SLOT_COUNT = TYPE_COUNT + 1;
+
+    /**
+     * position에 piece를 놓을 때 key에 더할 값
+     */
+    public static long delta(Piece piece, Position position) {
+        return 1L << shift(piece.getColor(), slot(piece.getType(), position));
+    }
+
+    public MaterialSignature add(Piece piece, Position position) {
+        return new MaterialSignature(key + delta(piece, position));
+    }
+
+    public int count(Color color, Type type) {
+        if (type == Type.BISHOP) {
+            return bishopCount(color, true) + bishopCount(color, false);
+        }
+        return slotCount(color, type.ordinal());
+    }
+
+    public int bishopCount(Color color, boolean lightSquare) {
+        return slotCount(color, lightSquare ? LIGHT_BISHOP_SLOT : Type.BISHOP.ordinal());
+    }
+
+    public int total(Color color) {
+        int total = 0;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            total += slotCount(color, slot);
+        }
+        return total;
+    }
+
+    public int minorCount(Color color) {
+        return count(color, Type.BISHOP) + count(color, Type.KNIGHT);
+    }
+
+    private int slotCount(Color color, int slot) {
+        return (int) ((key >>> shift(color, slot)) & MASK);
+    }
+
+    private static int slot(Type type, Position position) {
+        if (type == Type.BISHOP && position.isLightSquare()) {
+            return LIGHT_BISHOP_SLOT;
+        }
+        return type.ordinal();
+    }
+
+    private static int shift(Color color, int slot) {
+        return (color.ordinal() * SLOT_COUNT + slot) * BITS;
+    }
+}
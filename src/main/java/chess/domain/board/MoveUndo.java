@@ -0,0 +1,31 @@
+package chess.domain.board;
+
+import chess.domain.piece.Piece;
+
+/**
+ * Board.makeMove로 적용한 이동을 되돌리는 데 필요한 최소한의 정보
+ * capturedPosition은 앙파상일 때만 to와 다르다.
+ */
+public record MoveUndo(
+        Position from,
+        Position to,
+        Piece movedPiece,
+        Piece capturedPiece,
+        Position capturedPosition,
+        Piece castlingRook,
+        boolean isPromotion,
+        Position previousEnPassantTarget
+) {
+
+    public boolean isCastling() {
+        return castlingRook != null;
+    }
+
+    public boolean isCapture() {
+        return capturedPiece != null;
+    }
+
+    public boolean isEnPassant() {
+        return capturedPiece != null && !capturedPosition.equals(to);
+    }
+}
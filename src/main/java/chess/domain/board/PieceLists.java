@@ -0,0 +1,86 @@
+package chess.domain.board;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Board가 기물을 놓고 뺄 때마다 함께 갱신하는 색상별 기물 목록, 기물 구성(MaterialSignature), 킹 위치
+ * 조회는 모두 상수 시간이며 새 컬렉션을 만들지 않는다.
+ */
+class PieceLists {
+
+    private final Map<Color, Map<Position, Piece>> piecesByColor = new EnumMap<>(Color.class);
+    private final Map<Color, Map<Position, Piece>> views = new EnumMap<>(Color.class);
+    private long material;
+    private final Position[] kingPositions;
+
+    PieceLists() {
+        for (Color color : Color.values()) {
+            Map<Position, Piece> pieces = new HashMap<>();
+            piecesByColor.put(color, pieces);
+            views.put(color, Collections.unmodifiableMap(pieces));
+        }
+        this.kingPositions = new Position[Color.values().length];
+    }
+
+    void add(Position position, Piece piece) {
+        int color = piece.getColor().ordinal();
+        piecesByColor.get(piece.getColor()).put(position, piece);
+        material += MaterialSignature.delta(piece, position);
+        if (piece.getType() == Type.KING) {
+            kingPositions[color] = position;
+        }
+    }
+
+    void remove(Position position, Piece piece) {
+        int color = piece.getColor().ordinal();
+        piecesByColor.get(piece.getColor()).remove(position);
+        material -= MaterialSignature.delta(piece, position);
+        if (piece.getType() == Type.KING && position.equals(kingPositions[color])) {
+            kingPositions[color] = findOtherKing(piece.getColor());
+        }
+    }
+
+    // 킹이 둘 이상인 테스트용 배치에서만 다시 찾는다
+    private Position findOtherKing(Color color) {
+        if (count(color, Type.KING) == 0) {
+            return null;
+        }
+        for (Map.Entry<Position, Piece> entry : piecesByColor.get(color).entrySet()) {
+            if (entry.getValue().getType() == Type.KING) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    void clear() {
+        for (Map<Position, Piece> pieces : piecesByColor.values()) {
+            pieces.clear();
+        }
+        material = 0L;
+        Arrays.fill(kingPositions, null);
+    }
+
+    Map<Position, Piece> byColor(Color color) {
+        return views.get(color);
+    }
+
+    int count(Color color, Type type) {
+        return material().count(color, type);
+    }
+
+    MaterialSignature material() {
+        return new MaterialSignature(material);
+    }
+
+    Position kingPosition(Color color) {
+        return kingPositions[color.ordinal()];
+    }
+}
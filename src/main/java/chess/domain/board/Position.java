@@ -1,6 +1,7 @@
 package chess.domain.board;
 
 import static chess.common.message.ErrorMessage.POSITION_INVALID_FILE;
+import static chess.common.message.ErrorMessage.POSITION_INVALID_INDEX;
 import static chess.common.message.ErrorMessage.POSITION_INVALID_LENGTH;
 import static chess.common.message.ErrorMessage.POSITION_INVALID_RANGE;
 import static chess.common.message.ErrorMessage.POSITION_INVALID_RANK;
@@ -10,12 +11,32 @@ import chess.common.exception.InvalidPositionException;
 
 public record Position(int x, int y) {
 
+    private static final int SIZE = 8;
+    private static final Position[] CACHE = new Position[SIZE * SIZE];
+
+    static {
+        for (int index = 0; index < CACHE.length; index++) {
+            CACHE[index] = new Position(index % SIZE, index / SIZE);
+        }
+    }
+
     public Position {
         validate(x, y);
     }
 
     public static Position of(int x, int y) {
-        return new Position(x, y);
+        validate(x, y);
+        return CACHE[y * SIZE + x];
+    }
+
+    /**
+     * A1 = 0, B1 = 1, ..., H8 = 63 인 칸 번호(index)를 이용해 Position 조회
+     */
+    public static Position ofIndex(int index) {
+        if (index < 0 || index >= CACHE.length) {
+            throw new InvalidPositionException(POSITION_INVALID_INDEX.getMessage(String.valueOf(index)));
+        }
+        return CACHE[index];
     }
 
     /**
@@ -27,7 +48,16 @@ public record Position(int x, int y) {
         int x = algebraicNotation.charAt(0) - 'A';
         int y = algebraicNotation.charAt(1) - '1';
 
-        return new Position(x, y);
+        return of(x, y);
+    }
+
+    public int index() {
+        return y * SIZE + x;
+    }
+
+    // A1이 어두운 칸
+    public boolean isLightSquare() {
+        return (x + y) % 2 != 0;
     }
 
     public String toAlgebraicNotation() {
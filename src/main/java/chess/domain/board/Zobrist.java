@@ -0,0 +1,72 @@
+package chess.domain.board;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import java.util.Random;
+
+/**
+ * 국면 해시용 Zobrist 키 테이블
+ * 키는 고정 시드로 만들어 실행마다 같은 국면이 같은 해시를 갖는다.
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x5EED_C4E5_5L;
+    private static final int SQUARES = 64;
+    private static final int TYPE_COUNT = Type.values().length;
+
+    private static final long[][] PIECE_KEYS = new long[Color.values().length * TYPE_COUNT][SQUARES];
+    private static final long[] CASTLING_KEYS = new long[CastlingRight.values().length];
+    private static final long[] EN_PASSANT_FILE_KEYS = new long[8];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        Random random = new Random(SEED);
+        for (long[] keys : PIECE_KEYS) {
+            for (int index = 0; index < SQUARES; index++) {
+                keys[index] = random.nextLong();
+            }
+        }
+        for (int i = 0; i < CASTLING_KEYS.length; i++) {
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for (int file = 0; file < EN_PASSANT_FILE_KEYS.length; file++) {
+            EN_PASSANT_FILE_KEYS[file] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long piece(Piece piece, int index) {
+        return PIECE_KEYS[piece.getColor().ordinal() * TYPE_COUNT + piece.getType().ordinal()][index];
+    }
+
+    /**
+     * CastlingRight.mask로 만든 권리 집합 전체의 키
+     */
+    public static long castling(int rights) {
+        long key = 0L;
+        for (CastlingRight right : CastlingRight.values()) {
+            if ((rights & right.mask()) != 0) {
+                key ^= CASTLING_KEYS[right.ordinal()];
+            }
+        }
+        return key;
+    }
+
+    public static long enPassant(Position target) {
+        if (target == null) {
+            return 0L;
+        }
+        return EN_PASSANT_FILE_KEYS[target.x()];
+    }
+
+    public static long sideToMove(Color turn) {
+        if (turn == Color.BLACK) {
+            return BLACK_TO_MOVE_KEY;
+        }
+        return 0L;
+    }
+}
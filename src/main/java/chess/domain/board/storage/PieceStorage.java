@@ -0,0 +1,29 @@
+package chess.domain.board.storage;
+
+import chess.domain.board.Position;
+import chess.domain.piece.Piece;
+import java.util.Map;
+
+public interface PieceStorage {
+
+    Piece get(Position position);
+
+    void put(Position position, Piece piece);
+
+    void remove(Position position);
+
+    void clear();
+
+    boolean contains(Position position);
+
+    /**
+     * from과 to 사이(양 끝 제외)에 기물이 있는지 확인. 직선/대각선이 아니면 false
+     */
+    boolean hasPieceBetween(Position from, Position to);
+
+    Map<Position, Piece> asMap();
+
+    PieceStorage copy();
+
+    StorageType getType();
+}
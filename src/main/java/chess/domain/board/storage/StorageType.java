@@ -0,0 +1,20 @@
+package chess.domain.board.storage;
+
+import chess.domain.board.storage.impls.BitboardPieceStorage;
+import chess.domain.board.storage.impls.MapPieceStorage;
+import java.util.function.Supplier;
+
+public enum StorageType {
+    MAP(MapPieceStorage::new),
+    BITBOARD(BitboardPieceStorage::new);
+
+    private final Supplier<PieceStorage> constructor;
+
+    StorageType(Supplier<PieceStorage> constructor) {
+        this.constructor = constructor;
+    }
+
+    public PieceStorage create() {
+        return constructor.get();
+    }
+}
@@ -0,0 +1,186 @@
+package chess.domain.board.storage.impls;
+
+import chess.domain.board.Bitboards;
+import chess.domain.board.Position;
+import chess.domain.board.storage.PieceStorage;
+import chess.domain.board.storage.StorageType;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 색상/종류별 12개의 점유 마스크와 색상별, 전체 점유 마스크로 기물 배치를 관리한다.
+ * Piece 객체(이동 여부 포함)는 칸 번호로 조회하는 배열에 함께 보관한다.
+ */
+public class BitboardPieceStorage implements PieceStorage {
+
+    private static final int SQUARES = 64;
+    private static final int TYPE_COUNT = Type.values().length;
+
+    private final long[] pieceMasks;
+    private final long[] colorMasks;
+    private long occupied;
+    private final Piece[] squares;
+    private final Map<Position, Piece> view = new SquareView();
+
+    public BitboardPieceStorage() {
+        this.pieceMasks = new long[Color.values().length * TYPE_COUNT];
+        this.colorMasks = new long[Color.values().length];
+        this.occupied = Bitboards.EMPTY;
+        this.squares = new Piece[SQUARES];
+    }
+
+    private BitboardPieceStorage(BitboardPieceStorage other) {
+        this.pieceMasks = other.pieceMasks.clone();
+        this.colorMasks = other.colorMasks.clone();
+        this.occupied = other.occupied;
+        this.squares = other.squares.clone();
+    }
+
+    @Override
+    public Piece get(Position position) {
+        return squares[position.index()];
+    }
+
+    @Override
+    public void put(Position position, Piece piece) {
+        int index = position.index();
+        clearSquare(index);
+
+        long bit = Bitboards.bit(index);
+        pieceMasks[maskIndex(piece.getColor(), piece.getType())] |= bit;
+        colorMasks[piece.getColor().ordinal()] |= bit;
+        occupied |= bit;
+        squares[index] = piece;
+    }
+
+    @Override
+    public void remove(Position position) {
+        clearSquare(position.index());
+    }
+
+    private void clearSquare(int index) {
+        Piece piece = squares[index];
+        if (piece == null) {
+            return;
+        }
+
+        long bit = Bitboards.bit(index);
+        pieceMasks[maskIndex(piece.getColor(), piece.getType())] &= ~bit;
+        colorMasks[piece.getColor().ordinal()] &= ~bit;
+        occupied &= ~bit;
+        squares[index] = null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(pieceMasks, Bitboards.EMPTY);
+        Arrays.fill(colorMasks, Bitboards.EMPTY);
+        occupied = Bitboards.EMPTY;
+        Arrays.fill(squares, null);
+    }
+
+    @Override
+    public boolean contains(Position position) {
+        return Bitboards.contains(occupied, position.index());
+    }
+
+    @Override
+    public boolean hasPieceBetween(Position from, Position to) {
+        return (Bitboards.between(from, to) & occupied) != 0;
+    }
+
+    /**
+     * 저장소와 함께 바뀌는 읽기 전용 뷰. 부를 때마다 새 맵을 만들지 않는다
+     */
+    @Override
+    public Map<Position, Piece> asMap() {
+        return view;
+    }
+
+    @Override
+    public PieceStorage copy() {
+        return new BitboardPieceStorage(this);
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.BITBOARD;
+    }
+
+    public long getPieceMask(Color color, Type type) {
+        return pieceMasks[maskIndex(color, type)];
+    }
+
+    public long getColorMask(Color color) {
+        return colorMasks[color.ordinal()];
+    }
+
+    public long getOccupied() {
+        return occupied;
+    }
+
+    private static int maskIndex(Color color, Type type) {
+        return color.ordinal() * TYPE_COUNT + type.ordinal();
+    }
+
+    /**
+     * 점유 마스크의 비트를 차례로 돌며 칸 배열을 읽는다
+     */
+    private final class SquareView extends AbstractMap<Position, Piece> {
+
+        @Override
+        public Piece get(Object key) {
+            return key instanceof Position position ? squares[position.index()] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Position position && BitboardPieceStorage.this.contains(position);
+        }
+
+        @Override
+        public int size() {
+            return Long.bitCount(occupied);
+        }
+
+        @Override
+        public Set<Entry<Position, Piece>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Position, Piece>> iterator() {
+                    return new Iterator<>() {
+                        private long remaining = occupied;
+
+                        @Override
+                        public boolean hasNext() {
+                            return remaining != 0;
+                        }
+
+                        @Override
+                        public Entry<Position, Piece> next() {
+                            if (remaining == 0) {
+                                throw new NoSuchElementException();
+                            }
+                            int index = Long.numberOfTrailingZeros(remaining);
+                            remaining &= remaining - 1;
+                            return new SimpleImmutableEntry<>(Position.ofIndex(index), squares[index]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return SquareView.this.size();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package chess.domain.board.storage.impls;
+
+import chess.domain.board.Position;
+import chess.domain.board.storage.PieceStorage;
+import chess.domain.board.storage.StorageType;
+import chess.domain.piece.Piece;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public class MapPieceStorage implements PieceStorage {
+
+    private final Map<Position, Piece> pieces;
+
+    public MapPieceStorage() {
+        this.pieces = new HashMap<>();
+    }
+
+    private MapPieceStorage(Map<Position, Piece> pieces) {
+        this.pieces = new HashMap<>(pieces);
+    }
+
+    @Override
+    public Piece get(Position position) {
+        return pieces.get(position);
+    }
+
+    @Override
+    public void put(Position position, Piece piece) {
+        pieces.put(position, piece);
+    }
+
+    @Override
+    public void remove(Position position) {
+        pieces.remove(position);
+    }
+
+    @Override
+    public void clear() {
+        pieces.clear();
+    }
+
+    @Override
+    public boolean contains(Position position) {
+        return pieces.containsKey(position);
+    }
+
+    @Override
+    public boolean hasPieceBetween(Position from, Position to) {
+        int xDiff = to.x() - from.x();
+        int yDiff = to.y() - from.y();
+
+        boolean isStraight = (xDiff == 0 && yDiff != 0) || (xDiff != 0 && yDiff == 0);
+        boolean isDiagonal = (Math.abs(xDiff) == Math.abs(yDiff) && xDiff != 0);
+
+        if (!isStraight && !isDiagonal) {
+            return false;
+        }
+
+        int stepX = Integer.compare(xDiff, 0);
+        int stepY = Integer.compare(yDiff, 0);
+
+        int distance = Math.max(Math.abs(xDiff), Math.abs(yDiff));
+
+        return IntStream.range(1, distance)
+                .mapToObj(i -> {
+                    int currentX = from.x() + (i * stepX);
+                    int currentY = from.y() + (i * stepY);
+                    return Position.of(currentX, currentY);
+                })
+                .anyMatch(pieces::containsKey);
+    }
+
+    @Override
+    public Map<Position, Piece> asMap() {
+        return Collections.unmodifiableMap(pieces);
+    }
+
+    @Override
+    public PieceStorage copy() {
+        return new MapPieceStorage(pieces);
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.MAP;
+    }
+}
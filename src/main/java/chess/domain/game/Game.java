@@ -7,13 +7,17 @@ import static chess.common.message.ErrorMessage.PLAYER_INVALID_TURN;
 import chess.common.exception.ChessException;
 import chess.common.exception.GameFinishedException;
 import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
 import chess.domain.board.Position;
+import chess.domain.move.PackedMove;
 import chess.domain.piece.Color;
-import chess.domain.piece.Piece;
 import chess.domain.piece.Type;
 import chess.domain.status.GameStatus;
 import chess.domain.status.MovementValidator;
 import chess.domain.status.StatusCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Game {
 
@@ -27,9 +31,19 @@ public class Game {
     private Player whitePlayer;
     private Player blackPlayer;
 
+    // 참가, 수, 무르기가 성공할 때마다 1씩 오른다. 저장소가 낙관적 잠금(compareAndSave)에 쓴다
+    private long version;
+
+    // 아직 저장소가 가져가지 않은 변경. 버전이 오를 때마다 하나씩 쌓인다
+    private final List<GameChange> changes = new ArrayList<>();
+
+    // 마지막으로 게시한 뷰. 읽는 쪽은 잠금 없이 이것만 본다
+    private final AtomicReference<GameView> view = new AtomicReference<>();
+
     public void join(Player player) {
         if (whitePlayer == null) {
             this.whitePlayer = player;
+            record(new GameChange.Joined(player));
             return;
         }
         if (player.equals(whitePlayer)) {
@@ -38,18 +52,26 @@ public class Game {
 
         if (blackPlayer == null) {
             this.blackPlayer = player;
+            record(new GameChange.Joined(player));
             return;
         }
         throw new ChessException("게임 인원이 꽉 찼습니다.");
     }
 
     public Game(Board board) {
+        this(board, Color.WHITE, new GameHistory());
+    }
+
+    /**
+     * 임의의 국면에서 시작하는 게임. 시작 국면을 반복 횟수에 등록하고, 상태는 ONGOING으로 둔다
+     */
+    public Game(Board board, Color currentTurn, GameHistory history) {
         this.board = board;
-        this.currentTurn = Color.WHITE;
+        this.currentTurn = currentTurn;
         this.status = GameStatus.ONGOING;
-        this.history = new GameHistory();
+        this.history = history;
 
-        this.history.updateHistory(board, this.currentTurn, true);
+        this.history.recordPosition(board, this.currentTurn);
     }
 
     public Game(Long id, Board board, Color currentTurn, GameStatus status, GameHistory history) {
@@ -75,19 +97,97 @@ public class Game {
 
         movementValidator.validate(from, to, board, currentTurn);
 
-        Piece movedPiece = board.getPiece(from);
-        Piece targetPiece = board.getPiece(to);
-
-        history.saveHistory(board, currentTurn);
+        MoveUndo move = board.makeMove(from, to);
 
-        board.move(from, to);
+        history.saveHistory(move);
 
         switchTurn();
 
-        boolean isFiftyMoveReset = (movedPiece.getType() == Type.PAWN || targetPiece != null);
+        boolean isFiftyMoveReset = (move.movedPiece().getType() == Type.PAWN || move.isCapture());
         history.updateHistory(board, currentTurn, isFiftyMoveReset);
 
         this.status = statusCalculator.calculateNextStatus(this);
+        record(new GameChange.Moved(from, to));
+    }
+
+    /**
+     * 저장소가 기록한 참가자를 복원할 때 쓴다. 참가는 이미 기록된 버전에 들어 있으므로 변경을 남기지 않는다
+     */
+    public void restorePlayers(Player whitePlayer, Player blackPlayer) {
+        this.whitePlayer = whitePlayer;
+        this.blackPlayer = blackPlayer;
+    }
+
+    /**
+     * 저장소가 이미 검증해 기록한 수순(PackedMove)을 복원할 때 쓴다.
+     * 차례와 규칙 검증, 수마다의 상태 계산을 건너뛰고 기록된 상태와 버전을 그대로 쓴다
+     */
+    public void restoreMoves(short[] moves, GameStatus status, long version) {
+        for (short packed : moves) {
+            replay(packed);
+        }
+        this.status = status;
+        this.version = version;
+    }
+
+    private void replay(short packed) {
+        MoveUndo move = board.makeMove(packed);
+        history.saveHistory(move);
+        switchTurn();
+
+        boolean isFiftyMoveReset = (move.movedPiece().getType() == Type.PAWN || move.isCapture());
+        history.updateHistory(board, currentTurn, isFiftyMoveReset);
+    }
+
+    /**
+     * 명령(참가, 수, 무르기) 하나를 실행하기 전 상태를 떠 둔다. 저장이 충돌하면 rollback으로 되돌린다
+     */
+    public Checkpoint checkpoint() {
+        return new Checkpoint(version, status, whitePlayer, blackPlayer, history.getMoveCount(),
+                history.getLastMove(), changes.size());
+    }
+
+    /**
+     * checkpoint 이후에 실행한 명령 하나를 되돌린다. 둔 수는 물리고, 무른 수는 다시 두며, 버전과 쌓인 변경도 되돌린다.
+     * 저장에 실패한 명령이므로 그 변경은 아직 저장소가 가져가지 않았다
+     */
+    public void rollback(Checkpoint checkpoint) {
+        int moveCount = history.getMoveCount();
+        if (moveCount == checkpoint.moveCount() + 1) {
+            MoveUndo lastMove = history.undoHistory(board, currentTurn);
+            board.unmakeMove(lastMove);
+            this.currentTurn = lastMove.movedPiece().getColor();
+        } else if (moveCount == checkpoint.moveCount() - 1) {
+            replay(PackedMove.of(checkpoint.lastMove()));
+        }
+        this.whitePlayer = checkpoint.whitePlayer();
+        this.blackPlayer = checkpoint.blackPlayer();
+        this.status = checkpoint.status();
+        this.version = checkpoint.version();
+        while (changes.size() > checkpoint.changeCount()) {
+            changes.remove(changes.size() - 1);
+        }
+    }
+
+    /**
+     * 지난번 이후 쌓인 변경을 순서대로 꺼낸다. 저장소가 게임을 기록할 때 부른다
+     */
+    public synchronized List<GameChange> drainChanges() {
+        List<GameChange> drained = List.copyOf(changes);
+        changes.clear();
+        return drained;
+    }
+
+    /**
+     * 아직 꺼내 가지 않은 변경을 복사해 반환한다. 게임 모니터를 잡고 부른다
+     */
+    public synchronized List<GameChange> getPendingChanges() {
+        return List.copyOf(changes);
+    }
+
+    private void record(GameChange change) {
+        changes.add(change);
+        version++;
     }
 
     private void validatePlayerTurn(Player player) {
@@ -102,11 +202,12 @@ public class Game {
     public void undo(Player player) {
         validateUndoPermission(player);
 
-        BoardSnapshot previousBoardSnapshot = history.undoHistory(board, currentTurn);
+        MoveUndo lastMove = history.undoHistory(board, currentTurn);
 
-        board.restore(previousBoardSnapshot);
-        this.currentTurn = previousBoardSnapshot.turn();
+        board.unmakeMove(lastMove);
+        this.currentTurn = lastMove.movedPiece().getColor();
         this.status = GameStatus.ONGOING;
+        record(new GameChange.Undone(lastMove));
     }
 
     private void validateUndoPermission(Player player) {
@@ -130,10 +231,30 @@ public class Game {
         return status != GameStatus.ONGOING;
     }
 
+    /**
+     * 지금 상태를 현재 버전의 뷰로 떠서 게시한다. 게임을 바꾸는 쪽(한 게임에 한 번에 하나)만 부른다
+     */
+    public GameView publishView() {
+        GameView next = GameView.of(this, version);
+        view.set(next);
+        return next;
+    }
+
+    /**
+     * 마지막으로 게시한 뷰. 아직 게시하지 않았으면 null
+     */
+    public GameView getView() {
+        return view.get();
+    }
+
     public Long getId() {
         return id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Board getBoard() {
         return board;
     }
@@ -149,4 +270,20 @@ public class Game {
     public GameHistory getHistory() {
         return history;
     }
+
+    public Player getWhitePlayer() {
+        return whitePlayer;
+    }
+
+    public Player getBlackPlayer() {
+        return blackPlayer;
+    }
+
+    public boolean isPlayer(Player player) {
+        return player.equals(whitePlayer) || player.equals(blackPlayer);
+    }
+
+    public record Checkpoint(long version, GameStatus status, Player whitePlayer, Player blackPlayer,
+                             int moveCount, MoveUndo lastMove, int changeCount) {
+    }
 }
\ No newline at end of file
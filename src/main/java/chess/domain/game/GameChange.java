@@ -0,0 +1,23 @@
+package chess.domain.game;
+
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+
+/**
+ * 게임에 성공한 명령(참가, 수, 무르기) 하나. 하나가 게임 버전 1에 해당한다.
+ * 저장소는 Game.drainChanges로 지난번 이후의 변경을 받아 그대로 기록한다
+ */
+public sealed interface GameChange {
+
+    record Joined(Player player) implements GameChange {
+    }
+
+    record Moved(Position from, Position to) implements GameChange {
+    }
+
+    /**
+     * move는 물린 수이다
+     */
+    record Undone(MoveUndo move) implements GameChange {
+    }
+}
@@ -4,60 +4,116 @@ import static chess.common.message.ErrorMessage.NO_HISTORY;
 
 import chess.common.exception.EmptyHistoryException;
 import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+import chess.domain.board.Zobrist;
 import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 
 public class GameHistory {
 
+    private static final int INITIAL_PLY_CAPACITY = 64;
+    private static final int KEY_WORDS = 5;
+    private static final int TYPE_COUNT = Type.values().length;
+    private static final Color[] COLORS = Color.values();
+
     private int fiftyMoveCount;
-    private final Map<BoardSnapshot, Integer> repetitionCounter;
 
-    // undo용 스택
-    private final Stack<BoardSnapshot> boardStack;
-    private final Stack<Integer> fiftyMoveStack;
+    // 반복 판정용 국면 해시(보드의 Zobrist 키 ^ 차례) -> 나온 횟수. 수마다 보드를 복사하지 않고 해시만 더하고 뺀다
+    private final Map<Long, Integer> repetitionCounter;
+
+    // 기록한 순서대로의 국면 해시와 위치 키(ply마다 KEY_WORDS개). 해시가 이미 나온 적 있을 때만 이것으로 다시 센다
+    // (getRepetitionCount 참고)
+    private long[] positionHashes;
+    private long[] positionKeys;
+    private int positionCount;
+
+    // undo용 이동 기록. 보드 전체 대신 이동 한 번을 되돌리는 데 필요한 값만 남긴다
+    private final Deque<MoveRecord> moveLog;
+
+    // 이 기록이 시작된 국면까지 이미 둔 수(ply). FEN으로 중간 국면에서 시작할 때만 0이 아니다
+    private final int startPly;
 
     public GameHistory() {
-        this.fiftyMoveCount = 0;
-        this.repetitionCounter = new HashMap<>();
+        this(0, 0);
+    }
 
-        this.boardStack = new Stack<>();
-        this.fiftyMoveStack = new Stack<>();
+    public GameHistory(int fiftyMoveCount, int startPly) {
+        this.fiftyMoveCount = fiftyMoveCount;
+        this.startPly = startPly;
+        this.repetitionCounter = new HashMap<>();
+        this.positionHashes = new long[INITIAL_PLY_CAPACITY];
+        this.positionKeys = new long[INITIAL_PLY_CAPACITY * KEY_WORDS];
+        this.moveLog = new ArrayDeque<>();
     }
 
     public void updateHistory(Board board, Color turnColor, boolean resetFiftyMoveCount) {
         updateFiftyMoveCount(resetFiftyMoveCount);
-        updateRepetitionCounter(board, turnColor);
+        recordPosition(board, turnColor);
     }
 
-    public void saveHistory(Board board, Color turnColor) {
-        BoardSnapshot snapshot = new BoardSnapshot(board.getPieces(), turnColor, board.getEnPassantTarget());
-        boardStack.push(snapshot);
-        fiftyMoveStack.push(fiftyMoveCount);
+    /**
+     * 50수 카운트는 그대로 두고 현재 국면만 반복 횟수에 더한다 (게임의 시작 국면 등록)
+     */
+    public void recordPosition(Board board, Color turnColor) {
+        long hash = positionHash(board, turnColor);
+        repetitionCounter.merge(hash, 1, Integer::sum);
+        ensureCapacity();
+        writePositionKey(board, turnColor, positionCount);
+        positionHashes[positionCount++] = hash;
+    }
+
+    // positionCount 자리까지 쓸 수 있게 한다. getRepetitionCount도 그 자리를 비교용으로 쓴다
+    private void ensureCapacity() {
+        if (positionCount == positionHashes.length) {
+            positionHashes = Arrays.copyOf(positionHashes, positionCount * 2);
+            positionKeys = Arrays.copyOf(positionKeys, positionCount * 2 * KEY_WORDS);
+        }
     }
 
-    public BoardSnapshot undoHistory(Board board, Color turnColor) {
-        if (boardStack.isEmpty()) {
+    public void saveHistory(MoveUndo move) {
+        moveLog.addLast(new MoveRecord(move, fiftyMoveCount));
+    }
+
+    /**
+     * 마지막 이동 기록을 꺼내 50수 카운트와 현재 국면의 반복 횟수를 되돌리고, 보드에 적용할 MoveUndo를 반환
+     */
+    public MoveUndo undoHistory(Board board, Color turnColor) {
+        MoveRecord lastMove = moveLog.pollLast();
+        if (lastMove == null) {
             throw new EmptyHistoryException(NO_HISTORY.getMessage());
         }
-        this.fiftyMoveCount = fiftyMoveStack.pop();
+        this.fiftyMoveCount = lastMove.previousFiftyMoveCount();
+
+        decreaseRepetitionCount(positionHash(board, turnColor));
+        if (positionCount > 0) {
+            positionCount--;
+        }
+        return lastMove.move();
+    }
 
-        BoardSnapshot snapshot = new BoardSnapshot(board.getPieces(), turnColor, board.getEnPassantTarget());
-        decreaseRepetitionCount(snapshot);
-        return boardStack.pop();
+    private static long positionHash(Board board, Color turnColor) {
+        return board.getZobristKey() ^ Zobrist.sideToMove(turnColor);
     }
 
-    private void decreaseRepetitionCount(BoardSnapshot snapshot) {
-        if (!repetitionCounter.containsKey(snapshot)) {
+    private void decreaseRepetitionCount(long key) {
+        Integer count = repetitionCounter.get(key);
+        if (count == null) {
             return;
         }
-        int count = repetitionCounter.get(snapshot);
         if (count <= 1) {
-            repetitionCounter.remove(snapshot);
+            repetitionCounter.remove(key);
             return;
         }
-        repetitionCounter.put(snapshot, count - 1);
+        repetitionCounter.put(key, count - 1);
     }
 
     private void updateFiftyMoveCount(boolean reset) {
@@ -68,22 +124,107 @@ public class GameHistory {
         this.fiftyMoveCount++;
     }
 
-    private void updateRepetitionCounter(Board board, Color nextTurnColor) {
-        BoardSnapshot snapshot = new BoardSnapshot(board.getPieces(), nextTurnColor, board.getEnPassantTarget());
-        int count = repetitionCounter.getOrDefault(snapshot, 0) + 1;
-        repetitionCounter.put(snapshot, count);
+    /**
+     * 해시가 처음 나온 국면이면 카운터 값을 그대로 쓴다. 이미 나온 해시이면 폰 이동이나 잡기 이후(50수 카운트 안)의
+     * 국면만 다시 센다. 그 이전 국면은 같은 배치로 돌아올 수 없기 때문이다.
+     * 다시 셀 때는 해시가 같은 국면의 위치 키(기물 배치, 캐슬링 권리, 앙파상 칸, 차례)까지 비교하므로,
+     * 해시가 우연히 같은 다른 국면은 반복으로 세지 않는다
+     */
+    public int getRepetitionCount(Board board, Color currentTurn) {
+        long hash = positionHash(board, currentTurn);
+        int count = repetitionCounter.getOrDefault(hash, 0);
+        if (count <= 1) {
+            return count;
+        }
+        // 기록한 국면 다음 자리에 물어본 국면의 키를 만들어 비교한다
+        ensureCapacity();
+        int query = positionCount * KEY_WORDS;
+        writePositionKey(board, currentTurn, positionCount);
+        int repetitions = 0;
+        for (int ply = Math.max(0, positionCount - fiftyMoveCount - 1); ply < positionCount; ply++) {
+            if (positionHashes[ply] == hash && Arrays.equals(positionKeys, ply * KEY_WORDS, (ply + 1) * KEY_WORDS,
+                    positionKeys, query, query + KEY_WORDS)) {
+                repetitions++;
+            }
+        }
+        return repetitions;
     }
 
-    public int getRepetitionCount(Board board, Color currentTurn) {
-        BoardSnapshot snapshot = new BoardSnapshot(board.getPieces(), currentTurn, board.getEnPassantTarget());
-        return repetitionCounter.getOrDefault(snapshot, 0);
+    // 칸마다 4비트(0은 빈 칸, 그 외 1 + 색 * 6 + 종류)로 64칸을 long 4개에 담고, 마지막 long에 캐슬링 권리,
+    // 앙파상 칸, 차례를 담는다. 기물을 직접 순회하므로 빈 칸은 보지 않는다
+    private void writePositionKey(Board board, Color turnColor, int ply) {
+        int offset = ply * KEY_WORDS;
+        Arrays.fill(positionKeys, offset, offset + KEY_WORDS, 0L);
+        for (Color color : COLORS) {
+            for (Map.Entry<Position, Piece> entry : board.getPiecesByTeam(color).entrySet()) {
+                int index = entry.getKey().index();
+                long code = 1 + color.ordinal() * TYPE_COUNT + entry.getValue().getType().ordinal();
+                positionKeys[offset + (index >>> 4)] |= code << ((index & 15) * 4);
+            }
+        }
+        Position enPassantTarget = board.getEnPassantTarget();
+        long enPassant = enPassantTarget == null ? 0 : enPassantTarget.index() + 1;
+        positionKeys[offset + KEY_WORDS - 1] = board.getCastlingRights()
+                | enPassant << 8
+                | (long) turnColor.ordinal() << 16;
     }
 
     public int getFiftyMoveCount() {
         return fiftyMoveCount;
     }
 
-    public Map<BoardSnapshot, Integer> getRepetitionCounter() {
+    public Map<Long, Integer> getRepetitionCounter() {
         return repetitionCounter;
     }
+
+    public int getMoveCount() {
+        return moveLog.size();
+    }
+
+    /**
+     * 지금까지 둔 수를 둔 순서대로 복사해 반환 (기보 내보내기용)
+     */
+    public List<MoveUndo> getMoves() {
+        List<MoveUndo> moves = new ArrayList<>(moveLog.size());
+        for (MoveRecord record : moveLog) {
+            moves.add(record.move());
+        }
+        return moves;
+    }
+
+    /**
+     * 마지막으로 둔 수. 둔 수가 없으면 null
+     */
+    public MoveUndo getLastMove() {
+        MoveRecord lastMove = moveLog.peekLast();
+        if (lastMove == null) {
+            return null;
+        }
+        return lastMove.move();
+    }
+
+    /**
+     * 기록이 시작된 국면의 50수 카운트 (FEN의 halfmove clock)
+     */
+    public int getStartFiftyMoveCount() {
+        MoveRecord firstMove = moveLog.peekFirst();
+        if (firstMove == null) {
+            return fiftyMoveCount;
+        }
+        return firstMove.previousFiftyMoveCount();
+    }
+
+    public int getStartPly() {
+        return startPly;
+    }
+
+    /**
+     * 게임 처음부터 센 수(ply). FEN의 fullmove 번호는 getPlyCount() / 2 + 1
+     */
+    public int getPlyCount() {
+        return startPly + moveLog.size();
+    }
+
+    private record MoveRecord(MoveUndo move, int previousFiftyMoveCount) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package chess.domain.game;
+
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.status.GameStatus;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 어느 시점의 게임을 바뀌지 않게 떠 둔 읽기 전용 뷰. board는 대수 기보 칸("E4") -> 기물 기호이다.
+ * version은 뷰를 뜰 때의 Game 버전이고, lastMove는 그때 마지막으로 둔 수(없으면 null)이다
+ */
+public record GameView(Long gameId, long version, Color currentTurn, GameStatus status, Map<String, String> board,
+                       LastMove lastMove) {
+
+    static GameView of(Game game, long version) {
+        Map<String, String> board = new HashMap<>();
+        for (Map.Entry<Position, Piece> entry : game.getBoard().getPieces().entrySet()) {
+            board.put(entry.getKey().toAlgebraicNotation(), entry.getValue().getSymbol());
+        }
+        return new GameView(game.getId(), version, game.getCurrentTurn(), game.getStatus(), Map.copyOf(board),
+                LastMove.of(game.getHistory().getLastMove()));
+    }
+
+    /**
+     * previous 뷰에서 이 뷰로 오면서 바뀐 칸. 기물이 빠진 칸은 null이다
+     */
+    public Map<String, String> changesSince(GameView previous) {
+        Map<String, String> changes = new HashMap<>();
+        for (Map.Entry<String, String> square : board.entrySet()) {
+            if (!square.getValue().equals(previous.board.get(square.getKey()))) {
+                changes.put(square.getKey(), square.getValue());
+            }
+        }
+        for (String square : previous.board.keySet()) {
+            if (!board.containsKey(square)) {
+                changes.put(square, null);
+            }
+        }
+        return changes;
+    }
+
+    public record LastMove(String from, String to) {
+
+        private static LastMove of(MoveUndo move) {
+            if (move == null) {
+                return null;
+            }
+            return new LastMove(move.from().toAlgebraicNotation(), move.to().toAlgebraicNotation());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package chess.domain.move;
+
+import chess.domain.board.Position;
+
+/**
+ * 생성된 합법 수. Board.move(from, to)에 그대로 넘기면 type에 맞는 처리(캐슬링, 앙파상, 승진)가 적용된다.
+ */
+public record Move(Position from, Position to, MoveType type) {
+
+    /**
+     * "e2e4" 같은 좌표 표기 (perft divide 출력 등 외부 도구와 비교할 때 사용)
+     */
+    public String toCoordinateNotation() {
+        return (from.toAlgebraicNotation() + to.toAlgebraicNotation()).toLowerCase();
+    }
+}
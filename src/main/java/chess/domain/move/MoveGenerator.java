@@ -0,0 +1,358 @@
+package chess.domain.move;
+
+import chess.domain.board.Bitboards;
+import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import chess.domain.status.CheckDetector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 한 색의 합법 수만 생성한다.
+ * 킹이 아닌 기물은 체크 마스크(체크를 막거나 잡는 칸)와 핀 마스크(핀 방향)로 걸러내고,
+ * 킹 이동, 캐슬링, 앙파상처럼 드문 경우만 실제로 두어 보고(make/unmake) 판정한다.
+ */
+public class MoveGenerator {
+
+    private static final int SIZE = 8;
+    private static final long ALL_SQUARES = -1L;
+
+    private static final int[][] KNIGHT_OFFSETS = {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1},
+            {-1, 2}};
+    private static final int[][] KING_OFFSETS = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1},
+            {1, -1}};
+    private static final int[][] ORTHOGONAL_DIRECTIONS = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+    private static final int[][] DIAGONAL_DIRECTIONS = {{1, 1}, {-1, 1}, {-1, -1}, {1, -1}};
+
+    private final CheckDetector checkDetector;
+
+    public MoveGenerator(CheckDetector checkDetector) {
+        this.checkDetector = checkDetector;
+    }
+
+    public List<Move> generateLegalMoves(Board board, Color color) {
+        List<Move> moves = new ArrayList<>();
+        forEachLegalMove(board, color, move -> {
+            moves.add(move);
+            return true;
+        });
+        return moves;
+    }
+
+    /**
+     * moves를 비우고 합법 수를 PackedMove로 채운다
+     */
+    public MoveList generateLegalMoves(Board board, Color color, MoveList moves) {
+        moves.clear();
+        forEachLegalPackedMove(board, color, move -> {
+            moves.add(move);
+            return true;
+        });
+        return moves;
+    }
+
+    public boolean hasLegalMove(Board board, Color color) {
+        return !forEachLegalPackedMove(board, color, move -> false);
+    }
+
+    public int countLegalMoves(Board board, Color color) {
+        int[] count = {0};
+        forEachLegalPackedMove(board, color, move -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * 합법 수를 하나씩 visitor에 넘긴다. visitor가 false를 반환하면 생성을 멈추고 false를 반환
+     * visitor 안에서 make/unmake로 보드를 바꿔도 되지만, 반환 전에는 원래대로 되돌려야 한다.
+     */
+    public boolean forEachLegalMove(Board board, Color color, Predicate<Move> visitor) {
+        return forEachLegalPackedMove(board, color, move -> visitor.test(PackedMove.toMove(move)));
+    }
+
+    /**
+     * forEachLegalMove와 같지만 Move 객체 대신 PackedMove(short)를 넘긴다
+     */
+    public boolean forEachLegalPackedMove(Board board, Color color, PackedMoveVisitor visitor) {
+        return new Generation(board, color, visitor).run();
+    }
+
+    private final class Generation {
+
+        private final Board board;
+        private final Color color;
+        private final PackedMoveVisitor visitor;
+
+        private final long[] pinRays = new long[SIZE * SIZE];
+        private long pinned;
+        private long checkMask = ALL_SQUARES;
+        private int checkers;
+
+        private Generation(Board board, Color color, PackedMoveVisitor visitor) {
+            this.board = board;
+            this.color = color;
+            this.visitor = visitor;
+        }
+
+        private boolean run() {
+            Position king = board.findKingPosition(color);
+            if (king != null) {
+                analyzeKing(king);
+            }
+
+            // 기물 목록은 보드와 함께 바뀌는 뷰이므로, 두어 보기(make/unmake) 전에 위치만 복사해 둔다
+            Position[] squares = board.getPiecesByTeam(color).keySet().toArray(new Position[0]);
+            for (Position from : squares) {
+                if (!generatePieceMoves(from, board.getPiece(from))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void analyzeKing(Position king) {
+            long checkRays = Bitboards.EMPTY;
+
+            for (int[] offset : KNIGHT_OFFSETS) {
+                Position square = offset(king, offset[0], offset[1]);
+                if (isEnemy(square, Type.KNIGHT)) {
+                    checkers++;
+                    checkRays |= Bitboards.bit(square);
+                }
+            }
+
+            int forward = color.getDirection();
+            for (int dx = -1; dx <= 1; dx += 2) {
+                Position square = offset(king, dx, forward);
+                if (isEnemy(square, Type.PAWN)) {
+                    checkers++;
+                    checkRays |= Bitboards.bit(square);
+                }
+            }
+
+            for (int[] direction : ORTHOGONAL_DIRECTIONS) {
+                checkRays |= scanRay(king, direction, Type.ROOK);
+            }
+            for (int[] direction : DIAGONAL_DIRECTIONS) {
+                checkRays |= scanRay(king, direction, Type.BISHOP);
+            }
+
+            if (checkers == 1) {
+                checkMask = checkRays;
+            } else if (checkers > 1) {
+                checkMask = Bitboards.EMPTY;
+            }
+        }
+
+        // 킹에서 한 방향으로 나아가며 체크를 주는 기물이나 핀을 찾는다. 체크면 킹과 공격자 사이(공격자 포함) 마스크를 반환
+        private long scanRay(Position king, int[] direction, Type sliderType) {
+            long ray = Bitboards.EMPTY;
+            Position ownPiece = null;
+
+            Position square = offset(king, direction[0], direction[1]);
+            while (square != null) {
+                ray |= Bitboards.bit(square);
+                Piece piece = board.getPiece(square);
+                if (piece != null) {
+                    if (piece.getColor() == color) {
+                        if (ownPiece != null) {
+                            return Bitboards.EMPTY;
+                        }
+                        ownPiece = square;
+                    } else {
+                        return resolveEnemyOnRay(piece, sliderType, ownPiece, ray);
+                    }
+                }
+                square = offset(square, direction[0], direction[1]);
+            }
+            return Bitboards.EMPTY;
+        }
+
+        private long resolveEnemyOnRay(Piece enemy, Type sliderType, Position ownPiece, long ray) {
+            if (enemy.getType() != sliderType && enemy.getType() != Type.QUEEN) {
+                return Bitboards.EMPTY;
+            }
+            if (ownPiece == null) {
+                checkers++;
+                return ray;
+            }
+            pinned |= Bitboards.bit(ownPiece);
+            pinRays[ownPiece.index()] = ray;
+            return Bitboards.EMPTY;
+        }
+
+        private boolean generatePieceMoves(Position from, Piece piece) {
+            if (piece.getType() == Type.KING) {
+                return generateKingMoves(from, piece);
+            }
+            long allowed = checkMask;
+            if (Bitboards.contains(pinned, from.index())) {
+                allowed &= pinRays[from.index()];
+            }
+            // 앙파상은 마스크 대신 직접 두어 보고 판정하므로 폰은 건너뛰지 않는다
+            if (allowed == Bitboards.EMPTY && piece.getType() != Type.PAWN) {
+                return true;
+            }
+
+            return switch (piece.getType()) {
+                case PAWN -> generatePawnMoves(from, allowed);
+                case KNIGHT -> generateStepMoves(from, KNIGHT_OFFSETS, allowed);
+                case BISHOP -> generateSlidingMoves(from, DIAGONAL_DIRECTIONS, allowed);
+                case ROOK -> generateSlidingMoves(from, ORTHOGONAL_DIRECTIONS, allowed);
+                case QUEEN -> generateSlidingMoves(from, DIAGONAL_DIRECTIONS, allowed)
+                        && generateSlidingMoves(from, ORTHOGONAL_DIRECTIONS, allowed);
+                case KING -> true;
+            };
+        }
+
+        private boolean generateStepMoves(Position from, int[][] offsets, long allowed) {
+            for (int[] offset : offsets) {
+                Position to = offset(from, offset[0], offset[1]);
+                if (to != null && !isOwn(to) && !emit(from, to, MoveType.NORMAL, allowed)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean generateSlidingMoves(Position from, int[][] directions, long allowed) {
+            for (int[] direction : directions) {
+                Position to = offset(from, direction[0], direction[1]);
+                while (to != null && !isOwn(to)) {
+                    if (!emit(from, to, MoveType.NORMAL, allowed)) {
+                        return false;
+                    }
+                    if (board.getPiece(to) != null) {
+                        break;
+                    }
+                    to = offset(to, direction[0], direction[1]);
+                }
+            }
+            return true;
+        }
+
+        private boolean generatePawnMoves(Position from, long allowed) {
+            int forward = color.getDirection();
+
+            Position oneStep = offset(from, 0, forward);
+            if (oneStep != null && board.getPiece(oneStep) == null) {
+                if (!emit(from, oneStep, pawnMoveType(oneStep), allowed)) {
+                    return false;
+                }
+                Position twoStep = offset(from, 0, 2 * forward);
+                if (from.y() == color.getPawnStartRank() && twoStep != null && board.getPiece(twoStep) == null
+                        && !emit(from, twoStep, MoveType.DOUBLE_PAWN_PUSH, allowed)) {
+                    return false;
+                }
+            }
+
+            for (int dx = -1; dx <= 1; dx += 2) {
+                Position to = offset(from, dx, forward);
+                if (to == null) {
+                    continue;
+                }
+                Piece target = board.getPiece(to);
+                if (target != null && target.getColor() != color && !emit(from, to, pawnMoveType(to), allowed)) {
+                    return false;
+                }
+                if (target == null && to.equals(board.getEnPassantTarget()) && !emitIfSafe(from, to,
+                        MoveType.EN_PASSANT)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private MoveType pawnMoveType(Position to) {
+            if (to.y() == color.getPawnPromotionRank()) {
+                return MoveType.PROMOTION;
+            }
+            return MoveType.NORMAL;
+        }
+
+        private boolean generateKingMoves(Position from, Piece king) {
+            for (int[] offset : KING_OFFSETS) {
+                Position to = offset(from, offset[0], offset[1]);
+                if (to != null && !isOwn(to) && !emitIfSafe(from, to, MoveType.NORMAL)) {
+                    return false;
+                }
+            }
+
+            if (king.isMoved() || checkers > 0) {
+                return true;
+            }
+            return generateCastling(from, 1) && generateCastling(from, -1);
+        }
+
+        // MovementValidator의 캐슬링 규칙과 같다: 룩 미이동, 사이 칸 비어 있음, 지나가는 칸과 도착 칸이 공격받지 않음
+        private boolean generateCastling(Position kingFrom, int direction) {
+            Position to = offset(kingFrom, 2 * direction, 0);
+            if (to == null || board.getPiece(to) != null) {
+                return true;
+            }
+            Position rookPosition = Position.of(direction > 0 ? SIZE - 1 : 0, kingFrom.y());
+            Piece rook = board.getPiece(rookPosition);
+            if (rook == null || rook.getType() != Type.ROOK || rook.getColor() != color || rook.isMoved()) {
+                return true;
+            }
+            if (board.hasObstacleInPath(kingFrom, rookPosition)) {
+                return true;
+            }
+
+            Color opponent = color.opposite();
+            Position nextSquare = offset(kingFrom, direction, 0);
+            if (checkDetector.isSquareAttacked(board, nextSquare, opponent)
+                    || checkDetector.isSquareAttacked(board, to, opponent)) {
+                return true;
+            }
+            return emitIfSafe(kingFrom, to, MoveType.CASTLING);
+        }
+
+        private boolean emit(Position from, Position to, MoveType type, long allowed) {
+            if (!Bitboards.contains(allowed, to.index())) {
+                return true;
+            }
+            return visitor.visit(PackedMove.encode(from, to, type));
+        }
+
+        private boolean emitIfSafe(Position from, Position to, MoveType type) {
+            MoveUndo undo = board.makeMove(from, to);
+            boolean isSafe;
+            try {
+                isSafe = !checkDetector.isCheck(board, color);
+            } finally {
+                board.unmakeMove(undo);
+            }
+            return !isSafe || visitor.visit(PackedMove.encode(from, to, type));
+        }
+
+        private boolean isOwn(Position position) {
+            Piece piece = board.getPiece(position);
+            return piece != null && piece.getColor() == color;
+        }
+
+        private boolean isEnemy(Position position, Type type) {
+            if (position == null) {
+                return false;
+            }
+            Piece piece = board.getPiece(position);
+            return piece != null && piece.getColor() != color && piece.getType() == type;
+        }
+    }
+
+    private static Position offset(Position from, int dx, int dy) {
+        int x = from.x() + dx;
+        int y = from.y() + dy;
+        if (x < 0 || x >= SIZE || y < 0 || y >= SIZE) {
+            return null;
+        }
+        return Position.of(x, y);
+    }
+}
@@ -0,0 +1,61 @@
+package chess.domain.move;
+
+import java.util.Arrays;
+
+/**
+ * PackedMove를 short 배열에 담는 수 목록. 수마다 객체를 만들지 않고, clear 후 다시 쓸 수 있다.
+ */
+public class MoveList {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private short[] moves;
+    private int size;
+
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveList(int capacity) {
+        this.moves = new short[Math.max(capacity, 1)];
+    }
+
+    public void add(short move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = move;
+    }
+
+    public short get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return moves[index];
+    }
+
+    public boolean contains(short move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public short[] toArray() {
+        return Arrays.copyOf(moves, size);
+    }
+}
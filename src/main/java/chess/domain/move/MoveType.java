@@ -0,0 +1,9 @@
+package chess.domain.move;
+
+public enum MoveType {
+    NORMAL,
+    DOUBLE_PAWN_PUSH,
+    CASTLING,
+    EN_PASSANT,
+    PROMOTION
+}
@@ -0,0 +1,155 @@
+package chess.domain.move;
+
+import static chess.common.message.ErrorMessage.PIECE_NOT_FOUND;
+import static chess.common.message.ErrorMessage.RULE_INVALID_PROMOTION_TYPE;
+
+import chess.common.exception.PieceNotFoundException;
+import chess.common.exception.RuleViolationException;
+import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+
+/**
+ * 수 하나를 16비트(short)로 묶은 표현.
+ * 0~5비트는 출발 칸, 6~11비트는 도착 칸 번호(Position.index), 12~14비트는 종류 플래그이고 15비트는 비워 둔다.
+ * 플래그 0~3은 MoveType NORMAL, DOUBLE_PAWN_PUSH, CASTLING, EN_PASSANT이고,
+ * 4~7은 승진이며 각각 나이트, 비숍, 룩, 퀸으로 승진한다.
+ */
+public final class PackedMove {
+
+    public static final short NONE = 0;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int TO_SHIFT = SQUARE_BITS;
+    private static final int FLAG_SHIFT = SQUARE_BITS * 2;
+    private static final int FLAG_MASK = 0b111;
+    private static final int PROMOTION_FLAG = 4;
+
+    private static final MoveType[] MOVE_TYPES = MoveType.values();
+    private static final Type[] PROMOTION_TYPES = {Type.KNIGHT, Type.BISHOP, Type.ROOK, Type.QUEEN};
+
+    private PackedMove() {
+    }
+
+    /**
+     * 승진은 퀸으로 승진하는 수로 만든다
+     */
+    public static short encode(Position from, Position to, MoveType type) {
+        if (type == MoveType.PROMOTION) {
+            return encodePromotion(from, to, Type.QUEEN);
+        }
+        return pack(from.index(), to.index(), type.ordinal());
+    }
+
+    public static short encodePromotion(Position from, Position to, Type promotionType) {
+        return pack(from.index(), to.index(), PROMOTION_FLAG + promotionIndex(promotionType));
+    }
+
+    public static short of(Move move) {
+        return encode(move.from(), move.to(), move.type());
+    }
+
+    /**
+     * 현재 보드에서 from -> to 이동의 종류를 판단해 인코딩한다 (좌표만 있는 요청을 변환할 때 사용)
+     */
+    public static short of(Board board, Position from, Position to) {
+        Piece piece = board.getPiece(from);
+        if (piece == null) {
+            throw new PieceNotFoundException(PIECE_NOT_FOUND.getMessage());
+        }
+        return encode(from, to, typeOf(board, piece, from, to));
+    }
+
+    /**
+     * 이미 둔 수(MoveUndo)를 다시 인코딩한다. 이 도메인의 승진은 모두 퀸 승진이다
+     */
+    public static short of(MoveUndo move) {
+        return encode(move.from(), move.to(), typeOf(move));
+    }
+
+    private static MoveType typeOf(MoveUndo move) {
+        if (move.isCastling()) {
+            return MoveType.CASTLING;
+        }
+        if (move.isEnPassant()) {
+            return MoveType.EN_PASSANT;
+        }
+        if (move.isPromotion()) {
+            return MoveType.PROMOTION;
+        }
+        if (move.movedPiece().getType() == Type.PAWN && Math.abs(move.from().y() - move.to().y()) == 2) {
+            return MoveType.DOUBLE_PAWN_PUSH;
+        }
+        return MoveType.NORMAL;
+    }
+
+    private static MoveType typeOf(Board board, Piece piece, Position from, Position to) {
+        if (piece.getType() == Type.KING && Math.abs(from.x() - to.x()) == 2) {
+            return MoveType.CASTLING;
+        }
+        if (piece.getType() != Type.PAWN) {
+            return MoveType.NORMAL;
+        }
+        if (to.equals(board.getEnPassantTarget()) && from.x() != to.x()) {
+            return MoveType.EN_PASSANT;
+        }
+        if (Math.abs(from.y() - to.y()) == 2) {
+            return MoveType.DOUBLE_PAWN_PUSH;
+        }
+        if (to.y() == piece.getColor().getPawnPromotionRank()) {
+            return MoveType.PROMOTION;
+        }
+        return MoveType.NORMAL;
+    }
+
+    public static Move toMove(short move) {
+        return new Move(from(move), to(move), type(move));
+    }
+
+    public static Position from(short move) {
+        return Position.ofIndex(move & SQUARE_MASK);
+    }
+
+    public static Position to(short move) {
+        return Position.ofIndex((move >>> TO_SHIFT) & SQUARE_MASK);
+    }
+
+    public static MoveType type(short move) {
+        int flag = flag(move);
+        if (flag >= PROMOTION_FLAG) {
+            return MoveType.PROMOTION;
+        }
+        return MOVE_TYPES[flag];
+    }
+
+    /**
+     * 승진이 아니면 null
+     */
+    public static Type promotionType(short move) {
+        int flag = flag(move);
+        if (flag < PROMOTION_FLAG) {
+            return null;
+        }
+        return PROMOTION_TYPES[flag - PROMOTION_FLAG];
+    }
+
+    private static int flag(short move) {
+        return (move >>> FLAG_SHIFT) & FLAG_MASK;
+    }
+
+    private static short pack(int from, int to, int flag) {
+        return (short) (from | (to << TO_SHIFT) | (flag << FLAG_SHIFT));
+    }
+
+    private static int promotionIndex(Type type) {
+        for (int i = 0; i < PROMOTION_TYPES.length; i++) {
+            if (PROMOTION_TYPES[i] == type) {
+                return i;
+            }
+        }
+        throw new RuleViolationException(RULE_INVALID_PROMOTION_TYPE.getMessage(String.valueOf(type)));
+    }
+}
@@ -0,0 +1,10 @@
+package chess.domain.move;
+
+/**
+ * PackedMove로 인코딩된 수를 하나씩 받는다. false를 반환하면 생성을 멈춘다.
+ */
+@FunctionalInterface
+public interface PackedMoveVisitor {
+
+    boolean visit(short move);
+}
@@ -0,0 +1,63 @@
+package chess.domain.move;
+
+import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.piece.Color;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주어진 깊이까지 합법 수 트리의 말단 노드 수를 센다.
+ * 알려진 노드 수와 비교하는 수 생성 정답 검증과, 수 생성/적용 속도 측정에 사용한다.
+ */
+public class Perft {
+
+    private final MoveGenerator moveGenerator;
+
+    public Perft(MoveGenerator moveGenerator) {
+        this.moveGenerator = moveGenerator;
+    }
+
+    public long count(Board board, Color turn, int depth) {
+        if (depth <= 0) {
+            return 1;
+        }
+        // 마지막 깊이는 수를 두지 않고 개수만 센다
+        if (depth == 1) {
+            return moveGenerator.countLegalMoves(board, turn);
+        }
+
+        long[] nodes = {0};
+        moveGenerator.forEachLegalPackedMove(board, turn, move -> {
+            nodes[0] += countAfter(board, move, turn, depth - 1);
+            return true;
+        });
+        return nodes[0];
+    }
+
+    public PerftResult divide(Board board, Color turn, int depth) {
+        long start = System.nanoTime();
+
+        Map<Move, Long> divide = new LinkedHashMap<>();
+        if (depth > 0) {
+            for (Move move : moveGenerator.generateLegalMoves(board, turn)) {
+                divide.put(move, countAfter(board, PackedMove.of(move), turn, depth - 1));
+            }
+        }
+        long nodes = divide.values().stream().mapToLong(Long::longValue).sum();
+        if (depth <= 0) {
+            nodes = 1;
+        }
+
+        return new PerftResult(depth, nodes, divide, System.nanoTime() - start);
+    }
+
+    private long countAfter(Board board, short move, Color turn, int depth) {
+        MoveUndo undo = board.makeMove(move);
+        try {
+            return count(board, turn.opposite(), depth);
+        } finally {
+            board.unmakeMove(undo);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package chess.domain.move;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * divide: 첫 수별 말단 노드 수 (생성 순서 유지)
+ */
+public record PerftResult(int depth, long nodes, Map<Move, Long> divide, long elapsedNanos) {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    public PerftResult {
+        divide = Collections.unmodifiableMap(new LinkedHashMap<>(divide));
+    }
+
+    public long nodesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return nodes * NANOS_PER_SECOND / elapsedNanos;
+    }
+}
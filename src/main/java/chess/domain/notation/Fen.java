@@ -0,0 +1,438 @@
+package chess.domain.notation;
+
+import static chess.common.message.ErrorMessage.FEN_INVALID_CASTLING;
+import static chess.common.message.ErrorMessage.FEN_INVALID_COUNTER;
+import static chess.common.message.ErrorMessage.FEN_INVALID_EN_PASSANT;
+import static chess.common.message.ErrorMessage.FEN_INVALID_PLACEMENT;
+import static chess.common.message.ErrorMessage.FEN_INVALID_TURN;
+import static chess.common.message.ErrorMessage.FEN_IS_EMPTY;
+import static chess.common.message.ErrorMessage.FEN_TOO_MANY_PIECES;
+
+import chess.common.exception.InvalidFenException;
+import chess.common.message.ErrorMessage;
+import chess.domain.board.Board;
+import chess.domain.board.CastlingRight;
+import chess.domain.board.MaterialSignature;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.game.GameHistory;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import chess.domain.piece.impls.Bishop;
+import chess.domain.piece.impls.King;
+import chess.domain.piece.impls.Knight;
+import chess.domain.piece.impls.Pawn;
+import chess.domain.piece.impls.Queen;
+import chess.domain.piece.impls.Rook;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FEN(Forsyth-Edwards Notation) 불러오기/내보내기
+ * 정규식이나 필드별 문자열을 만들지 않고 한 글자씩 읽는다. 반수/전체 수 카운터는 생략할 수 있다 (0, 1로 간주).
+ * <p>
+ * 이 도메인은 캐슬링 권리를 따로 두지 않고 킹/룩의 isMoved로 판단하므로,
+ * 불러올 때 권리가 없는 킹/룩과 시작 칸을 벗어난 기물은 움직인 기물로 만든다.
+ * 권리가 있다고 표기했지만 킹이나 룩이 시작 칸에 없으면 그 권리는 무시된다.
+ */
+public final class Fen {
+
+    public static final String INITIAL = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final int SIZE = 8;
+    private static final int TYPE_COUNT = Type.values().length;
+    private static final int MAX_LENGTH = 90;
+
+    // 기물은 불변이므로 색상/종류/이동 여부별 인스턴스 하나를 모든 보드가 함께 쓴다
+    private static final Piece[] PIECES = new Piece[Color.values().length * TYPE_COUNT * 2];
+
+    static {
+        for (Color color : Color.values()) {
+            register(new King(color));
+            register(new Queen(color));
+            register(new Rook(color));
+            register(new Bishop(color));
+            register(new Knight(color));
+            register(new Pawn(color));
+        }
+    }
+
+    private Fen() {
+    }
+
+    private static void register(Piece piece) {
+        PIECES[pieceIndex(piece.getColor(), piece.getType(), false)] = piece;
+        PIECES[pieceIndex(piece.getColor(), piece.getType(), true)] = piece.afterMove();
+    }
+
+    public static FenPosition parse(CharSequence fen) {
+        return parse(fen, StorageType.MAP);
+    }
+
+    public static FenPosition parse(CharSequence fen, StorageType storageType) {
+        return new Parser(fen).parse(storageType);
+    }
+
+    public static Game parseGame(CharSequence fen) {
+        return parse(fen).toGame();
+    }
+
+    public static String of(Game game) {
+        GameHistory history = game.getHistory();
+        return of(game.getBoard(), game.getCurrentTurn(), history.getFiftyMoveCount(), history.getPlyCount() / 2 + 1);
+    }
+
+    /**
+     * 게임이 시작된 국면의 FEN. 보드 사본에서 기록된 수를 모두 되돌려 구한다
+     */
+    public static String startOf(Game game) {
+        List<MoveUndo> moves = game.getHistory().getMoves();
+        Board board = new Board(game.getBoard());
+        for (int i = moves.size() - 1; i >= 0; i--) {
+            board.unmakeMove(moves.get(i));
+        }
+        Color turn = game.getCurrentTurn();
+        if (!moves.isEmpty()) {
+            turn = moves.get(0).movedPiece().getColor();
+        }
+        GameHistory history = game.getHistory();
+        return of(board, turn, history.getStartFiftyMoveCount(), history.getStartPly() / 2 + 1);
+    }
+
+    public static String of(Board board, Color turn, int halfmoveClock, int fullmoveNumber) {
+        StringBuilder builder = new StringBuilder(MAX_LENGTH);
+        appendPlacement(builder, board);
+        builder.append(' ').append(turn == Color.WHITE ? 'w' : 'b').append(' ');
+        appendCastling(builder, board.getCastlingRights());
+        builder.append(' ');
+        appendEnPassant(builder, board.getEnPassantTarget());
+        builder.append(' ').append(halfmoveClock).append(' ').append(fullmoveNumber);
+        return builder.toString();
+    }
+
+    private static void appendPlacement(StringBuilder builder, Board board) {
+        for (int y = SIZE - 1; y >= 0; y--) {
+            int empty = 0;
+            for (int x = 0; x < SIZE; x++) {
+                Piece piece = board.getPiece(Position.of(x, y));
+                if (piece == null) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    builder.append((char) ('0' + empty));
+                    empty = 0;
+                }
+                builder.append(symbolOf(piece));
+            }
+            if (empty > 0) {
+                builder.append((char) ('0' + empty));
+            }
+            if (y > 0) {
+                builder.append('/');
+            }
+        }
+    }
+
+    private static void appendCastling(StringBuilder builder, int rights) {
+        if (rights == 0) {
+            builder.append('-');
+            return;
+        }
+        appendIfAvailable(builder, rights, CastlingRight.WHITE_KING_SIDE, 'K');
+        appendIfAvailable(builder, rights, CastlingRight.WHITE_QUEEN_SIDE, 'Q');
+        appendIfAvailable(builder, rights, CastlingRight.BLACK_KING_SIDE, 'k');
+        appendIfAvailable(builder, rights, CastlingRight.BLACK_QUEEN_SIDE, 'q');
+    }
+
+    private static void appendIfAvailable(StringBuilder builder, int rights, CastlingRight right, char symbol) {
+        if ((rights & right.mask()) != 0) {
+            builder.append(symbol);
+        }
+    }
+
+    private static void appendEnPassant(StringBuilder builder, Position target) {
+        if (target == null) {
+            builder.append('-');
+            return;
+        }
+        builder.append((char) ('a' + target.x())).append((char) ('1' + target.y()));
+    }
+
+    private static char symbolOf(Piece piece) {
+        char symbol = switch (piece.getType()) {
+            case KING -> 'K';
+            case QUEEN -> 'Q';
+            case ROOK -> 'R';
+            case BISHOP -> 'B';
+            case KNIGHT -> 'N';
+            case PAWN -> 'P';
+        };
+        if (piece.getColor() == Color.BLACK) {
+            return Character.toLowerCase(symbol);
+        }
+        return symbol;
+    }
+
+    private static Type typeOf(char symbol) {
+        return switch (Character.toUpperCase(symbol)) {
+            case 'K' -> Type.KING;
+            case 'Q' -> Type.QUEEN;
+            case 'R' -> Type.ROOK;
+            case 'B' -> Type.BISHOP;
+            case 'N' -> Type.KNIGHT;
+            case 'P' -> Type.PAWN;
+            default -> null;
+        };
+    }
+
+    private static int pieceIndex(Color color, Type type, boolean isMoved) {
+        return (color.ordinal() * TYPE_COUNT + type.ordinal()) * 2 + (isMoved ? 1 : 0);
+    }
+
+    private static final class Parser {
+
+        private final CharSequence fen;
+        private int cursor;
+
+        private final char[] squares = new char[SIZE * SIZE];
+        private Color turn;
+        private int castlingRights;
+        private Position enPassantTarget;
+        private int halfmoveClock;
+        private int fullmoveNumber = 1;
+
+        private Parser(CharSequence fen) {
+            if (fen == null || fen.isEmpty()) {
+                throw new InvalidFenException(FEN_IS_EMPTY.getMessage());
+            }
+            this.fen = fen;
+        }
+
+        private FenPosition parse(StorageType storageType) {
+            skipSpaces();
+            parsePlacement();
+            expectSpace(FEN_INVALID_TURN);
+            parseTurn();
+            expectSpace(FEN_INVALID_CASTLING);
+            parseCastling();
+            expectSpace(FEN_INVALID_EN_PASSANT);
+            parseEnPassant();
+            parseCounters();
+
+            Board board = new Board(createPieces(), storageType, enPassantTarget);
+            return new FenPosition(board, turn, halfmoveClock, fullmoveNumber);
+        }
+
+        private void parsePlacement() {
+            int y = SIZE - 1;
+            int x = 0;
+            while (cursor < fen.length() && fen.charAt(cursor) != ' ') {
+                char symbol = fen.charAt(cursor++);
+                if (symbol == '/') {
+                    if (x != SIZE || y == 0) {
+                        throw invalid(FEN_INVALID_PLACEMENT);
+                    }
+                    y--;
+                    x = 0;
+                } else if (symbol >= '1' && symbol <= '8') {
+                    x += symbol - '0';
+                    if (x > SIZE) {
+                        throw invalid(FEN_INVALID_PLACEMENT);
+                    }
+                } else {
+                    if (x >= SIZE || typeOf(symbol) == null) {
+                        throw invalid(FEN_INVALID_PLACEMENT);
+                    }
+                    squares[y * SIZE + x] = symbol;
+                    x++;
+                }
+            }
+            if (y != 0 || x != SIZE) {
+                throw invalid(FEN_INVALID_PLACEMENT);
+            }
+        }
+
+        private void parseTurn() {
+            char symbol = next(FEN_INVALID_TURN);
+            if (symbol == 'w') {
+                turn = Color.WHITE;
+            } else if (symbol == 'b') {
+                turn = Color.BLACK;
+            } else {
+                throw invalid(FEN_INVALID_TURN);
+            }
+        }
+
+        private void parseCastling() {
+            if (peek() == '-') {
+                cursor++;
+                return;
+            }
+            while (cursor < fen.length() && fen.charAt(cursor) != ' ') {
+                CastlingRight right = switch (fen.charAt(cursor++)) {
+                    case 'K' -> CastlingRight.WHITE_KING_SIDE;
+                    case 'Q' -> CastlingRight.WHITE_QUEEN_SIDE;
+                    case 'k' -> CastlingRight.BLACK_KING_SIDE;
+                    case 'q' -> CastlingRight.BLACK_QUEEN_SIDE;
+                    default -> throw invalid(FEN_INVALID_CASTLING);
+                };
+                if ((castlingRights & right.mask()) != 0) {
+                    throw invalid(FEN_INVALID_CASTLING);
+                }
+                castlingRights |= right.mask();
+            }
+            if (castlingRights == 0) {
+                throw invalid(FEN_INVALID_CASTLING);
+            }
+        }
+
+        private void parseEnPassant() {
+            char file = next(FEN_INVALID_EN_PASSANT);
+            if (file == '-') {
+                return;
+            }
+            char rank = next(FEN_INVALID_EN_PASSANT);
+            if (file < 'a' || file > 'h' || (rank != '3' && rank != '6')) {
+                throw invalid(FEN_INVALID_EN_PASSANT);
+            }
+            enPassantTarget = Position.of(file - 'a', rank - '1');
+        }
+
+        private void parseCounters() {
+            skipSpaces();
+            if (cursor == fen.length()) {
+                return;
+            }
+            halfmoveClock = parseNumber();
+            skipSpaces();
+            if (cursor == fen.length()) {
+                return;
+            }
+            fullmoveNumber = parseNumber();
+            skipSpaces();
+            if (cursor != fen.length() || fullmoveNumber < 1) {
+                throw invalid(FEN_INVALID_COUNTER);
+            }
+        }
+
+        private int parseNumber() {
+            int start = cursor;
+            int value = 0;
+            while (cursor < fen.length() && fen.charAt(cursor) >= '0' && fen.charAt(cursor) <= '9') {
+                value = value * 10 + (fen.charAt(cursor++) - '0');
+                if (cursor - start > 6) {
+                    throw invalid(FEN_INVALID_COUNTER);
+                }
+            }
+            if (cursor == start) {
+                throw invalid(FEN_INVALID_COUNTER);
+            }
+            return value;
+        }
+
+        private Map<Position, Piece> createPieces() {
+            Map<Position, Piece> pieces = new HashMap<>();
+            int[] kings = new int[Color.values().length];
+            int[] others = new int[Color.values().length];
+            for (int index = 0; index < squares.length; index++) {
+                char symbol = squares[index];
+                if (symbol == 0) {
+                    continue;
+                }
+                Color color = Character.isUpperCase(symbol) ? Color.WHITE : Color.BLACK;
+                Type type = typeOf(symbol);
+                Position position = Position.ofIndex(index);
+                pieces.put(position, PIECES[pieceIndex(color, type, isMoved(color, type, position))]);
+                if (type == Type.KING) {
+                    kings[color.ordinal()]++;
+                } else {
+                    others[color.ordinal()]++;
+                }
+            }
+            validateMaterial(kings, others);
+            return pieces;
+        }
+
+        // MaterialSignature는 색상/종류별로 MAX_COUNT개까지 센다. 킹이 아닌 기물을 합쳐서 막아야 승진으로도 넘치지 않는다
+        private void validateMaterial(int[] kings, int[] others) {
+            for (int color = 0; color < kings.length; color++) {
+                if (kings[color] > MaterialSignature.MAX_COUNT || others[color] > MaterialSignature.MAX_COUNT) {
+                    throw invalid(FEN_TOO_MANY_PIECES);
+                }
+            }
+        }
+
+        private boolean isMoved(Color color, Type type, Position position) {
+            return switch (type) {
+                case PAWN -> position.y() != color.getPawnStartRank();
+                case KING -> !(isStartSquare(color, position, 4, 4) && hasAnyCastlingRight(color));
+                case ROOK -> !hasCastlingRightFrom(color, position);
+                case QUEEN -> !isStartSquare(color, position, 3, 3);
+                case BISHOP -> !isStartSquare(color, position, 2, 5);
+                case KNIGHT -> !isStartSquare(color, position, 1, 6);
+            };
+        }
+
+        private boolean isStartSquare(Color color, Position position, int fileA, int fileB) {
+            return position.y() == color.getPieceStartRank() && (position.x() == fileA || position.x() == fileB);
+        }
+
+        private boolean hasAnyCastlingRight(Color color) {
+            for (CastlingRight right : CastlingRight.values()) {
+                if (right.getColor() == color && (castlingRights & right.mask()) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean hasCastlingRightFrom(Color color, Position position) {
+            if (position.y() != color.getPieceStartRank()) {
+                return false;
+            }
+            for (CastlingRight right : CastlingRight.values()) {
+                if (right.getColor() == color && right.getRookX() == position.x()
+                        && (castlingRights & right.mask()) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void expectSpace(ErrorMessage errorMessage) {
+            if (cursor >= fen.length() || fen.charAt(cursor) != ' ') {
+                throw invalid(errorMessage);
+            }
+            skipSpaces();
+        }
+
+        private void skipSpaces() {
+            while (cursor < fen.length() && fen.charAt(cursor) == ' ') {
+                cursor++;
+            }
+        }
+
+        private char peek() {
+            if (cursor >= fen.length()) {
+                return 0;
+            }
+            return fen.charAt(cursor);
+        }
+
+        private char next(ErrorMessage errorMessage) {
+            if (cursor >= fen.length()) {
+                throw invalid(errorMessage);
+            }
+            return fen.charAt(cursor++);
+        }
+
+        private InvalidFenException invalid(ErrorMessage errorMessage) {
+            return new InvalidFenException(errorMessage.getMessage(fen.toString()));
+        }
+    }
+}
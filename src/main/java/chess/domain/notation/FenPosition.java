@@ -0,0 +1,28 @@
+package chess.domain.notation;
+
+import chess.domain.board.Board;
+import chess.domain.game.Game;
+import chess.domain.game.GameHistory;
+import chess.domain.piece.Color;
+
+/**
+ * FEN 한 줄을 읽은 결과. halfmoveClock은 GameHistory의 50수 카운트(반수 단위)와 같다.
+ */
+public record FenPosition(Board board, Color turn, int halfmoveClock, int fullmoveNumber) {
+
+    public Game toGame() {
+        return new Game(board, turn, toHistory());
+    }
+
+    public GameHistory toHistory() {
+        return new GameHistory(halfmoveClock, startPly());
+    }
+
+    private int startPly() {
+        int startPly = (fullmoveNumber - 1) * 2;
+        if (turn == Color.BLACK) {
+            return startPly + 1;
+        }
+        return startPly;
+    }
+}
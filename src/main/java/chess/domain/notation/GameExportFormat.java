@@ -0,0 +1,26 @@
+package chess.domain.notation;
+
+import java.io.IOException;
+
+public enum GameExportFormat {
+    PGN("application/x-chess-pgn"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    GameExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public void write(GameNotation game, Appendable out) throws IOException {
+        if (this == PGN) {
+            PgnWriter.write(game, out);
+            return;
+        }
+        NdjsonWriter.write(game, out);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,63 @@
+package chess.domain.notation;
+
+import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.game.Game;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.GameStatus;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내보내기용 기보. white와 black은 플레이어 id가 아닌 가명(PlayerPseudonyms)이고 참가하지 않은 자리는 null이다.
+ * startFen은 초기 배치에서 시작한 게임이면 null이고, moves는 SAN 수순이다
+ */
+public record GameNotation(
+        Long id,
+        String white,
+        String black,
+        GameStatus status,
+        String startFen,
+        Color startTurn,
+        int startFullmoveNumber,
+        List<String> moves
+) {
+
+    public GameNotation {
+        moves = List.copyOf(moves);
+    }
+
+    /**
+     * 게임이 시작된 국면부터 둔 수를 다시 두면서 SAN을 만든다
+     */
+    public static GameNotation of(Game game, PlayerPseudonyms pseudonyms, MoveGenerator moveGenerator,
+                                  CheckDetector checkDetector) {
+        List<MoveUndo> played = game.getHistory().getMoves();
+        String startFen = Fen.startOf(game);
+        FenPosition start = Fen.parse(startFen);
+
+        Board board = start.board();
+        List<String> moves = new ArrayList<>(played.size());
+        Color turn = start.turn();
+        for (MoveUndo move : played) {
+            short packed = PackedMove.of(move);
+            moves.add(San.format(board, turn, packed, moveGenerator, checkDetector));
+            board.makeMove(packed);
+            turn = turn.opposite();
+        }
+
+        if (startFen.equals(Fen.INITIAL)) {
+            startFen = null;
+        }
+        return new GameNotation(game.getId(), pseudonyms.of(game.getWhitePlayer()),
+                pseudonyms.of(game.getBlackPlayer()), game.getStatus(), startFen, start.turn(),
+                start.fullmoveNumber(), moves);
+    }
+
+    public PgnResult result() {
+        return PgnResult.of(status);
+    }
+}
@@ -0,0 +1,61 @@
+package chess.domain.notation;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * GameNotation을 JSON 객체 한 줄로 쓴다 (NDJSON)
+ * {"id":1,"white":"3f2a9c0e1b7d4a65","black":null,"status":"CHECKMATE_WHITE_WIN","result":"1-0","fen":null,"moves":["e4","e5"]}
+ */
+public final class NdjsonWriter {
+
+    private NdjsonWriter() {
+    }
+
+    public static void write(GameNotation game, Appendable out) throws IOException {
+        out.append("{\"id\":").append(String.valueOf(game.id()));
+        out.append(",\"white\":");
+        appendString(out, game.white());
+        out.append(",\"black\":");
+        appendString(out, game.black());
+        out.append(",\"status\":\"").append(game.status().name()).append('"');
+        out.append(",\"result\":\"").append(game.result().getSymbol()).append('"');
+        out.append(",\"fen\":");
+        appendString(out, game.startFen());
+        out.append(",\"moves\":[");
+        List<String> moves = game.moves();
+        for (int i = 0; i < moves.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            appendString(out, moves.get(i));
+        }
+        out.append("]}\n");
+    }
+
+    private static void appendString(Appendable out, String value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char symbol = value.charAt(i);
+            switch (symbol) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (symbol < 0x20) {
+                        out.append(String.format("\\u%04x", (int) symbol));
+                    } else {
+                        out.append(symbol);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
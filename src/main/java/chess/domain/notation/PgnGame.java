@@ -0,0 +1,22 @@
+package chess.domain.notation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PGN 한 게임의 태그(순서 유지)와 본 수순의 SAN 목록. 주석, 변화수, NAG는 읽을 때 버린다.
+ * result는 수순 끝의 결과 표기("1-0", "0-1", "1/2-1/2", "*")이고, 없으면 Result 태그 값이다.
+ */
+public record PgnGame(Map<String, String> tags, List<String> moves, String result) {
+
+    public PgnGame {
+        tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        moves = List.copyOf(moves);
+    }
+
+    public String tag(String name) {
+        return tags.get(name);
+    }
+}
@@ -0,0 +1,7 @@
+package chess.domain.notation;
+
+/**
+ * 가져오기에 실패한 게임. gameNumber는 파일 안에서 1부터 센 순번, ply는 실패한 수의 순번(태그 오류면 0)이다
+ */
+public record PgnImportError(long gameNumber, int ply, String move, String message) {
+}
@@ -0,0 +1,24 @@
+package chess.domain.notation;
+
+public record PgnImportReport(long games, long validGames, long plies, long elapsedNanos) {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    public long errorCount() {
+        return games - validGames;
+    }
+
+    public long gamesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return games * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    public long pliesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return plies * NANOS_PER_SECOND / elapsedNanos;
+    }
+}
@@ -0,0 +1,152 @@
+package chess.domain.notation;
+
+import static chess.common.message.ErrorMessage.PGN_RESULT_MISMATCH;
+
+import chess.common.exception.ChessException;
+import chess.domain.board.Board;
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.StatusCalculator;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * PGN 파일의 게임들을 여러 스레드에서 다시 두어 검증한다.
+ * 각 수는 SAN으로 찾은 뒤 Game.move(MovementValidator, StatusCalculator)를 그대로 거친다.
+ * 작업 큐가 가득 차면 읽는 스레드가 직접 검증하므로(CallerRunsPolicy) 메모리에 쌓이는 게임 수는 큐 크기로 제한된다.
+ * errorConsumer는 여러 작업 스레드에서 호출된다.
+ */
+public class PgnImporter {
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+    private static final Player WHITE_PLAYER = new Player("white");
+    private static final Player BLACK_PLAYER = new Player("black");
+
+    private final MovementValidator movementValidator;
+    private final StatusCalculator statusCalculator;
+    private final MoveGenerator moveGenerator;
+    private final PgnReader reader;
+
+    public PgnImporter(MovementValidator movementValidator, StatusCalculator statusCalculator,
+                       MoveGenerator moveGenerator) {
+        this(movementValidator, statusCalculator, moveGenerator, new PgnReader());
+    }
+
+    public PgnImporter(MovementValidator movementValidator, StatusCalculator statusCalculator,
+                       MoveGenerator moveGenerator, PgnReader reader) {
+        this.movementValidator = movementValidator;
+        this.statusCalculator = statusCalculator;
+        this.moveGenerator = moveGenerator;
+        this.reader = reader;
+    }
+
+    public PgnImportReport importFile(Path path, int threads, Consumer<PgnImportError> errorConsumer) {
+        AtomicLong games = new AtomicLong();
+        LongAdder validGames = new LongAdder();
+        LongAdder plies = new LongAdder();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        long start = System.nanoTime();
+        try {
+            reader.read(path, text -> {
+                long gameNumber = games.incrementAndGet();
+                executor.execute(() -> {
+                    PgnImportError error = validate(gameNumber, text, plies);
+                    if (error == null) {
+                        validGames.increment();
+                        return;
+                    }
+                    errorConsumer.accept(error);
+                });
+            });
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new PgnImportReport(games.get(), validGames.sum(), plies.sum(), elapsed);
+    }
+
+    // 한 게임을 처음부터 다시 둔다. 실패하면 실패한 수와 사유를, 성공하면 null을 돌려준다.
+    // ChessException이 아닌 예외도 그 게임의 실패로 알린다. 풀 스레드에서는 게임이 보고에서 빠지고,
+    // CallerRunsPolicy로 읽는 스레드가 실행하면 파일 읽기 전체가 멈추기 때문이다
+    private PgnImportError validate(long gameNumber, CharSequence text, LongAdder plies) {
+        PgnGame pgn;
+        Game game;
+        try {
+            pgn = PgnParser.parse(text);
+            game = createGame(pgn);
+        } catch (RuntimeException e) {
+            return new PgnImportError(gameNumber, 0, null, reason(e));
+        }
+
+        List<String> moves = pgn.moves();
+        for (int ply = 0; ply < moves.size(); ply++) {
+            String san = moves.get(ply);
+            try {
+                short move = San.parse(game.getBoard(), game.getCurrentTurn(), san, moveGenerator);
+                Player player = game.getCurrentTurn() == Color.WHITE ? WHITE_PLAYER : BLACK_PLAYER;
+                game.move(player, PackedMove.from(move), PackedMove.to(move), movementValidator, statusCalculator);
+                plies.increment();
+            } catch (RuntimeException e) {
+                return new PgnImportError(gameNumber, ply + 1, san, reason(e));
+            }
+        }
+
+        try {
+            PgnResult expected = PgnResult.from(pgn.result());
+            if (game.isFinished() && expected != PgnResult.UNKNOWN && expected != PgnResult.of(game.getStatus())) {
+                return new PgnImportError(gameNumber, moves.size(), null,
+                        PGN_RESULT_MISMATCH.getMessage(pgn.result() + " / " + game.getStatus().getDescription()));
+            }
+        } catch (RuntimeException e) {
+            return new PgnImportError(gameNumber, moves.size(), null, reason(e));
+        }
+        return null;
+    }
+
+    // 규칙 위반은 메시지만, 그 밖의 예외는 메시지가 없을 수도 있으므로 예외 이름을 함께 남긴다
+    private String reason(RuntimeException e) {
+        if (e instanceof ChessException) {
+            return e.getMessage();
+        }
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    private Game createGame(PgnGame pgn) {
+        String fen = pgn.tag("FEN");
+        Game game;
+        if (fen != null) {
+            game = Fen.parseGame(fen);
+        } else {
+            Board board = new Board();
+            board.initialize();
+            game = new Game(board);
+        }
+        game.join(WHITE_PLAYER);
+        game.join(BLACK_PLAYER);
+        return game;
+    }
+
+    private void awaitTermination(ThreadPoolExecutor executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
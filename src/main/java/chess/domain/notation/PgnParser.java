@@ -0,0 +1,151 @@
+package chess.domain.notation;
+
+import static chess.common.message.ErrorMessage.PGN_INVALID_TAG;
+
+import chess.common.exception.InvalidNotationException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PGN 한 게임(태그 + 수순)을 읽는다. 여러 게임이 이어진 파일을 나누는 일은 호출하는 쪽이 맡는다.
+ * 수순에서 수 번호("12.", "12..."), 주석({...}, ;), 변화수((...)), NAG($n)는 건너뛴다.
+ */
+public final class PgnParser {
+
+    private PgnParser() {
+    }
+
+    public static PgnGame parse(CharSequence text) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        List<String> moves = new ArrayList<>();
+        String result = null;
+
+        int cursor = 0;
+        int length = text.length();
+        int variationDepth = 0;
+        while (cursor < length) {
+            char symbol = text.charAt(cursor);
+            if (isSpace(symbol)) {
+                cursor++;
+            } else if (symbol == '[' && variationDepth == 0 && moves.isEmpty()) {
+                cursor = parseTag(text, cursor, tags);
+            } else if (symbol == '{') {
+                cursor = skipUntil(text, cursor, '}') + 1;
+            } else if (symbol == ';' || (symbol == '%' && isLineStart(text, cursor))) {
+                cursor = skipUntil(text, cursor, '\n') + 1;
+            } else if (symbol == '(') {
+                variationDepth++;
+                cursor++;
+            } else if (symbol == ')') {
+                variationDepth = Math.max(0, variationDepth - 1);
+                cursor++;
+            } else {
+                int end = tokenEnd(text, cursor);
+                if (variationDepth == 0) {
+                    String token = text.subSequence(cursor, end).toString();
+                    if (isResult(token)) {
+                        result = token;
+                    } else {
+                        addMove(token, moves);
+                    }
+                }
+                cursor = end;
+            }
+        }
+
+        if (result == null) {
+            result = tags.get("Result");
+        }
+        return new PgnGame(tags, moves, result);
+    }
+
+    private static int parseTag(CharSequence text, int start, Map<String, String> tags) {
+        int cursor = start + 1;
+        int nameStart = cursor;
+        while (cursor < text.length() && !isSpace(text.charAt(cursor)) && text.charAt(cursor) != '"') {
+            cursor++;
+        }
+        String name = text.subSequence(nameStart, cursor).toString();
+        while (cursor < text.length() && isSpace(text.charAt(cursor))) {
+            cursor++;
+        }
+        if (name.isEmpty() || cursor >= text.length() || text.charAt(cursor) != '"') {
+            throw invalidTag(text, start);
+        }
+
+        StringBuilder value = new StringBuilder();
+        cursor++;
+        while (cursor < text.length() && text.charAt(cursor) != '"') {
+            char symbol = text.charAt(cursor);
+            if (symbol == '\\' && cursor + 1 < text.length()) {
+                symbol = text.charAt(++cursor);
+            }
+            value.append(symbol);
+            cursor++;
+        }
+        int close = skipUntil(text, cursor, ']');
+        if (cursor >= text.length() || close >= text.length()) {
+            throw invalidTag(text, start);
+        }
+        tags.put(name, value.toString());
+        return close + 1;
+    }
+
+    // "12.e4", "12...Nf6"처럼 수 번호가 붙은 토큰은 번호를 떼어낸다
+    private static void addMove(String token, List<String> moves) {
+        int start = 0;
+        while (start < token.length() && Character.isDigit(token.charAt(start))) {
+            start++;
+        }
+        if (start < token.length() && token.charAt(start) == '.') {
+            while (start < token.length() && token.charAt(start) == '.') {
+                start++;
+            }
+        } else {
+            start = 0;
+        }
+        if (start == token.length() || token.charAt(start) == '$') {
+            return;
+        }
+        moves.add(start == 0 ? token : token.substring(start));
+    }
+
+    private static boolean isResult(String token) {
+        return token.equals("1-0") || token.equals("0-1") || token.equals("1/2-1/2") || token.equals("*");
+    }
+
+    private static int tokenEnd(CharSequence text, int start) {
+        int cursor = start;
+        while (cursor < text.length()) {
+            char symbol = text.charAt(cursor);
+            if (isSpace(symbol) || symbol == '{' || symbol == '(' || symbol == ')' || symbol == ';') {
+                break;
+            }
+            cursor++;
+        }
+        return cursor;
+    }
+
+    private static int skipUntil(CharSequence text, int start, char terminator) {
+        int cursor = start;
+        while (cursor < text.length() && text.charAt(cursor) != terminator) {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    private static boolean isLineStart(CharSequence text, int index) {
+        return index == 0 || text.charAt(index - 1) == '\n';
+    }
+
+    private static boolean isSpace(char symbol) {
+        return symbol == ' ' || symbol == '\n' || symbol == '\r' || symbol == '\t';
+    }
+
+    private static InvalidNotationException invalidTag(CharSequence text, int start) {
+        int end = skipUntil(text, start, '\n');
+        return new InvalidNotationException(PGN_INVALID_TAG.getMessage(text.subSequence(start, end).toString()));
+    }
+}
@@ -0,0 +1,138 @@
+package chess.domain.notation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * PGN 파일을 메모리 맵으로 읽어 게임 단위 문자열로 잘라 넘긴다.
+ * 파일 전체를 힙에 올리지 않고 window 크기만큼씩 매핑하며, 수순 뒤에 처음 나오는 '['로 시작하는 줄을 다음 게임의 시작으로 본다.
+ * 여러 줄에 걸친 주석({...}) 안의 줄은 '['로 시작해도 수순으로 본다.
+ * 한 게임이 window보다 크면 window를 두 배로 늘려 다시 매핑한다.
+ */
+public class PgnReader {
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final int windowSize;
+
+    public PgnReader() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public PgnReader(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public void read(Path path, Consumer<String> gameConsumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            read(channel, gameConsumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void read(FileChannel channel, Consumer<String> gameConsumer) throws IOException {
+        long fileSize = channel.size();
+        long base = 0;
+        int window = windowSize;
+
+        while (base < fileSize) {
+            int length = (int) Math.min(window, fileSize - base);
+            boolean isLastWindow = base + length == fileSize;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+
+            int consumed = emitGames(buffer, length, isLastWindow, gameConsumer);
+            if (consumed == 0 && !isLastWindow) {
+                window = (int) Math.min((long) window * 2, Integer.MAX_VALUE);
+                continue;
+            }
+            base += consumed;
+        }
+    }
+
+    // window 안에서 끝이 확인된 게임들을 넘기고, 넘긴 바이트 수를 돌려준다
+    private int emitGames(MappedByteBuffer buffer, int length, boolean isLastWindow, Consumer<String> gameConsumer) {
+        int gameStart = 0;
+        int lineStart = 0;
+        boolean inMovetext = false;
+        boolean inComment = false;
+
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            if (lineEnd == length && !isLastWindow) {
+                break;
+            }
+
+            byte first = firstNonSpace(buffer, lineStart, lineEnd);
+            if (inComment) {
+                inComment = scanComment(buffer, lineStart, lineEnd, true);
+            } else if (first == '[' && inMovetext) {
+                emit(buffer, gameStart, lineStart, gameConsumer);
+                gameStart = lineStart;
+                inMovetext = false;
+            } else if (first != 0 && first != '[') {
+                inMovetext = true;
+                inComment = scanComment(buffer, lineStart, lineEnd, false);
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        if (isLastWindow) {
+            emit(buffer, gameStart, length, gameConsumer);
+            return length;
+        }
+        return gameStart;
+    }
+
+    // 줄 끝에서 주석({...}) 안에 있는지 돌려준다. PGN 주석은 중첩되지 않고, ';' 뒤는 줄 끝까지 주석이라 '{'를 보지 않는다
+    private boolean scanComment(MappedByteBuffer buffer, int start, int end, boolean inComment) {
+        for (int i = start; i < end; i++) {
+            byte symbol = buffer.get(i);
+            if (inComment) {
+                inComment = symbol != '}';
+            } else if (symbol == '{') {
+                inComment = true;
+            } else if (symbol == ';') {
+                return false;
+            }
+        }
+        return inComment;
+    }
+
+    private byte firstNonSpace(MappedByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte symbol = buffer.get(i);
+            if (symbol != ' ' && symbol != '\t' && symbol != '\r') {
+                return symbol;
+            }
+        }
+        return 0;
+    }
+
+    private void emit(MappedByteBuffer buffer, int start, int end, Consumer<String> gameConsumer) {
+        if (hasContent(buffer, start, end)) {
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            gameConsumer.accept(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    private boolean hasContent(MappedByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte symbol = buffer.get(i);
+            if (symbol != ' ' && symbol != '\t' && symbol != '\r' && symbol != '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
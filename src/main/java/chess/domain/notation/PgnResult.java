@@ -0,0 +1,42 @@
+package chess.domain.notation;
+
+import chess.domain.status.GameStatus;
+
+/**
+ * PGN 결과 표기(1-0, 0-1, 1/2-1/2, *)와 GameStatus 사이의 대응
+ */
+public enum PgnResult {
+    WHITE_WIN("1-0"),
+    BLACK_WIN("0-1"),
+    DRAW("1/2-1/2"),
+    UNKNOWN("*");
+
+    private final String symbol;
+
+    PgnResult(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public static PgnResult of(GameStatus status) {
+        return switch (status) {
+            case CHECKMATE_WHITE_WIN, RESIGNATION_WHITE_WIN -> WHITE_WIN;
+            case CHECKMATE_BLACK_WIN, RESIGNATION_BLACK_WIN -> BLACK_WIN;
+            case STALEMATE_DRAW, INSUFFICIENT_MATERIAL_DRAW, FIFTY_MOVE_RULE_DRAW, REPETITION_DRAW,
+                 AGREEMENT_DRAW -> DRAW;
+            case ONGOING -> UNKNOWN;
+        };
+    }
+
+    public static PgnResult from(String symbol) {
+        for (PgnResult result : values()) {
+            if (result.symbol.equals(symbol)) {
+                return result;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+}
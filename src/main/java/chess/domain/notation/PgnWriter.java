@@ -0,0 +1,85 @@
+package chess.domain.notation;
+
+import chess.domain.piece.Color;
+import java.io.IOException;
+
+/**
+ * GameNotation을 PGN 한 게임으로 쓴다. 수순은 80자에서 줄을 바꾸고, 게임 끝에 빈 줄을 하나 둔다
+ */
+public final class PgnWriter {
+
+    private static final int LINE_WIDTH = 80;
+    private static final String UNKNOWN = "?";
+
+    private PgnWriter() {
+    }
+
+    public static void write(GameNotation game, Appendable out) throws IOException {
+        String result = game.result().getSymbol();
+        appendTag(out, "Event", UNKNOWN);
+        appendTag(out, "Site", UNKNOWN);
+        appendTag(out, "Date", "????.??.??");
+        appendTag(out, "Round", UNKNOWN);
+        appendTag(out, "White", orUnknown(game.white()));
+        appendTag(out, "Black", orUnknown(game.black()));
+        appendTag(out, "Result", result);
+        if (game.id() != null) {
+            appendTag(out, "GameId", String.valueOf(game.id()));
+        }
+        if (game.startFen() != null) {
+            appendTag(out, "SetUp", "1");
+            appendTag(out, "FEN", game.startFen());
+        }
+        out.append('\n');
+
+        StringBuilder line = new StringBuilder(LINE_WIDTH + 16);
+        int moveNumber = game.startFullmoveNumber();
+        Color turn = game.startTurn();
+        boolean isFirstMove = true;
+        for (String move : game.moves()) {
+            if (turn == Color.WHITE) {
+                appendToken(out, line, moveNumber + ".");
+            } else if (isFirstMove) {
+                appendToken(out, line, moveNumber + "...");
+            }
+            appendToken(out, line, move);
+            if (turn == Color.BLACK) {
+                moveNumber++;
+            }
+            turn = turn.opposite();
+            isFirstMove = false;
+        }
+        appendToken(out, line, result);
+        out.append(line).append("\n\n");
+    }
+
+    private static void appendToken(Appendable out, StringBuilder line, String token) throws IOException {
+        if (!line.isEmpty() && line.length() + 1 + token.length() > LINE_WIDTH) {
+            out.append(line).append('\n');
+            line.setLength(0);
+        }
+        if (!line.isEmpty()) {
+            line.append(' ');
+        }
+        line.append(token);
+    }
+
+    private static void appendTag(Appendable out, String name, String value) throws IOException {
+        out.append('[').append(name).append(" \"");
+        for (int i = 0; i < value.length(); i++) {
+            char symbol = value.charAt(i);
+            if (symbol == '"' || symbol == '\\') {
+                out.append('\\');
+            }
+            out.append(symbol);
+        }
+        out.append("\"]\n");
+    }
+
+    private static String orUnknown(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        return value;
+    }
+}
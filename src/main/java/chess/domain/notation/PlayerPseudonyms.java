@@ -0,0 +1,51 @@
+package chess.domain.notation;
+
+import chess.domain.game.Player;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 내보내는 기보에 플레이어 id 대신 쓰는 가명. 플레이어 id는 세션 id이므로 그대로 내보내면 다른 사람이 그 플레이어로 둘 수 있다.
+ * 가명은 key로 만든 HMAC-SHA256의 앞 8바이트이다. 같은 key에서는 같은 플레이어가 늘 같은 가명이 되고,
+ * key 없이는 가명에서 id를 알아내거나 추측한 id를 맞춰 볼 수 없다
+ */
+public final class PlayerPseudonyms {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+    private static final int PSEUDONYM_LENGTH = 8;
+
+    private final SecretKeySpec key;
+
+    public PlayerPseudonyms(byte[] key) {
+        this.key = new SecretKeySpec(key, ALGORITHM);
+    }
+
+    public static PlayerPseudonyms random() {
+        byte[] key = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        return new PlayerPseudonyms(key);
+    }
+
+    /**
+     * 참가하지 않은 자리(null)는 null
+     */
+    public String of(Player player) {
+        if (player == null) {
+            return null;
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(player.id().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, PSEUDONYM_LENGTH));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
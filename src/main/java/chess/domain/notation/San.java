@@ -0,0 +1,286 @@
+package chess.domain.notation;
+
+import static chess.common.message.ErrorMessage.SAN_AMBIGUOUS;
+import static chess.common.message.ErrorMessage.SAN_ILLEGAL_MOVE;
+import static chess.common.message.ErrorMessage.SAN_INVALID;
+import static chess.common.message.ErrorMessage.SAN_UNSUPPORTED_PROMOTION;
+
+import chess.common.exception.InvalidNotationException;
+import chess.common.message.ErrorMessage;
+import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.MoveType;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import chess.domain.status.CheckDetector;
+
+/**
+ * SAN(Standard Algebraic Notation) 표기와 현재 국면의 합법 수(PackedMove) 사이를 변환한다.
+ * 읽을 때는 "Nbd7", "exd5", "e8=Q", "O-O-O", "Qh4#"처럼 체크/주석 기호와 캡처 표시는 무시하고,
+ * 기물 종류, 도착 칸, 출발 칸 힌트로 합법 수 중 하나를 고른다.
+ */
+public final class San {
+
+    private static final int NONE = -1;
+
+    private San() {
+    }
+
+    public static short parse(Board board, Color turn, CharSequence san, MoveGenerator moveGenerator) {
+        Query query = Query.of(san);
+        short[] found = {PackedMove.NONE};
+        int[] matches = {0};
+
+        moveGenerator.forEachLegalPackedMove(board, turn, move -> {
+            if (query.matches(board, move)) {
+                found[0] = move;
+                matches[0]++;
+            }
+            return matches[0] < 2;
+        });
+
+        if (matches[0] == 0) {
+            throw invalid(SAN_ILLEGAL_MOVE, san);
+        }
+        if (matches[0] > 1) {
+            throw invalid(SAN_AMBIGUOUS, san);
+        }
+        return found[0];
+    }
+
+    /**
+     * 합법 수를 SAN으로 쓴다. 체크/메이트 기호를 붙이기 위해 보드에 수를 잠시 두었다가 되돌린다
+     */
+    public static String format(Board board, Color turn, short move, MoveGenerator moveGenerator,
+                                CheckDetector checkDetector) {
+        StringBuilder builder = new StringBuilder(8);
+        Position from = PackedMove.from(move);
+        Position to = PackedMove.to(move);
+        MoveType type = PackedMove.type(move);
+
+        if (type == MoveType.CASTLING) {
+            builder.append(to.x() > from.x() ? "O-O" : "O-O-O");
+        } else {
+            Type pieceType = board.getPiece(from).getType();
+            boolean isCapture = type == MoveType.EN_PASSANT || board.getPiece(to) != null;
+            if (pieceType != Type.PAWN) {
+                builder.append(letterOf(pieceType));
+                appendDisambiguation(builder, board, turn, move, pieceType, moveGenerator);
+            } else if (isCapture) {
+                builder.append(fileSymbol(from));
+            }
+            if (isCapture) {
+                builder.append('x');
+            }
+            builder.append(fileSymbol(to)).append(rankSymbol(to));
+            if (type == MoveType.PROMOTION) {
+                builder.append('=').append(letterOf(PackedMove.promotionType(move)));
+            }
+        }
+
+        MoveUndo undo = board.makeMove(move);
+        try {
+            Color opponent = turn.opposite();
+            if (checkDetector.isCheck(board, opponent)) {
+                builder.append(moveGenerator.hasLegalMove(board, opponent) ? '+' : '#');
+            }
+        } finally {
+            board.unmakeMove(undo);
+        }
+        return builder.toString();
+    }
+
+    // 같은 종류의 다른 기물도 같은 칸으로 갈 수 있으면 파일, 그래도 겹치면 랭크, 둘 다 겹치면 둘 다 쓴다
+    private static void appendDisambiguation(StringBuilder builder, Board board, Color turn, short move,
+                                             Type pieceType, MoveGenerator moveGenerator) {
+        Position from = PackedMove.from(move);
+        Position to = PackedMove.to(move);
+        boolean[] rival = new boolean[3];
+
+        moveGenerator.forEachLegalPackedMove(board, turn, candidate -> {
+            Position candidateFrom = PackedMove.from(candidate);
+            if (PackedMove.to(candidate).equals(to) && !candidateFrom.equals(from)
+                    && board.getPiece(candidateFrom).getType() == pieceType) {
+                rival[0] = true;
+                rival[1] |= candidateFrom.x() == from.x();
+                rival[2] |= candidateFrom.y() == from.y();
+            }
+            return true;
+        });
+
+        if (!rival[0]) {
+            return;
+        }
+        if (!rival[1]) {
+            builder.append(fileSymbol(from));
+            return;
+        }
+        if (!rival[2]) {
+            builder.append(rankSymbol(from));
+            return;
+        }
+        builder.append(fileSymbol(from)).append(rankSymbol(from));
+    }
+
+    private static char letterOf(Type type) {
+        return switch (type) {
+            case KING -> 'K';
+            case QUEEN -> 'Q';
+            case ROOK -> 'R';
+            case BISHOP -> 'B';
+            case KNIGHT -> 'N';
+            case PAWN -> 'P';
+        };
+    }
+
+    private static char fileSymbol(Position position) {
+        return (char) ('a' + position.x());
+    }
+
+    private static char rankSymbol(Position position) {
+        return (char) ('1' + position.y());
+    }
+
+    private static InvalidNotationException invalid(ErrorMessage errorMessage, CharSequence san) {
+        return new InvalidNotationException(errorMessage.getMessage(String.valueOf(san)));
+    }
+
+    private record Query(Type pieceType, int castlingDirection, int toIndex, int fromX, int fromY) {
+
+        private static Query of(CharSequence san) {
+            int end = san.length();
+            while (end > 0 && isSuffix(san.charAt(end - 1))) {
+                end--;
+            }
+            if (end == 0) {
+                throw invalid(SAN_INVALID, san);
+            }
+
+            int castlingDirection = castlingDirection(san, end);
+            if (castlingDirection != 0) {
+                return new Query(Type.KING, castlingDirection, NONE, NONE, NONE);
+            }
+
+            int start = 0;
+            Type pieceType = Type.PAWN;
+            Type pieceSymbol = pieceTypeOf(san.charAt(0));
+            if (pieceSymbol != null) {
+                pieceType = pieceSymbol;
+                start = 1;
+            }
+
+            end = stripPromotion(san, end, pieceType);
+            if (end - start < 2) {
+                throw invalid(SAN_INVALID, san);
+            }
+            int toX = fileOf(san.charAt(end - 2));
+            int toY = rankOf(san.charAt(end - 1));
+            if (toX == NONE || toY == NONE) {
+                throw invalid(SAN_INVALID, san);
+            }
+
+            int fromX = NONE;
+            int fromY = NONE;
+            for (int i = start; i < end - 2; i++) {
+                char symbol = san.charAt(i);
+                if (fileOf(symbol) != NONE) {
+                    fromX = fileOf(symbol);
+                } else if (rankOf(symbol) != NONE) {
+                    fromY = rankOf(symbol);
+                } else if (symbol != 'x' && symbol != '-' && symbol != ':') {
+                    throw invalid(SAN_INVALID, san);
+                }
+            }
+            return new Query(pieceType, 0, toY * 8 + toX, fromX, fromY);
+        }
+
+        // 승진 표기(e8=Q, e8Q)를 떼어낸 끝 위치. 이 도메인은 퀸 승진만 지원한다
+        private static int stripPromotion(CharSequence san, int end, Type pieceType) {
+            if (pieceType != Type.PAWN) {
+                return end;
+            }
+            Type promotionType = pieceTypeOf(san.charAt(end - 1));
+            if (promotionType == null || promotionType == Type.PAWN) {
+                return end;
+            }
+            if (promotionType != Type.QUEEN) {
+                throw invalid(SAN_UNSUPPORTED_PROMOTION, san);
+            }
+            end--;
+            if (end > 0 && san.charAt(end - 1) == '=') {
+                end--;
+            }
+            return end;
+        }
+
+        private static int castlingDirection(CharSequence san, int end) {
+            int castles = 0;
+            for (int i = 0; i < end; i++) {
+                char symbol = san.charAt(i);
+                if (symbol == 'O' || symbol == '0') {
+                    castles++;
+                } else if (symbol != '-') {
+                    return 0;
+                }
+            }
+            if (castles == 2) {
+                return 1;
+            }
+            if (castles == 3) {
+                return -1;
+            }
+            return 0;
+        }
+
+        private boolean matches(Board board, short move) {
+            if (castlingDirection != 0) {
+                return PackedMove.type(move) == MoveType.CASTLING
+                        && Integer.compare(PackedMove.to(move).x(), PackedMove.from(move).x()) == castlingDirection;
+            }
+            Position to = PackedMove.to(move);
+            if (to.index() != toIndex) {
+                return false;
+            }
+            Position from = PackedMove.from(move);
+            if ((fromX != NONE && from.x() != fromX) || (fromY != NONE && from.y() != fromY)) {
+                return false;
+            }
+            Piece piece = board.getPiece(from);
+            return piece.getType() == pieceType && PackedMove.type(move) != MoveType.CASTLING;
+        }
+
+        private static boolean isSuffix(char symbol) {
+            return symbol == '+' || symbol == '#' || symbol == '!' || symbol == '?';
+        }
+
+        private static int fileOf(char symbol) {
+            if (symbol >= 'a' && symbol <= 'h') {
+                return symbol - 'a';
+            }
+            return NONE;
+        }
+
+        private static int rankOf(char symbol) {
+            if (symbol >= '1' && symbol <= '8') {
+                return symbol - '1';
+            }
+            return NONE;
+        }
+
+        private static Type pieceTypeOf(char symbol) {
+            return switch (symbol) {
+                case 'K' -> Type.KING;
+                case 'Q' -> Type.QUEEN;
+                case 'R' -> Type.ROOK;
+                case 'B' -> Type.BISHOP;
+                case 'N' -> Type.KNIGHT;
+                case 'P' -> Type.PAWN;
+                default -> null;
+            };
+        }
+    }
+}
@@ -1,13 +1,43 @@
 package chess.domain.status;
 
+import chess.domain.board.Bitboards;
 import chess.domain.board.Board;
 import chess.domain.board.Position;
 import chess.domain.piece.Color;
 import chess.domain.piece.Piece;
 import chess.domain.piece.Type;
+import java.util.Arrays;
 
+/**
+ * 공격 여부는 대상 칸에서 바깥으로 찾는다: 나이트/킹 오프셋, 폰 대각선, 첫 기물에서 멈추는 직선/대각선.
+ * 오프셋과 방향별 칸 순서는 미리 계산해 두어 조회 중에는 객체를 만들지 않는다.
+ */
 public class CheckDetector {
 
+    private static final int SIZE = 8;
+    private static final int SQUARES = SIZE * SIZE;
+
+    private static final int[][] KNIGHT_OFFSETS = {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1},
+            {-1, 2}};
+    private static final int[][] KING_OFFSETS = {{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1},
+            {1, -1}};
+    private static final int[][] ORTHOGONAL_DIRECTIONS = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+    private static final int[][] DIAGONAL_DIRECTIONS = {{1, 1}, {-1, 1}, {-1, -1}, {1, -1}};
+
+    private static final int[][] KNIGHT_SQUARES = new int[SQUARES][];
+    private static final int[][] KING_SQUARES = new int[SQUARES][];
+    private static final int[][][] ORTHOGONAL_RAYS = new int[SQUARES][][];
+    private static final int[][][] DIAGONAL_RAYS = new int[SQUARES][][];
+
+    static {
+        for (int index = 0; index < SQUARES; index++) {
+            KNIGHT_SQUARES[index] = steps(index, KNIGHT_OFFSETS);
+            KING_SQUARES[index] = steps(index, KING_OFFSETS);
+            ORTHOGONAL_RAYS[index] = rays(index, ORTHOGONAL_DIRECTIONS);
+            DIAGONAL_RAYS[index] = rays(index, DIAGONAL_DIRECTIONS);
+        }
+    }
+
     public boolean isCheck(Board board, Color kingColor) {
         Position kingPosition = board.findKingPosition(kingColor);
         if (kingPosition == null) {
@@ -17,17 +47,132 @@ public class CheckDetector {
     }
 
     public boolean isSquareAttacked(Board board, Position targetPosition, Color attackerColor) {
-        return board.getPiecesByTeam(attackerColor).entrySet().stream()
-                .anyMatch(entry -> isAttackValid(entry.getKey(), targetPosition, board, entry.getValue()));
+        return findAttackers(board, targetPosition.index(), attackerColor, true) != Bitboards.EMPTY;
     }
 
-    private boolean isAttackValid(Position from, Position target, Board board, Piece attackerPiece) {
-        if (!attackerPiece.isMoveValid(from, target, board)) {
-            return false;
+    /**
+     * targetPosition을 공격하는 attackerColor 기물들의 칸 마스크
+     */
+    public long getAttackers(Board board, Position targetPosition, Color attackerColor) {
+        return findAttackers(board, targetPosition.index(), attackerColor, false);
+    }
+
+    private long findAttackers(Board board, int target, Color attackerColor, boolean firstOnly) {
+        long attackers = Bitboards.EMPTY;
+
+        attackers |= findStepAttackers(board, KNIGHT_SQUARES[target], attackerColor, Type.KNIGHT, firstOnly);
+        if (firstOnly && attackers != Bitboards.EMPTY) {
+            return attackers;
         }
-        if (attackerPiece.getType() != Type.KNIGHT && board.hasObstacleInPath(from, target)) {
-            return false;
+        attackers |= findPawnAttackers(board, target, attackerColor, firstOnly);
+        if (firstOnly && attackers != Bitboards.EMPTY) {
+            return attackers;
+        }
+        attackers |= findStepAttackers(board, KING_SQUARES[target], attackerColor, Type.KING, firstOnly);
+        if (firstOnly && attackers != Bitboards.EMPTY) {
+            return attackers;
+        }
+        attackers |= findSlidingAttackers(board, ORTHOGONAL_RAYS[target], attackerColor, Type.ROOK, firstOnly);
+        if (firstOnly && attackers != Bitboards.EMPTY) {
+            return attackers;
+        }
+        attackers |= findSlidingAttackers(board, DIAGONAL_RAYS[target], attackerColor, Type.BISHOP, firstOnly);
+        return attackers;
+    }
+
+    private long findStepAttackers(Board board, int[] squares, Color attackerColor, Type type, boolean firstOnly) {
+        long attackers = Bitboards.EMPTY;
+        for (int square : squares) {
+            if (isPiece(board.getPiece(Position.ofIndex(square)), attackerColor, type)) {
+                attackers |= Bitboards.bit(square);
+                if (firstOnly) {
+                    return attackers;
+                }
+            }
+        }
+        return attackers;
+    }
+
+    // attackerColor의 폰은 자신의 진행 방향 대각선 앞을 공격하므로, 대상 칸의 반대 방향 대각선 뒤를 본다
+    private long findPawnAttackers(Board board, int target, Color attackerColor, boolean firstOnly) {
+        int y = target / SIZE - attackerColor.getDirection();
+        if (y < 0 || y >= SIZE) {
+            return Bitboards.EMPTY;
+        }
+
+        long attackers = Bitboards.EMPTY;
+        int targetX = target % SIZE;
+        for (int x = targetX - 1; x <= targetX + 1; x += 2) {
+            if (x < 0 || x >= SIZE) {
+                continue;
+            }
+            int square = y * SIZE + x;
+            if (isPiece(board.getPiece(Position.ofIndex(square)), attackerColor, Type.PAWN)) {
+                attackers |= Bitboards.bit(square);
+                if (firstOnly) {
+                    return attackers;
+                }
+            }
+        }
+        return attackers;
+    }
+
+    private long findSlidingAttackers(Board board, int[][] rays, Color attackerColor, Type sliderType,
+                                      boolean firstOnly) {
+        long attackers = Bitboards.EMPTY;
+        for (int[] ray : rays) {
+            for (int square : ray) {
+                Piece piece = board.getPiece(Position.ofIndex(square));
+                if (piece == null) {
+                    continue;
+                }
+                if (isPiece(piece, attackerColor, sliderType) || isPiece(piece, attackerColor, Type.QUEEN)) {
+                    attackers |= Bitboards.bit(square);
+                    if (firstOnly) {
+                        return attackers;
+                    }
+                }
+                break;
+            }
+        }
+        return attackers;
+    }
+
+    private boolean isPiece(Piece piece, Color color, Type type) {
+        return piece != null && piece.getColor() == color && piece.getType() == type;
+    }
+
+    private static int[] steps(int index, int[][] offsets) {
+        int x = index % SIZE;
+        int y = index / SIZE;
+        return Arrays.stream(offsets)
+                .filter(offset -> isInside(x + offset[0], y + offset[1]))
+                .mapToInt(offset -> (y + offset[1]) * SIZE + x + offset[0])
+                .toArray();
+    }
+
+    private static int[][] rays(int index, int[][] directions) {
+        int[][] rays = new int[directions.length][];
+        for (int i = 0; i < directions.length; i++) {
+            rays[i] = ray(index, directions[i]);
         }
-        return true;
+        return rays;
+    }
+
+    private static int[] ray(int index, int[] direction) {
+        int x = index % SIZE + direction[0];
+        int y = index / SIZE + direction[1];
+        int length = 0;
+        int[] squares = new int[SIZE - 1];
+        while (isInside(x, y)) {
+            squares[length++] = y * SIZE + x;
+            x += direction[0];
+            y += direction[1];
+        }
+        return Arrays.copyOf(squares, length);
+    }
+
+    private static boolean isInside(int x, int y) {
+        return x >= 0 && x < SIZE && y >= 0 && y < SIZE;
     }
-}
\ No newline at end of file
+}
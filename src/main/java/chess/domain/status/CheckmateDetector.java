@@ -20,4 +20,8 @@ public class CheckmateDetector {
         return checkDetector.isCheck(board, currentTurn) &&
                 !movementValidator.anyPieceHasLegalMove(board, currentTurn);
     }
+
+    public boolean isCheckmate(PositionAnalysis analysis) {
+        return analysis.inCheck() && !analysis.hasLegalMove();
+    }
 }
\ No newline at end of file
@@ -1,72 +1,90 @@
 package chess.domain.status;
 
-import chess.domain.board.Board;
+import chess.domain.board.MaterialSignature;
 import chess.domain.game.Game;
 import chess.domain.piece.Color;
-import chess.domain.piece.Piece;
 import chess.domain.piece.Type;
-import java.util.List;
 
+/**
+ * 폰/룩/퀸이 없고 양쪽에 킹이 하나씩 있으면, 색상별 나이트 수와 칸 색별 비숍 수(3 이상은 3으로 묶음)로
+ * 미리 계산해 둔 표를 조회해 판정한다.
+ */
 public class InsufficientMaterialDetector {
 
-    public boolean isInsufficientMaterial(Game game) {
-        Board board = game.getBoard();
-        List<Piece> whitePieces = board.getPiecesByTeam(Color.WHITE).values().stream().toList();
-        List<Piece> blackPieces = board.getPiecesByTeam(Color.BLACK).values().stream().toList();
+    private static final int CAP = 3;
+    private static final int RADIX = CAP + 1;
+    private static final boolean[] INSUFFICIENT = new boolean[RADIX * RADIX * RADIX * RADIX * RADIX * RADIX];
 
-        if (kingVsKing(whitePieces, blackPieces) ||
-                kingVsKingAndMinor(whitePieces, blackPieces) ||
-                kingAndMinorVsKingAndMinor(whitePieces, blackPieces) ||
-                kingVsKingAndTwoKnights(whitePieces, blackPieces)) {
-            return true;
+    static {
+        for (int index = 0; index < INSUFFICIENT.length; index++) {
+            int[] counts = decode(index);
+            INSUFFICIENT[index] = isInsufficient(counts[0], counts[1], counts[2], counts[3], counts[4], counts[5]);
         }
-
-        return false;
-    }
-
-    private boolean kingVsKingAndTwoKnights(List<Piece> whitePieces, List<Piece> blackPieces) {
-        return (hasOnlyKing(whitePieces) && hasKingAndTwoKnights(blackPieces)) ||
-                (hasOnlyKing(blackPieces) && hasKingAndTwoKnights(whitePieces));
     }
 
-    private boolean kingAndMinorVsKingAndMinor(List<Piece> whitePieces, List<Piece> blackPieces) {
-        return hasKingAndOneMinorPiece(whitePieces) && hasKingAndOneMinorPiece(blackPieces);
-    }
-
-    private boolean kingVsKingAndMinor(List<Piece> whitePieces, List<Piece> blackPieces) {
-        return (hasOnlyKing(whitePieces) && hasKingAndOneMinorPiece(blackPieces)) ||
-                (hasOnlyKing(blackPieces) && hasKingAndOneMinorPiece(whitePieces));
+    public boolean isInsufficientMaterial(Game game) {
+        return isInsufficientMaterial(game.getBoard().getMaterialSignature());
     }
 
-    private boolean kingVsKing(List<Piece> whitePieces, List<Piece> blackPieces) {
-        return hasOnlyKing(whitePieces) && hasOnlyKing(blackPieces);
+    public boolean isInsufficientMaterial(MaterialSignature material) {
+        if (hasMatingMaterial(material, Color.WHITE) || hasMatingMaterial(material, Color.BLACK)) {
+            return false;
+        }
+        if (material.count(Color.WHITE, Type.KING) != 1 || material.count(Color.BLACK, Type.KING) != 1) {
+            return false;
+        }
+        return INSUFFICIENT[encode(material)];
     }
 
-    private boolean hasOnlyKing(List<Piece> pieces) {
-        return pieces.size() == 1 && hasKing(pieces);
+    private boolean hasMatingMaterial(MaterialSignature material, Color color) {
+        return material.count(color, Type.PAWN) > 0
+                || material.count(color, Type.ROOK) > 0
+                || material.count(color, Type.QUEEN) > 0;
     }
 
-    private boolean hasKingAndOneMinorPiece(List<Piece> pieces) {
-        return pieces.size() == 2 && hasKing(pieces) && hasMinorPiece(pieces);
+    private static int encode(MaterialSignature material) {
+        int index = 0;
+        for (Color color : Color.values()) {
+            index = index * RADIX + cap(material.count(color, Type.KNIGHT));
+            index = index * RADIX + cap(material.bishopCount(color, true));
+            index = index * RADIX + cap(material.bishopCount(color, false));
+        }
+        return index;
     }
 
-    private boolean hasKingAndTwoKnights(List<Piece> pieces) {
-        return pieces.size() == 3 && hasKing(pieces) && countKnights(pieces) == 2;
+    private static int[] decode(int index) {
+        int[] counts = new int[6];
+        int remaining = index;
+        for (int i = counts.length - 1; i >= 0; i--) {
+            counts[i] = remaining % RADIX;
+            remaining /= RADIX;
+        }
+        return counts;
     }
 
-    private boolean hasKing(List<Piece> pieces) {
-        return pieces.stream()
-                .anyMatch(p -> p.getType() == Type.KING);
+    private static int cap(int count) {
+        return Math.min(count, CAP);
     }
 
-    private boolean hasMinorPiece(List<Piece> pieces) {
-        return pieces.stream()
-                .anyMatch(Piece::isMinor);
-    }
+    // 킹 vs 킹, 킹 vs 킹 + 마이너 기물, 킹 + 마이너 기물 vs 킹 + 마이너 기물, 킹 vs 킹 + 나이트 2개,
+    // 나이트 없이 모든 비숍이 같은 색 칸에 있는 경우
+    private static boolean isInsufficient(int whiteKnights, int whiteLightBishops, int whiteDarkBishops,
+                                          int blackKnights, int blackLightBishops, int blackDarkBishops) {
+        int whiteMinors = whiteKnights + whiteLightBishops + whiteDarkBishops;
+        int blackMinors = blackKnights + blackLightBishops + blackDarkBishops;
 
-    private int countKnights(List<Piece> pieces) {
-        return (int) pieces.stream()
-                .filter(p -> p.getType() == Type.KNIGHT)
-                .count();
+        if (whiteMinors <= 1 && blackMinors <= 1) {
+            return true;
+        }
+        if (whiteMinors == 0 && blackKnights == 2 && blackMinors == 2) {
+            return true;
+        }
+        if (blackMinors == 0 && whiteKnights == 2 && whiteMinors == 2) {
+            return true;
+        }
+        boolean noKnights = whiteKnights == 0 && blackKnights == 0;
+        boolean noLightBishops = whiteLightBishops == 0 && blackLightBishops == 0;
+        boolean noDarkBishops = whiteDarkBishops == 0 && blackDarkBishops == 0;
+        return noKnights && (noLightBishops || noDarkBishops);
     }
-}
\ No newline at end of file
+}
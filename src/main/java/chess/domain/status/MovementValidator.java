@@ -1,80 +1,89 @@
 package chess.domain.status;
 
-import static chess.common.message.ErrorMessage.CASTLING_IN_CHECK;
-import static chess.common.message.ErrorMessage.CASTLING_KING_MOVED;
-import static chess.common.message.ErrorMessage.CASTLING_PATH_ATTACKED;
-import static chess.common.message.ErrorMessage.CASTLING_PATH_BLOCKED;
-import static chess.common.message.ErrorMessage.CASTLING_ROOK_MOVED;
-import static chess.common.message.ErrorMessage.CASTLING_ROOK_NOT_FOUND;
-import static chess.common.message.ErrorMessage.PIECE_NOT_FOUND;
-import static chess.common.message.ErrorMessage.RULE_FRIENDLY_FIRE;
-import static chess.common.message.ErrorMessage.RULE_INVALID_PIECE_MOVE;
-import static chess.common.message.ErrorMessage.RULE_KING_IN_CHECK_AFTER_MOVE;
-import static chess.common.message.ErrorMessage.RULE_PATH_BLOCKED;
-import static chess.common.message.ErrorMessage.RULE_SAME_POSITION_MOVE;
-import static chess.common.message.ErrorMessage.RULE_WRONG_TURN_PIECE;
-
-import chess.common.exception.ChessException;
-import chess.common.exception.IllegalMoveException;
-import chess.common.exception.PieceNotFoundException;
-import chess.common.exception.RuleViolationException;
 import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
 import chess.domain.board.Position;
+import chess.domain.move.MoveGenerator;
 import chess.domain.piece.Color;
 import chess.domain.piece.Piece;
 import chess.domain.piece.Type;
-import java.util.stream.IntStream;
 
 public class MovementValidator {
 
     private final CheckDetector checkDetector;
+    private final MoveGenerator moveGenerator;
 
     public MovementValidator(CheckDetector checkDetector) {
+        this(checkDetector, new MoveGenerator(checkDetector));
+    }
+
+    public MovementValidator(CheckDetector checkDetector, MoveGenerator moveGenerator) {
         this.checkDetector = checkDetector;
+        this.moveGenerator = moveGenerator;
     }
 
     public void validate(Position from, Position to, Board board, Color currentTurn) {
+        evaluate(from, to, board, currentTurn).throwIfIllegal();
+    }
+
+    /**
+     * validate와 같은 규칙을 검사하되, 예외를 만들지 않고 위반한 규칙을 반환
+     */
+    public ValidationResult evaluate(Position from, Position to, Board board, Color currentTurn) {
         Piece piece = board.getPiece(from);
 
-        validatePiece(currentTurn, piece);
-        validateDestination(from, to, board, piece);
+        ValidationResult result = evaluatePiece(currentTurn, piece);
+        if (!result.isLegal()) {
+            return result;
+        }
+
+        result = evaluateDestination(from, to, board, piece);
+        if (!result.isLegal()) {
+            return result;
+        }
 
         if (isCastling(piece, from, to)) {
-            validateCastling(from, to, board, piece);
+            result = evaluateCastling(from, to, board, piece);
+            if (!result.isLegal()) {
+                return result;
+            }
         }
 
         if (piece.getType() != Type.KNIGHT && board.hasObstacleInPath(from, to)) {
-            throw new RuleViolationException(RULE_PATH_BLOCKED.getMessage());
+            return ValidationResult.RULE_PATH_BLOCKED;
         }
 
         if (isKingInCheckAfterMove(from, to, board, currentTurn)) {
-            throw new IllegalMoveException(RULE_KING_IN_CHECK_AFTER_MOVE.getMessage());
+            return ValidationResult.RULE_KING_IN_CHECK_AFTER_MOVE;
         }
+        return ValidationResult.LEGAL;
     }
 
-    private static void validatePiece(Color currentTurn, Piece piece) {
+    private static ValidationResult evaluatePiece(Color currentTurn, Piece piece) {
         if (piece == null) {
-            throw new PieceNotFoundException(PIECE_NOT_FOUND.getMessage());
+            return ValidationResult.PIECE_NOT_FOUND;
         }
 
         if (piece.getColor() != currentTurn) {
-            throw new RuleViolationException(RULE_WRONG_TURN_PIECE.getMessage());
+            return ValidationResult.RULE_WRONG_TURN_PIECE;
         }
+        return ValidationResult.LEGAL;
     }
 
-    private static void validateDestination(Position from, Position to, Board board, Piece piece) {
+    private static ValidationResult evaluateDestination(Position from, Position to, Board board, Piece piece) {
         if (from.equals(to)) {
-            throw new RuleViolationException(RULE_SAME_POSITION_MOVE.getMessage());
+            return ValidationResult.RULE_SAME_POSITION_MOVE;
         }
 
         Piece target = board.getPiece(to);
         if (target != null && target.getColor() == piece.getColor()) {
-            throw new RuleViolationException(RULE_FRIENDLY_FIRE.getMessage());
+            return ValidationResult.RULE_FRIENDLY_FIRE;
         }
 
         if (!piece.isMoveValid(from, to, board)) {
-            throw new RuleViolationException(RULE_INVALID_PIECE_MOVE.getMessage());
+            return ValidationResult.RULE_INVALID_PIECE_MOVE;
         }
+        return ValidationResult.LEGAL;
     }
 
     private boolean isCastling(Piece piece, Position from, Position to) {
@@ -83,43 +92,51 @@ public class MovementValidator {
         return piece.getType() == Type.KING && dx == 2 && dy == 0;
     }
 
-    private void validateCastling(Position from, Position to, Board board, Piece king) {
-        validateKing(board, king);
+    private ValidationResult evaluateCastling(Position from, Position to, Board board, Piece king) {
+        ValidationResult result = evaluateKing(board, king);
+        if (!result.isLegal()) {
+            return result;
+        }
 
         int direction = getDirection(from, to);
         Position rookPosition = getRookPosition(from, to);
         Piece rook = board.getPiece(rookPosition);
 
-        validateRook(king, rook);
+        result = evaluateRook(king, rook);
+        if (!result.isLegal()) {
+            return result;
+        }
 
         if (board.hasObstacleInPath(from, rookPosition)) {
-            throw new IllegalMoveException(CASTLING_PATH_BLOCKED.getMessage());
+            return ValidationResult.CASTLING_PATH_BLOCKED;
         }
 
         Position nextSquare = Position.of(from.x() + direction, from.y());
         Color opponentColor = king.getColor().opposite();
 
-        validateNotAttacked(to, board, nextSquare, opponentColor);
+        return evaluateNotAttacked(to, board, nextSquare, opponentColor);
     }
 
-    private void validateNotAttacked(Position to, Board board, Position nextSquare, Color opponentColor) {
+    private ValidationResult evaluateNotAttacked(Position to, Board board, Position nextSquare, Color opponentColor) {
         if (checkDetector.isSquareAttacked(board, nextSquare, opponentColor)) {
-            throw new IllegalMoveException(CASTLING_PATH_ATTACKED.getMessage());
+            return ValidationResult.CASTLING_PATH_ATTACKED;
         }
 
         if (checkDetector.isSquareAttacked(board, to, opponentColor)) {
-            throw new IllegalMoveException(RULE_KING_IN_CHECK_AFTER_MOVE.getMessage());
+            return ValidationResult.RULE_KING_IN_CHECK_AFTER_MOVE;
         }
+        return ValidationResult.LEGAL;
     }
 
-    private void validateRook(Piece king, Piece rook) {
+    private ValidationResult evaluateRook(Piece king, Piece rook) {
         if (rook == null || rook.getType() != Type.ROOK || rook.getColor() != king.getColor()) {
-            throw new IllegalMoveException(CASTLING_ROOK_NOT_FOUND.getMessage());
+            return ValidationResult.CASTLING_ROOK_NOT_FOUND;
         }
 
         if (rook.isMoved()) {
-            throw new IllegalMoveException(CASTLING_ROOK_MOVED.getMessage());
+            return ValidationResult.CASTLING_ROOK_MOVED;
         }
+        return ValidationResult.LEGAL;
     }
 
     private Position getRookPosition(Position from, Position to) {
@@ -136,48 +153,31 @@ public class MovementValidator {
         return -1;
     }
 
-    private void validateKing(Board board, Piece king) {
+    private ValidationResult evaluateKing(Board board, Piece king) {
         if (king.isMoved()) {
-            throw new IllegalMoveException(CASTLING_KING_MOVED.getMessage());
+            return ValidationResult.CASTLING_KING_MOVED;
         }
 
         if (checkDetector.isCheck(board, king.getColor())) {
-            throw new IllegalMoveException(CASTLING_IN_CHECK.getMessage());
+            return ValidationResult.CASTLING_IN_CHECK;
         }
+        return ValidationResult.LEGAL;
     }
 
     public boolean isLegalMove(Position from, Position to, Board board, Color currentTurn) {
-        try {
-            validate(from, to, board, currentTurn);
-        } catch (ChessException e) {
-            return false;
-        }
-        return true;
+        return evaluate(from, to, board, currentTurn).isLegal();
     }
 
     private boolean isKingInCheckAfterMove(Position from, Position to, Board board, Color kingColor) {
-        Board virtualBoard = board.movePieceVirtually(from, to);
-
-        return checkDetector.isCheck(virtualBoard, kingColor);
+        MoveUndo undo = board.makeMove(from, to);
+        try {
+            return checkDetector.isCheck(board, kingColor);
+        } finally {
+            board.unmakeMove(undo);
+        }
     }
 
     public boolean anyPieceHasLegalMove(Board board, Color currentColor) {
-        return board.getPiecesByTeam(currentColor).entrySet().stream()
-                .anyMatch(entry -> {
-                    Position from = entry.getKey();
-
-                    return pieceHasLegalMove(from, board, currentColor);
-                });
-    }
-
-    private boolean pieceHasLegalMove(Position from, Board board, Color currentColor) {
-        return IntStream.rangeClosed(0, 7)
-                .anyMatch(x -> IntStream.rangeClosed(0, 7)
-                        .anyMatch(y -> {
-                            Position to = Position.of(x, y);
-
-                            return isLegalMove(from, to, board, currentColor);
-                        })
-                );
+        return moveGenerator.hasLegalMove(board, currentColor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package chess.domain.status;
+
+import chess.domain.board.MaterialSignature;
+
+/**
+ * 한 번의 이동 뒤, 다음 차례 기준으로 한 번만 계산해 모든 판정기가 공유하는 국면 정보
+ */
+public record PositionAnalysis(
+        boolean inCheck,
+        boolean hasLegalMove,
+        MaterialSignature material,
+        int repetitionCount
+) {
+}
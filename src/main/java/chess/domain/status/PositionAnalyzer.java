@@ -0,0 +1,29 @@
+package chess.domain.status;
+
+import chess.domain.board.Board;
+import chess.domain.game.Game;
+import chess.domain.move.MoveGenerator;
+import chess.domain.piece.Color;
+
+public class PositionAnalyzer {
+
+    private final CheckDetector checkDetector;
+    private final MoveGenerator moveGenerator;
+
+    public PositionAnalyzer(CheckDetector checkDetector, MoveGenerator moveGenerator) {
+        this.checkDetector = checkDetector;
+        this.moveGenerator = moveGenerator;
+    }
+
+    public PositionAnalysis analyze(Game game) {
+        Board board = game.getBoard();
+        Color currentTurn = game.getCurrentTurn();
+
+        return new PositionAnalysis(
+                checkDetector.isCheck(board, currentTurn),
+                moveGenerator.hasLegalMove(board, currentTurn),
+                board.getMaterialSignature(),
+                game.getHistory().getRepetitionCount(board, currentTurn)
+        );
+    }
+}
@@ -16,4 +16,8 @@ public class RepetitionDetector {
 
         return history.getRepetitionCount(board, currentTurn) >= REPETITION_LIMIT;
     }
+
+    public boolean isRepetition(PositionAnalysis analysis) {
+        return analysis.repetitionCount() >= REPETITION_LIMIT;
+    }
 }
\ No newline at end of file
@@ -20,4 +20,8 @@ public class StalemateDetector {
         return !checkDetector.isCheck(board, currentTurn) &&
                 !movementValidator.anyPieceHasLegalMove(board, currentTurn);
     }
+
+    public boolean isStalemate(PositionAnalysis analysis) {
+        return !analysis.inCheck() && !analysis.hasLegalMove();
+    }
 }
\ No newline at end of file
@@ -10,23 +10,29 @@ public class StatusCalculator {
     private final FiftyMoveDetector fiftyMoveDetector;
     private final RepetitionDetector repetitionDetector;
     private final InsufficientMaterialDetector insufficientMaterialDetector;
+    private final PositionAnalyzer positionAnalyzer;
 
     public StatusCalculator(
             CheckmateDetector checkmateDetector,
             StalemateDetector stalemateDetector,
             FiftyMoveDetector fiftyMoveDetector,
             RepetitionDetector repetitionDetector,
-            InsufficientMaterialDetector insufficientMaterialDetector
+            InsufficientMaterialDetector insufficientMaterialDetector,
+            PositionAnalyzer positionAnalyzer
     ) {
         this.checkmateDetector = checkmateDetector;
         this.stalemateDetector = stalemateDetector;
         this.fiftyMoveDetector = fiftyMoveDetector;
         this.repetitionDetector = repetitionDetector;
         this.insufficientMaterialDetector = insufficientMaterialDetector;
+        this.positionAnalyzer = positionAnalyzer;
     }
 
     public GameStatus calculateNextStatus(Game game) {
-        if (checkmateDetector.isCheckmate(game)) {
+        // 체크 여부와 합법 수 탐색은 비싸므로 한 번만 계산해 모든 판정기가 공유한다
+        PositionAnalysis analysis = positionAnalyzer.analyze(game);
+
+        if (checkmateDetector.isCheckmate(analysis)) {
             Color nextTurn = game.getCurrentTurn();
             if (nextTurn == Color.WHITE) {
                 return GameStatus.CHECKMATE_BLACK_WIN;
@@ -34,7 +40,7 @@ public class StatusCalculator {
             return GameStatus.CHECKMATE_WHITE_WIN;
         }
 
-        if (stalemateDetector.isStalemate(game)) {
+        if (stalemateDetector.isStalemate(analysis)) {
             return GameStatus.STALEMATE_DRAW;
         }
 
@@ -42,11 +48,11 @@ public class StatusCalculator {
             return GameStatus.FIFTY_MOVE_RULE_DRAW;
         }
 
-        if (repetitionDetector.isRepetition(game)) {
+        if (repetitionDetector.isRepetition(analysis)) {
             return GameStatus.REPETITION_DRAW;
         }
 
-        if (insufficientMaterialDetector.isInsufficientMaterial(game)) {
+        if (insufficientMaterialDetector.isInsufficientMaterial(analysis.material())) {
             return GameStatus.INSUFFICIENT_MATERIAL_DRAW;
         }
 
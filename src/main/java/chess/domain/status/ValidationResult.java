@@ -0,0 +1,54 @@
+package chess.domain.status;
+
+import chess.common.exception.ChessException;
+import chess.common.exception.IllegalMoveException;
+import chess.common.exception.PieceNotFoundException;
+import chess.common.exception.RuleViolationException;
+import chess.common.message.ErrorMessage;
+import java.util.function.Function;
+
+/**
+ * 이동 검증 결과. 위반한 규칙과, 요청 경로에서 던질 예외 종류를 함께 가진다.
+ */
+public enum ValidationResult {
+    LEGAL(null, null),
+
+    PIECE_NOT_FOUND(ErrorMessage.PIECE_NOT_FOUND, PieceNotFoundException::new),
+
+    RULE_WRONG_TURN_PIECE(ErrorMessage.RULE_WRONG_TURN_PIECE, RuleViolationException::new),
+    RULE_SAME_POSITION_MOVE(ErrorMessage.RULE_SAME_POSITION_MOVE, RuleViolationException::new),
+    RULE_FRIENDLY_FIRE(ErrorMessage.RULE_FRIENDLY_FIRE, RuleViolationException::new),
+    RULE_INVALID_PIECE_MOVE(ErrorMessage.RULE_INVALID_PIECE_MOVE, RuleViolationException::new),
+    RULE_PATH_BLOCKED(ErrorMessage.RULE_PATH_BLOCKED, RuleViolationException::new),
+    RULE_KING_IN_CHECK_AFTER_MOVE(ErrorMessage.RULE_KING_IN_CHECK_AFTER_MOVE, IllegalMoveException::new),
+
+    CASTLING_KING_MOVED(ErrorMessage.CASTLING_KING_MOVED, IllegalMoveException::new),
+    CASTLING_IN_CHECK(ErrorMessage.CASTLING_IN_CHECK, IllegalMoveException::new),
+    CASTLING_ROOK_NOT_FOUND(ErrorMessage.CASTLING_ROOK_NOT_FOUND, IllegalMoveException::new),
+    CASTLING_ROOK_MOVED(ErrorMessage.CASTLING_ROOK_MOVED, IllegalMoveException::new),
+    CASTLING_PATH_BLOCKED(ErrorMessage.CASTLING_PATH_BLOCKED, IllegalMoveException::new),
+    CASTLING_PATH_ATTACKED(ErrorMessage.CASTLING_PATH_ATTACKED, IllegalMoveException::new);
+
+    private final ErrorMessage errorMessage;
+    private final Function<String, ChessException> exceptionFactory;
+
+    ValidationResult(ErrorMessage errorMessage, Function<String, ChessException> exceptionFactory) {
+        this.errorMessage = errorMessage;
+        this.exceptionFactory = exceptionFactory;
+    }
+
+    public boolean isLegal() {
+        return this == LEGAL;
+    }
+
+    public void throwIfIllegal() {
+        if (isLegal()) {
+            return;
+        }
+        throw exceptionFactory.apply(errorMessage.getMessage());
+    }
+
+    public ErrorMessage getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -1,34 +1,21 @@
 package chess.dto;
 
-import chess.domain.board.Board;
-import chess.domain.board.Position;
-import chess.domain.game.Game;
-import chess.domain.piece.Piece;
-import java.util.HashMap;
+import chess.domain.game.GameView;
+import chess.domain.game.GameView.LastMove;
 import java.util.Map;
 
-public record ChessGameResponseDto(Long gameId, String currentTurn, String status, Map<String, String> board) {
+public record ChessGameResponseDto(Long gameId, long version, String currentTurn, String status,
+                                   Map<String, String> board, LastMove lastMove) {
 
-    public static ChessGameResponseDto from(Game game) {
-        Map<String, String> board = convertBoardToMap(game.getBoard());
+    // 뷰의 board는 바뀌지 않는 Map이므로 복사하지 않고 그대로 쓴다
+    public static ChessGameResponseDto from(GameView view) {
         return new ChessGameResponseDto(
-                game.getId(),
-                game.getCurrentTurn().name(),
-                game.getStatus().name(),
-                board
+                view.gameId(),
+                view.version(),
+                view.currentTurn().name(),
+                view.status().name(),
+                view.board(),
+                view.lastMove()
         );
     }
-
-    private static Map<String, String> convertBoardToMap(Board board) {
-        Map<String, String> boardMap = new HashMap<>();
-        Map<Position, Piece> pieces = board.getPieces();
-
-        pieces.forEach((position, piece) -> {
-            String key = position.toAlgebraicNotation();
-            String value = piece.getSymbol();
-            boardMap.put(key, value);
-        });
-
-        return boardMap;
-    }
-}
\ No newline at end of file
+}
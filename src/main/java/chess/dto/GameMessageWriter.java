@@ -0,0 +1,77 @@
+package chess.dto;
+
+import chess.domain.game.GameView;
+import chess.domain.game.GameView.LastMove;
+import java.util.Map;
+
+/**
+ * /topic/games/{id}로 보내는 메시지를 JSON 문자열로 만든다.
+ * 스냅숏은 ChessGameResponseDto와 같은 모양에 type만 더한다.
+ * {"type":"snapshot","gameId":1,"version":3,"currentTurn":"BLACK","status":"ONGOING","board":{"E4":"P",...},"lastMove":{"from":"E2","to":"E4"}}
+ * 델타는 board 대신 바로 앞 버전에서 바뀐 칸만 담는다. 기물이 빠진 칸은 null이다.
+ * {"type":"delta","gameId":1,"version":4,"currentTurn":"WHITE","status":"ONGOING","changes":{"E7":null,"E5":"p"},"lastMove":{"from":"E7","to":"E5"}}
+ * <p>
+ * 칸 이름과 기물 기호, enum 이름만 쓰므로 문자열을 이스케이프하지 않는다.
+ */
+public final class GameMessageWriter {
+
+    private GameMessageWriter() {
+    }
+
+    public static String writeSnapshot(GameView view) {
+        StringBuilder out = new StringBuilder(96 + view.board().size() * 10);
+        appendHeader(out, "snapshot", view);
+        out.append(",\"board\":");
+        appendSquares(out, view.board());
+        appendLastMove(out, view.lastMove());
+        return out.append('}').toString();
+    }
+
+    /**
+     * previous는 view 바로 앞 버전의 뷰여야 한다
+     */
+    public static String writeDelta(GameView previous, GameView view) {
+        Map<String, String> changes = view.changesSince(previous);
+        StringBuilder out = new StringBuilder(128 + changes.size() * 10);
+        appendHeader(out, "delta", view);
+        out.append(",\"changes\":");
+        appendSquares(out, changes);
+        appendLastMove(out, view.lastMove());
+        return out.append('}').toString();
+    }
+
+    private static void appendHeader(StringBuilder out, String type, GameView view) {
+        out.append("{\"type\":\"").append(type).append('"');
+        out.append(",\"gameId\":").append(view.gameId());
+        out.append(",\"version\":").append(view.version());
+        out.append(",\"currentTurn\":\"").append(view.currentTurn().name()).append('"');
+        out.append(",\"status\":\"").append(view.status().name()).append('"');
+    }
+
+    private static void appendSquares(StringBuilder out, Map<String, String> squares) {
+        out.append('{');
+        boolean first = true;
+        for (Map.Entry<String, String> square : squares.entrySet()) {
+            if (!first) {
+                out.append(',');
+            }
+            out.append('"').append(square.getKey()).append("\":");
+            if (square.getValue() == null) {
+                out.append("null");
+            } else {
+                out.append('"').append(square.getValue()).append('"');
+            }
+            first = false;
+        }
+        out.append('}');
+    }
+
+    private static void appendLastMove(StringBuilder out, LastMove lastMove) {
+        out.append(",\"lastMove\":");
+        if (lastMove == null) {
+            out.append("null");
+            return;
+        }
+        out.append("{\"from\":\"").append(lastMove.from()).append("\",\"to\":\"").append(lastMove.to()).append("\"}");
+    }
+}
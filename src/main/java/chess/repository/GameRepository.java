@@ -2,11 +2,23 @@ package chess.repository;
 
 import chess.domain.game.Game;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GameRepository {
     Game save(Game game);
 
+    /**
+     * 저장소에 있는 게임의 버전이 expectedVersion일 때만 저장한다.
+     * 다르거나 게임이 없으면 VersionConflictException을 던지고 아무것도 저장하지 않는다. id가 없는 게임은 save와 같다
+     */
+    Game compareAndSave(Game game, long expectedVersion);
+
     Optional<Game> findById(Long id);
 
     void deleteById(Long id);
+
+    /**
+     * 저장된 게임을 하나씩 흘려보낸다. 전체를 목록으로 복사하지 않으므로 순회 중 저장/삭제가 반영될 수도 있다
+     */
+    Stream<Game> findAll();
 }
\ No newline at end of file
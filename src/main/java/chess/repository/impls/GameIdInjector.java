@@ -0,0 +1,25 @@
+package chess.repository.impls;
+
+import chess.common.exception.RepositoryException;
+import chess.common.message.ErrorMessage;
+import chess.domain.game.Game;
+import java.lang.reflect.Field;
+
+/**
+ * Game에는 id setter가 없으므로 저장소가 발급한 id를 리플렉션으로 넣는다
+ */
+final class GameIdInjector {
+
+    private GameIdInjector() {
+    }
+
+    static void inject(Game game, long id) {
+        try {
+            Field idField = Game.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(game, id);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RepositoryException(ErrorMessage.REPOSITORY_ID_INJECTION_FAILED.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package chess.repository.impls;
+
+import chess.domain.board.MoveUndo;
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import chess.domain.move.PackedMove;
+import chess.domain.notation.Fen;
+import chess.repository.journal.GameSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임과 GameSnapshot(시작 국면 + 수순)을 서로 바꾼다
+ */
+final class GameSnapshots {
+
+    private GameSnapshots() {
+    }
+
+    static GameSnapshot capture(Game game) {
+        List<String> playerIds = new ArrayList<>(2);
+        if (game.getWhitePlayer() != null) {
+            playerIds.add(game.getWhitePlayer().id());
+        }
+        if (game.getBlackPlayer() != null) {
+            playerIds.add(game.getBlackPlayer().id());
+        }
+        List<MoveUndo> history = game.getHistory().getMoves();
+        short[] moves = new short[history.size()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = PackedMove.of(history.get(i));
+        }
+        return new GameSnapshot(game.getId(), game.getBoard().getStorageType(), Fen.startOf(game),
+                List.copyOf(playerIds), moves, game.getStatus(), game.getVersion());
+    }
+
+    // 스냅숏의 참가자와 수는 이미 기록된 것이므로 규칙 검사와 변경 기록 없이 되살린다
+    static Game restore(GameSnapshot snapshot) {
+        Game game = Fen.parse(snapshot.startFen(), snapshot.storageType()).toGame();
+        GameIdInjector.inject(game, snapshot.id());
+        List<String> playerIds = snapshot.playerIds();
+        game.restorePlayers(playerIds.isEmpty() ? null : new Player(playerIds.get(0)),
+                playerIds.size() < 2 ? null : new Player(playerIds.get(1)));
+        game.restoreMoves(snapshot.moves(), snapshot.status(), snapshot.version());
+        return game;
+    }
+}
@@ -0,0 +1,97 @@
+package chess.repository.impls;
+
+import static chess.common.message.ErrorMessage.JOURNAL_IO_FAILED;
+
+import chess.common.exception.RepositoryException;
+import chess.domain.game.Game;
+import chess.repository.journal.SnapshotFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 메모리에서 내린 게임을 게임마다 스냅숏 파일(시작 FEN + PackedMove 수순) 하나로 보관한다.
+ * 어떤 게임이 내려가 있는지는 메모리에 id와 버전만 남겨 두므로, 없는 게임을 찾거나 버전을 비교할 때 디스크를 뒤지지 않는다.
+ * InMemoryGameRepository처럼 재시작하면 비어 있어야 하므로 시작할 때 남아 있던 파일을 지우고, 쓸 때 fsync하지 않는다.
+ */
+public class HibernationStore {
+
+    private static final String PREFIX = "game-";
+    private static final String SUFFIX = ".snap";
+
+    private final Path directory;
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public HibernationStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(this::isGameFile).toList()) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    public void write(Game game) {
+        SnapshotFile.write(path(game.getId()), 0, List.of(GameSnapshots.capture(game)).iterator(), false);
+        versions.put(game.getId(), game.getVersion());
+    }
+
+    public Optional<Game> read(long id) {
+        if (!versions.containsKey(id)) {
+            return Optional.empty();
+        }
+        return SnapshotFile.read(path(id)).games().stream()
+                .findFirst()
+                .map(GameSnapshots::restore);
+    }
+
+    public boolean contains(long id) {
+        return versions.containsKey(id);
+    }
+
+    public Optional<Long> version(long id) {
+        return Optional.ofNullable(versions.get(id));
+    }
+
+    /**
+     * 지운 게임이 있었으면 true. 같은 게임을 동시에 지우면 한쪽만 true를 받는다
+     */
+    public boolean delete(long id) {
+        if (versions.remove(id) == null) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(path(id));
+            return true;
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    public Stream<Long> ids() {
+        return versions.keySet().stream();
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    private Path path(long id) {
+        return directory.resolve(String.format("%s%016d%s", PREFIX, id, SUFFIX));
+    }
+
+    private boolean isGameFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && (name.endsWith(SUFFIX) || name.endsWith(SUFFIX + ".tmp"));
+    }
+}
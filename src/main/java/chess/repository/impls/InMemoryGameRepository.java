@@ -1,51 +1,266 @@
 package chess.repository.impls;
 
+import static chess.common.message.ErrorMessage.GAME_VERSION_CONFLICT;
+
 import chess.common.exception.RepositoryException;
-import chess.common.message.ErrorMessage;
+import chess.common.exception.VersionConflictException;
 import chess.domain.game.Game;
 import chess.repository.GameRepository;
-import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
-import org.springframework.stereotype.Repository;
+import java.util.stream.Stream;
 
-@Repository
-public class InMemoryGameRepository implements GameRepository {
+/**
+ * 게임을 메모리에 두는 저장소.
+ * HibernationStore를 주면 idleMillis 동안 찾거나 저장하지 않은 게임과, maxResident개를 넘을 때 가장 오래 쓰지 않은 게임을
+ * 디스크로 내리고 메모리에서 뺀다. 내린 게임은 findById가 다시 올린다.
+ * 게임을 내리는 동안에는 그 게임의 모니터를 잡으므로 GameService가 바꾸는 중인 게임을 반만 내리지 않는다.
+ * 마지막으로 저장한 버전과 다른, 아직 저장하지 않은 변경이 있는 게임은 내리지 않는다.
+ */
+public class InMemoryGameRepository implements GameRepository, AutoCloseable {
 
-    private final Map<Long, Game> storage = new ConcurrentHashMap<>();
+    private final Map<Long, Resident> storage = new ConcurrentHashMap<>();
     private final AtomicLong sequence = new AtomicLong(1L);
 
+    private final HibernationStore hibernationStore;
+    private final long idleNanos;
+    private final int maxResident;
+    private final ScheduledExecutorService hibernator;
+    private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+
+    public InMemoryGameRepository() {
+        this.hibernationStore = null;
+        this.idleNanos = 0;
+        this.maxResident = 0;
+        this.hibernator = null;
+    }
+
+    /**
+     * idleMillis나 maxResident가 0 이하이면 그 기준으로는 내리지 않는다
+     */
+    public InMemoryGameRepository(HibernationStore hibernationStore, long idleMillis, int maxResident) {
+        this.hibernationStore = hibernationStore;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        this.maxResident = maxResident;
+        this.hibernator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-hibernator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (idleMillis > 0) {
+            long period = Math.max(1, idleMillis / 4);
+            hibernator.scheduleWithFixedDelay(this::hibernateIdle, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
     @Override
     public Game save(Game game) {
         if (game.getId() == null) {
-            long id = sequence.getAndIncrement();
-            injectId(game, id);
-            storage.put(id, game);
+            GameIdInjector.inject(game, sequence.getAndIncrement());
+        }
+        // 변경을 따로 기록하지 않으므로 게임에 쌓인 변경은 버린다
+        game.drainChanges();
+        Resident resident = storage.get(game.getId());
+        if (resident != null && resident.game == game) {
+            resident.saved(game.getVersion());
             return game;
         }
-        storage.put(game.getId(), game);
+        Resident previous = storage.put(game.getId(), new Resident(game));
+        // 내려간 사이에 원래 객체로 다시 저장되면 디스크 쪽은 오래된 상태이다
+        if (previous == null && hibernationStore != null) {
+            hibernationStore.delete(game.getId());
+        }
+        scheduleEvictionIfFull();
+        return game;
+    }
+
+    @Override
+    public Game compareAndSave(Game game, long expectedVersion) {
+        if (game.getId() == null) {
+            return save(game);
+        }
+        // 비교와 교체를 한 compute 안에서 하므로 같은 버전을 기대한 두 저장 중 하나만 성공한다
+        game.drainChanges();
+        storage.compute(game.getId(), (id, current) -> {
+            Long stored = current != null ? Long.valueOf(current.storedVersion) : hibernatedVersion(id);
+            if (stored == null || stored != expectedVersion) {
+                throw new VersionConflictException(GAME_VERSION_CONFLICT.getMessage(
+                        String.valueOf(id), String.valueOf(expectedVersion), String.valueOf(stored)));
+            }
+            if (current != null && current.game == game) {
+                current.saved(game.getVersion());
+                return current;
+            }
+            if (current == null) {
+                hibernationStore.delete(id);
+            }
+            return new Resident(game);
+        });
+        scheduleEvictionIfFull();
         return game;
     }
 
     @Override
     public Optional<Game> findById(Long id) {
-        return Optional.ofNullable(storage.get(id));
+        Resident resident = storage.get(id);
+        if (resident == null && hibernationStore != null && hibernationStore.contains(id)) {
+            resident = rehydrate(id);
+        }
+        if (resident == null) {
+            return Optional.empty();
+        }
+        resident.touch();
+        return Optional.of(resident.game);
     }
 
     @Override
     public void deleteById(Long id) {
+        // 파일을 먼저 지워야 그 사이에 다시 올라온 게임(rehydrate)도 아래에서 함께 지워진다
+        if (hibernationStore != null) {
+            hibernationStore.delete(id);
+        }
         storage.remove(id);
     }
 
-    private void injectId(Game game, long id) {
-        try {
-            Field idField = Game.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(game, id);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RepositoryException(ErrorMessage.REPOSITORY_ID_INJECTION_FAILED.getMessage());
+    /**
+     * 내려간 게임은 메모리에 다시 올리지 않고 읽어서 흘려보낸다
+     */
+    @Override
+    public Stream<Game> findAll() {
+        Stream<Game> residents = storage.values().stream().map(Resident::game);
+        if (hibernationStore == null) {
+            return residents;
+        }
+        Stream<Game> hibernated = hibernationStore.ids()
+                .filter(id -> !storage.containsKey(id))
+                .map(hibernationStore::read)
+                .flatMap(Optional::stream);
+        return Stream.concat(residents, hibernated);
+    }
+
+    public int getResidentCount() {
+        return storage.size();
+    }
+
+    @Override
+    public void close() {
+        if (hibernator != null) {
+            hibernator.shutdownNow();
+        }
+    }
+
+    private Long hibernatedVersion(Long id) {
+        if (hibernationStore == null) {
+            return null;
+        }
+        return hibernationStore.version(id).orElse(null);
+    }
+
+    /**
+     * 파일은 맵 밖에서 읽고 putIfAbsent로 올린다. 먼저 올라온 게임이 있으면 그것을 쓰고,
+     * 올린 뒤 파일을 지우지 못했으면 그 사이에 삭제된 게임이므로 다시 내린다.
+     * 지우기 전까지 게임 모니터를 쥐어 hibernate가 새로 쓴 파일을 지우지 않게 한다
+     */
+    private Resident rehydrate(Long id) {
+        Game game = hibernationStore.read(id).orElse(null);
+        if (game == null) {
+            return storage.get(id);
+        }
+        Resident loaded = new Resident(game);
+        synchronized (game) {
+            Resident existing = storage.putIfAbsent(id, loaded);
+            if (existing != null) {
+                return existing;
+            }
+            if (!hibernationStore.delete(id)) {
+                storage.remove(id, loaded);
+                return null;
+            }
+        }
+        scheduleEvictionIfFull();
+        return loaded;
+    }
+
+    private void scheduleEvictionIfFull() {
+        if (maxResident <= 0 || storage.size() <= maxResident) {
+            return;
+        }
+        if (evictionScheduled.compareAndSet(false, true)) {
+            hibernator.execute(this::evictLeastRecent);
+        }
+    }
+
+    private void hibernateIdle() {
+        long threshold = System.nanoTime() - idleNanos;
+        for (Resident resident : storage.values()) {
+            long lastAccess = resident.lastAccess;
+            if (lastAccess - threshold < 0) {
+                hibernate(resident, lastAccess);
+            }
+        }
+    }
+
+    private void evictLeastRecent() {
+        evictionScheduled.set(false);
+        int overflow = storage.size() - maxResident;
+        if (overflow <= 0) {
+            return;
+        }
+        List<Resident> leastRecent = storage.values().stream()
+                .sorted(Comparator.comparingLong(resident -> resident.lastAccess))
+                .limit(overflow)
+                .toList();
+        leastRecent.forEach(resident -> hibernate(resident, resident.lastAccess));
+    }
+
+    private void hibernate(Resident resident, long lastAccess) {
+        Game game = resident.game;
+        synchronized (game) {
+            // 고른 뒤에 다시 쓰였거나, 다른 객체로 바뀌었거나, 삭제되었거나, 저장 전인 변경이 있는 게임은 건너뛴다
+            if (resident.lastAccess != lastAccess || storage.get(game.getId()) != resident
+                    || resident.storedVersion != game.getVersion()) {
+                return;
+            }
+            try {
+                hibernationStore.write(game);
+            } catch (RepositoryException e) {
+                return;
+            }
+            storage.remove(game.getId(), resident);
+        }
+    }
+
+    private static final class Resident {
+
+        private final Game game;
+        private volatile long lastAccess;
+        private volatile long storedVersion;
+
+        private Resident(Game game) {
+            this.game = game;
+            this.lastAccess = System.nanoTime();
+            this.storedVersion = game.getVersion();
+        }
+
+        private Game game() {
+            return game;
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+
+        private void saved(long version) {
+            storedVersion = version;
+            touch();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,498 @@
+package chess.repository.impls;
+
+import static chess.common.message.ErrorMessage.GAME_VERSION_CONFLICT;
+import static chess.common.message.ErrorMessage.JOURNAL_REPLAY_FAILED;
+import static chess.common.message.ErrorMessage.JOURNAL_VERSION_MISMATCH;
+
+import chess.common.exception.ChessException;
+import chess.common.exception.RepositoryException;
+import chess.common.exception.VersionConflictException;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.game.GameChange;
+import chess.domain.game.GameChange.Joined;
+import chess.domain.game.GameChange.Moved;
+import chess.domain.game.GameChange.Undone;
+import chess.domain.game.Player;
+import chess.domain.move.PackedMove;
+import chess.domain.notation.Fen;
+import chess.domain.piece.Color;
+import chess.domain.status.GameStatus;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.StatusCalculator;
+import chess.repository.GameRepository;
+import chess.repository.journal.GameJournal;
+import chess.repository.journal.GameSnapshot;
+import chess.repository.journal.JournalDirectory;
+import chess.repository.journal.JournalEvent;
+import chess.repository.journal.JournalEvent.GameCreated;
+import chess.repository.journal.JournalEvent.GameDeleted;
+import chess.repository.journal.JournalEvent.MoveMade;
+import chess.repository.journal.JournalEvent.MoveUndone;
+import chess.repository.journal.JournalEvent.PlayerJoined;
+import chess.repository.journal.SnapshotFile;
+import chess.repository.journal.SnapshotFile.SnapshotContents;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 게임을 메모리에 두고, 바뀐 내용만 이벤트(생성, 참가, 수, 무르기, 삭제)로 저널에 남기는 저장소.
+ * save는 게임이 지난번 이후 명령마다 남긴 변경(Game.drainChanges)을 그대로 이벤트로 기록한다.
+ * 이벤트 하나가 게임 버전 1에 해당하므로, 재생한 게임의 버전은 저장했던 버전과 같다.
+ * <p>
+ * snapshot()은 새 세대의 저널로 바꾼 뒤, 백그라운드에서 이전 세대까지의 게임 상태를 스냅숏으로 쓰고
+ * 이전 세대 파일을 정리한다. 저널을 바꾸는 순간만 save를 막는다. 스냅숏은 게임마다 저널에 남긴 지점(JournaledGame)의
+ * 상태를 쓰는데, 새 세대에 이미 기록한 게임은 그때 한 번 떠 둔 이전 세대의 상태를 쓰고, 나머지는 게임 모니터를 잠깐 잡고
+ * 아직 저널에 남기지 않은 변경만 되돌려 만든다.
+ * 시작할 때는 마지막 스냅숏을 병렬로 복원한 뒤 그 이후 세대의 저널만 재생한다.
+ */
+public class JournalGameRepository implements GameRepository, AutoCloseable {
+
+    private final JournalDirectory directory;
+    private final long flushIntervalMillis;
+    private final int journalCapacity;
+    private final MovementValidator movementValidator;
+    private final StatusCalculator statusCalculator;
+
+    private final Map<Long, JournaledGame> storage = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(1L);
+
+    // save/delete는 읽기 잠금, 저널 세대 교체만 쓰기 잠금을 잡는다
+    private final ReadWriteLock rotationLock = new ReentrantReadWriteLock();
+    private final Object snapshotLock = new Object();
+    private final ScheduledExecutorService snapshotScheduler;
+
+    private volatile GameJournal journal;
+    private volatile long generation;
+
+    // 스냅숏을 쓰는 동안 삭제된 게임은 스냅숏에서 빠지고, 다음 세대 저널에만 이벤트가 남는다
+    private boolean skipUnknownGames;
+
+    public JournalGameRepository(Path directory, long flushIntervalMillis, long snapshotIntervalMillis,
+                                 boolean archive, MovementValidator movementValidator,
+                                 StatusCalculator statusCalculator) {
+        this(directory, flushIntervalMillis, snapshotIntervalMillis, archive, GameJournal.DEFAULT_CAPACITY,
+                movementValidator, statusCalculator);
+    }
+
+    public JournalGameRepository(Path directory, long flushIntervalMillis, long snapshotIntervalMillis,
+                                 boolean archive, int journalCapacity, MovementValidator movementValidator,
+                                 StatusCalculator statusCalculator) {
+        this.directory = new JournalDirectory(directory, archive);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.journalCapacity = journalCapacity;
+        this.movementValidator = movementValidator;
+        this.statusCalculator = statusCalculator;
+
+        recover();
+
+        this.snapshotScheduler = createScheduler(snapshotIntervalMillis);
+    }
+
+    @Override
+    public Game save(Game game) {
+        rotationLock.readLock().lock();
+        try {
+            if (game.getId() == null) {
+                GameIdInjector.inject(game, sequence.getAndIncrement());
+            }
+            JournaledGame journaled = storage.get(game.getId());
+            if (journaled == null || journaled.game != game) {
+                journaled = create(game);
+            }
+            synchronized (game) {
+                synchronized (journaled) {
+                    appendChanges(journaled);
+                }
+            }
+            return game;
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저널에 남긴 버전(JournaledGame.version)과 비교한다. 비교와 기록은 그 게임의 JournaledGame 모니터 안에서 한다
+     */
+    @Override
+    public Game compareAndSave(Game game, long expectedVersion) {
+        if (game.getId() == null) {
+            return save(game);
+        }
+        rotationLock.readLock().lock();
+        try {
+            JournaledGame journaled = storage.get(game.getId());
+            if (journaled == null) {
+                throw conflict(game.getId(), expectedVersion, null);
+            }
+            synchronized (game) {
+                synchronized (journaled) {
+                    long stored = journaled.version;
+                    if (stored != expectedVersion || storage.get(game.getId()) != journaled) {
+                        throw conflict(game.getId(), expectedVersion, stored);
+                    }
+                    if (journaled.game != game) {
+                        journaled = create(game);
+                    }
+                    synchronized (journaled) {
+                        appendChanges(journaled);
+                    }
+                }
+            }
+            return game;
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Game> findById(Long id) {
+        return Optional.ofNullable(storage.get(id)).map(JournaledGame::game);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        rotationLock.readLock().lock();
+        try {
+            if (storage.remove(id) != null) {
+                journal.append(new GameDeleted(id));
+            }
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Stream<Game> findAll() {
+        return storage.values().stream().map(JournaledGame::game);
+    }
+
+    /**
+     * 저널을 새 세대로 바꾸고, 이전 세대까지의 상태를 스냅숏으로 남긴 뒤 이전 파일을 정리한다.
+     * 이전 세대 저널이 비어 있으면 아무것도 하지 않는다
+     */
+    public void snapshot() {
+        synchronized (snapshotLock) {
+            if (journal.size() == 0) {
+                return;
+            }
+            long covered = generation;
+            GameJournal next = new GameJournal(directory.journalPath(covered + 1), flushIntervalMillis,
+                    journalCapacity);
+            GameJournal previous;
+            rotationLock.writeLock().lock();
+            try {
+                previous = journal;
+                journal = next;
+                generation = covered + 1;
+            } finally {
+                rotationLock.writeLock().unlock();
+            }
+            previous.close();
+
+            SnapshotFile.write(directory.snapshotPath(covered + 1), sequence.get(),
+                    storage.values().stream()
+                            .map(journaled -> journaled.snapshotAt(covered))
+                            .filter(Objects::nonNull)
+                            .iterator());
+            directory.retireBefore(covered + 1);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public void close() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        synchronized (snapshotLock) {
+            journal.close();
+        }
+    }
+
+    private ScheduledExecutorService createScheduler(long snapshotIntervalMillis) {
+        if (snapshotIntervalMillis <= 0) {
+            return null;
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scheduledSnapshot, snapshotIntervalMillis, snapshotIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    // 예외가 나면 스케줄이 멈추므로 삼킨다. 스냅숏을 못 쓴 세대의 저널은 남아 있으므로 다음 주기에 함께 정리된다
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (RepositoryException ignored) {
+        }
+    }
+
+    private VersionConflictException conflict(Long id, long expectedVersion, Long storedVersion) {
+        return new VersionConflictException(GAME_VERSION_CONFLICT.getMessage(
+                String.valueOf(id), String.valueOf(expectedVersion), String.valueOf(storedVersion)));
+    }
+
+    // 게임을 시작 국면부터 기록한다. 그 뒤의 참가와 수는 이어지는 appendChanges가 게임이 남긴 변경대로 기록한다
+    private JournaledGame create(Game game) {
+        StorageType storageType = game.getBoard().getStorageType();
+        String startFen = Fen.startOf(game);
+        JournaledGame journaled = new JournaledGame(game, storageType, startFen, generation);
+        journal.append(new GameCreated(game.getId(), storageType, startFen));
+        storage.put(game.getId(), journaled);
+        return journaled;
+    }
+
+    // 게임이 명령마다 남긴 변경을 그대로 이벤트로 옮기고, 저널에 남긴 지점만 앞으로 옮긴다. 변경 하나가 버전 1이므로
+    // 개수가 맞지 않으면 재생한 버전이 저장한 버전과 달라진다. 그런 게임은 기록하지 않고 예외를 던진다.
+    // 게임과 JournaledGame 모니터를 잡은 채로 호출한다
+    private void appendChanges(JournaledGame journaled) {
+        Game game = journaled.game;
+        long id = game.getId();
+
+        List<GameChange> changes = game.drainChanges();
+        if (journaled.version + changes.size() != game.getVersion()) {
+            throw new RepositoryException(JOURNAL_VERSION_MISMATCH.getMessage(String.valueOf(id),
+                    String.valueOf(journaled.version), String.valueOf(changes.size()),
+                    String.valueOf(game.getVersion())));
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        // 이 세대에 처음 기록하는 게임이면, 다음 스냅숏이 쓸 이전 세대 끝의 상태를 한 번만 떠 둔다
+        if (journaled.generation < generation) {
+            journaled.previousGeneration = journaled.journaledSnapshot(changes);
+        }
+
+        List<String> playerIds = journaled.playerIds;
+        for (GameChange change : changes) {
+            switch (change) {
+                case Joined joined -> {
+                    journal.append(new PlayerJoined(id, joined.player().id()));
+                    playerIds = append(playerIds, joined.player().id());
+                }
+                case Moved moved -> journal.append(new MoveMade(id, moved.from(), moved.to()));
+                case Undone undone -> journal.append(new MoveUndone(id));
+            }
+        }
+
+        journaled.advance(generation, playerIds, game.getStatus(), game.getVersion());
+    }
+
+    private static List<String> append(List<String> playerIds, String playerId) {
+        List<String> appended = new ArrayList<>(playerIds);
+        appended.add(playerId);
+        return List.copyOf(appended);
+    }
+
+    private void recover() {
+        List<Long> snapshots = directory.snapshotGenerations();
+        long startGeneration = 1;
+        if (!snapshots.isEmpty()) {
+            startGeneration = snapshots.get(snapshots.size() - 1);
+            restore(SnapshotFile.read(directory.snapshotPath(startGeneration)));
+            directory.retireBefore(startGeneration);
+            skipUnknownGames = true;
+        }
+
+        List<Long> journals = new ArrayList<>();
+        for (long journalGeneration : directory.journalGenerations()) {
+            if (journalGeneration >= startGeneration) {
+                journals.add(journalGeneration);
+            }
+        }
+        long lastGeneration = journals.isEmpty() ? startGeneration : journals.get(journals.size() - 1);
+        for (long journalGeneration : journals) {
+            if (journalGeneration == lastGeneration) {
+                break;
+            }
+            try (GameJournal old = new GameJournal(directory.journalPath(journalGeneration), flushIntervalMillis,
+                    journalCapacity)) {
+                old.replay(this::apply);
+            }
+        }
+        this.journal = new GameJournal(directory.journalPath(lastGeneration), flushIntervalMillis, journalCapacity);
+        this.generation = lastGeneration;
+        journal.replay(this::apply);
+        skipUnknownGames = false;
+
+        storage.values().forEach(journaled -> journaled.markJournaled(generation));
+    }
+
+    // 스냅숏의 게임들은 서로 독립적이므로 병렬로 복원한다
+    private void restore(SnapshotContents contents) {
+        contents.games().parallelStream().forEach(snapshot -> {
+            Game game = GameSnapshots.restore(snapshot);
+            storage.put(snapshot.id(), new JournaledGame(game, snapshot.storageType(), snapshot.startFen(), 0));
+        });
+        sequence.accumulateAndGet(contents.nextId(), Math::max);
+    }
+
+    private void apply(JournalEvent event) {
+        if (!(event instanceof GameCreated) && skipUnknownGames && !storage.containsKey(event.gameId())) {
+            return;
+        }
+        try {
+            switch (event) {
+                case GameCreated created -> {
+                    Game game = Fen.parse(created.fen(), created.storageType()).toGame();
+                    GameIdInjector.inject(game, created.gameId());
+                    storage.put(created.gameId(),
+                            new JournaledGame(game, created.storageType(), created.fen(), generation));
+                    sequence.accumulateAndGet(created.gameId() + 1, Math::max);
+                }
+                case PlayerJoined joined -> replayedGame(joined).join(new Player(joined.playerId()));
+                case MoveMade moved -> {
+                    Game game = replayedGame(moved);
+                    game.move(playerToMove(game), moved.from(), moved.to(), movementValidator, statusCalculator);
+                }
+                case MoveUndone undone -> {
+                    Game game = replayedGame(undone);
+                    game.undo(lastMovedPlayer(game));
+                }
+                case GameDeleted deleted -> storage.remove(deleted.gameId());
+            }
+        } catch (ChessException e) {
+            throw new RepositoryException(JOURNAL_REPLAY_FAILED.getMessage(
+                    String.valueOf(event.gameId()), e.getMessage()));
+        }
+    }
+
+    private Game replayedGame(JournalEvent event) {
+        JournaledGame journaled = storage.get(event.gameId());
+        if (journaled == null) {
+            throw new RepositoryException(JOURNAL_REPLAY_FAILED.getMessage(
+                    String.valueOf(event.gameId()), event.toString()));
+        }
+        return journaled.game;
+    }
+
+    private Player playerToMove(Game game) {
+        if (game.getCurrentTurn() == Color.WHITE) {
+            return game.getWhitePlayer();
+        }
+        return game.getBlackPlayer();
+    }
+
+    private Player lastMovedPlayer(Game game) {
+        if (game.getCurrentTurn() == Color.WHITE) {
+            return game.getBlackPlayer();
+        }
+        return game.getWhitePlayer();
+    }
+
+    /**
+     * 저장소에 둔 게임과, 그 게임을 저널에 어디까지 남겼는지(version 버전, generation 세대)를 가리키는 지점.
+     * 수순은 게임에서 바로 읽으므로 save마다 복사해 두지 않는다.
+     * 지점은 게임 모니터와 이 객체의 모니터를 차례로 잡고 바꾸고 읽는다
+     */
+    private static final class JournaledGame {
+
+        private final Game game;
+        private final StorageType storageType;
+        private final String startFen;
+
+        private long generation;
+        private long version;
+        private GameStatus status;
+        private List<String> playerIds;
+
+        // generation 세대보다 앞선 세대가 끝났을 때의 상태. 스냅숏이 그 세대를 쓸 때 한 번 읽고 버린다
+        private GameSnapshot previousGeneration;
+
+        private JournaledGame(Game game, StorageType storageType, String startFen, long generation) {
+            this.game = game;
+            this.storageType = storageType;
+            this.startFen = startFen;
+            this.generation = generation;
+            this.status = GameStatus.ONGOING;
+            this.playerIds = List.of();
+        }
+
+        private Game game() {
+            return game;
+        }
+
+        private void advance(long generation, List<String> playerIds, GameStatus status, long version) {
+            this.generation = generation;
+            this.playerIds = playerIds;
+            this.status = status;
+            this.version = version;
+        }
+
+        // 재생을 마친 게임의 현재 참가자와 수순이 모두 저널에 있다고 표시한다. 재생하며 쌓인 변경은 버린다
+        private void markJournaled(long generation) {
+            synchronized (game) {
+                synchronized (this) {
+                    game.drainChanges();
+                    List<String> players = new ArrayList<>();
+                    if (game.getWhitePlayer() != null) {
+                        players.add(game.getWhitePlayer().id());
+                    }
+                    if (game.getBlackPlayer() != null) {
+                        players.add(game.getBlackPlayer().id());
+                    }
+                    advance(generation, List.copyOf(players), game.getStatus(), game.getVersion());
+                    this.previousGeneration = null;
+                }
+            }
+        }
+
+        // covered 세대까지의 상태. 그 뒤에 만들어진 게임이면 null.
+        // 그 뒤 세대에 기록한 게임은 떠 둔 상태를 쓰고, 아니면 게임에서 아직 저널에 남기지 않은 변경만 되돌려 만든다
+        private GameSnapshot snapshotAt(long covered) {
+            synchronized (game) {
+                synchronized (this) {
+                    if (generation > covered) {
+                        GameSnapshot snapshot = previousGeneration;
+                        previousGeneration = null;
+                        return snapshot;
+                    }
+                    previousGeneration = null;
+                    return journaledSnapshot(game.getPendingChanges());
+                }
+            }
+        }
+
+        // 게임의 지금 수순에서 아직 저널에 남기지 않은 변경(pending)을 거꾸로 되돌려, 저널에 남긴 지점의 상태를 만든다
+        private GameSnapshot journaledSnapshot(List<GameChange> pending) {
+            List<MoveUndo> history = game.getHistory().getMoves();
+            short[] moves = new short[history.size() + pending.size()];
+            int size = 0;
+            for (MoveUndo move : history) {
+                moves[size++] = PackedMove.of(move);
+            }
+            for (int i = pending.size() - 1; i >= 0; i--) {
+                switch (pending.get(i)) {
+                    case Moved moved -> size--;
+                    case Undone undone -> moves[size++] = PackedMove.of(undone.move());
+                    case Joined joined -> {
+                    }
+                }
+            }
+            return new GameSnapshot(game.getId(), storageType, startFen, playerIds, Arrays.copyOf(moves, size),
+                    status, version);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package chess.repository.impls;
+
+import static chess.common.message.ErrorMessage.GAME_VERSION_CONFLICT;
+import static chess.common.message.ErrorMessage.WRITE_BEHIND_CLOSED;
+import static chess.common.message.ErrorMessage.WRITE_BEHIND_CLOSE_FAILED;
+
+import chess.common.exception.RepositoryException;
+import chess.common.exception.VersionConflictException;
+import chess.domain.game.Game;
+import chess.repository.GameRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 다른 GameRepository 앞에서 save를 모았다가 writer 스레드가 flushInterval마다, 또는 batchSize개가 쌓이면 묶어서 쓰는 저장소.
+ * 같은 게임을 여러 번 save해도 쓰기 전이면 한 번만 쓰고, 읽기는 아직 쓰지 않은 게임을 먼저 본다.
+ * <p>
+ * 쓰기 대기 중인 게임이 capacity개를 넘으면 save를 부른 스레드가 직접 flush한다 (PgnImporter의 CallerRunsPolicy와 같은 방식).
+ * id를 새로 받아야 하는 첫 save와 deleteById는 바로 위임한다. 위임 저장소에 대한 쓰기는 모두 writeLock 안에서 하므로
+ * 삭제한 게임을 writer가 뒤늦게 다시 쓰는 일은 없다.
+ * writer는 게임을 쓰는 동안 그 게임의 모니터를 잡는다. 게임을 바꾸는 쪽도 같은 모니터를 잡아야 반쯤 바뀐 게임을 쓰지 않으며,
+ * save는 모니터를 놓은 뒤에 불러야 한다 (save가 flush하면서 다른 게임의 모니터를 기다릴 수 있다).
+ * <p>
+ * compareAndSave는 이 저장소를 거쳐 저장한 버전(versions)과 비교하고, 처음 보는 게임만 위임 저장소에 바로 비교를 맡긴다.
+ * writer는 compareAndSave(또는 save)로 확인된 버전의 게임만 쓴다 (writeBatch 참고).
+ * 미룬 쓰기는 위임 저장소에 save로 쓰므로, 여러 서버가 같은 위임 저장소를 나눠 쓸 때는 버전 비교가 서버 사이를 지켜 주지 않는다.
+ */
+public class WriteBehindGameRepository implements GameRepository, AutoCloseable {
+
+    private final GameRepository delegate;
+    private final int batchSize;
+    private final int capacity;
+    private final long flushIntervalNanos;
+
+    private final Map<Long, Game> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    public WriteBehindGameRepository(GameRepository delegate, int batchSize, int capacity, long flushIntervalMillis) {
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.writer = Thread.ofPlatform()
+                .name("game-write-behind")
+                .daemon()
+                .start(this::runWriter);
+    }
+
+    @Override
+    public Game save(Game game) {
+        if (closed) {
+            throw new RepositoryException(WRITE_BEHIND_CLOSED.getMessage());
+        }
+        if (game.getId() == null) {
+            writeLock.lock();
+            try {
+                delegate.save(game);
+                versions.put(game.getId(), game.getVersion());
+                return game;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        versions.put(game.getId(), game.getVersion());
+        return enqueue(game);
+    }
+
+    @Override
+    public Game compareAndSave(Game game, long expectedVersion) {
+        if (closed) {
+            throw new RepositoryException(WRITE_BEHIND_CLOSED.getMessage());
+        }
+        if (game.getId() == null) {
+            return save(game);
+        }
+        if (!versions.containsKey(game.getId())) {
+            writeLock.lock();
+            try {
+                delegate.compareAndSave(game, expectedVersion);
+                versions.putIfAbsent(game.getId(), game.getVersion());
+                return game;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        // 비교와 기록을 한 compute 안에서 하므로 같은 버전을 기대한 두 저장 중 하나만 성공한다
+        versions.compute(game.getId(), (id, stored) -> {
+            if (stored == null || stored != expectedVersion) {
+                throw new VersionConflictException(GAME_VERSION_CONFLICT.getMessage(
+                        String.valueOf(id), String.valueOf(expectedVersion), String.valueOf(stored)));
+            }
+            return game.getVersion();
+        });
+        return enqueue(game);
+    }
+
+    @Override
+    public Optional<Game> findById(Long id) {
+        Game game = pending.get(id);
+        if (game != null) {
+            return Optional.of(game);
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        writeLock.lock();
+        try {
+            pending.remove(id);
+            versions.remove(id);
+            delegate.deleteById(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 쓰기 대기 중인 게임은 모두 이미 위임 저장소에 있는(첫 save는 바로 위임하므로) 게임이다
+    @Override
+    public Stream<Game> findAll() {
+        return delegate.findAll().map(game -> pending.getOrDefault(game.getId(), game));
+    }
+
+    /**
+     * 지금까지 save한 게임을 모두 위임 저장소에 쓴다. writer가 쓰는 중인 묶음도 끝날 때까지 기다린다
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                // 남은 게임이 모두 확인 전이면 명령 스레드가 compareAndSave를 마칠 때까지 양보한다
+                if (writeBatch() == 0) {
+                    Thread.yield();
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    // 닫는 쪽이 인터럽트되면 writer를 더 기다리지 않는다. 인터럽트 상태는 되살리고, flush는 writeLock으로 writer와 번갈아 쓴다
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        closeDelegate();
+    }
+
+    private void closeDelegate() {
+        if (!(delegate instanceof AutoCloseable closeable)) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RepositoryException(WRITE_BEHIND_CLOSE_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    private void runWriter() {
+        while (!closed) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            // 묶음 사이에는 잠금을 놓아 새 게임 저장과 삭제가 오래 기다리지 않게 한다
+            while (!pending.isEmpty() && !closed) {
+                writeLock.lock();
+                try {
+                    // 쓸 수 있는 게임이 없으면(모두 확인 전) 다음 주기에 다시 본다
+                    if (writeBatch() == 0) {
+                        break;
+                    }
+                } catch (RepositoryException e) {
+                    // 쓰지 못한 게임은 pending에 남아 있으므로 다음 주기에 다시 쓴다
+                    break;
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        }
+    }
+
+    private Game enqueue(Game game) {
+        pending.put(game.getId(), game);
+        int size = pending.size();
+        if (size >= capacity) {
+            flush();
+        } else if (size >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+        return game;
+    }
+
+    // writeLock을 잡은 채로 호출하고, 쓴 게임 수를 반환한다.
+    // GameService는 게임을 바꾼 뒤 모니터를 놓고 compareAndSave를 부르므로, 그 사이에는 게임 버전이 versions보다 앞서 있다.
+    // 그런 게임은 충돌하면 되돌려질 변경을 담고 있으므로 쓰지 않고 pending에 남겨 둔다
+    private int writeBatch() {
+        List<Game> batch = new ArrayList<>(batchSize);
+        Iterator<Map.Entry<Long, Game>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Map.Entry<Long, Game> entry = iterator.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getValue());
+            }
+        }
+
+        int next = 0;
+        int written = 0;
+        try {
+            for (; next < batch.size(); next++) {
+                Game game = batch.get(next);
+                synchronized (game) {
+                    if (isConfirmed(game)) {
+                        delegate.save(game);
+                        written++;
+                    } else {
+                        pending.putIfAbsent(game.getId(), game);
+                    }
+                }
+            }
+        } finally {
+            for (Game game : batch.subList(next, batch.size())) {
+                pending.putIfAbsent(game.getId(), game);
+            }
+        }
+        return written;
+    }
+
+    private boolean isConfirmed(Game game) {
+        Long confirmed = versions.get(game.getId());
+        return confirmed == null || confirmed == game.getVersion();
+    }
+}
@@ -0,0 +1,200 @@
+package chess.repository.journal;
+
+import static chess.common.message.ErrorMessage.JOURNAL_FULL;
+import static chess.common.message.ErrorMessage.JOURNAL_IO_FAILED;
+
+import chess.common.exception.RepositoryException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 맵 파일에 이벤트를 이어 붙이는 저널.
+ * 한 건은 [본문 길이 4바이트][본문 CRC32C 4바이트][본문]이고, 길이가 0이거나 CRC가 맞지 않는 곳을 저널의 끝으로 본다.
+ * append는 매핑된 메모리에 쓰기만 하고 돌아온다. 디스크 동기화(force)는 flusher 스레드가 flushInterval마다
+ * 그동안 쌓인 모든 게임의 이벤트를 한 번에 처리한다 (group commit).
+ * 매핑 크기가 모자라면 두 배로 다시 매핑하며, 한 파일은 2GB를 넘을 수 없다.
+ */
+public class GameJournal implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 16 * 1024 * 1024;
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int ZERO_CHUNK_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final long flushIntervalNanos;
+    private final Thread flusher;
+
+    private MappedByteBuffer buffer;
+    private int writePosition;
+    private int flushedPosition;
+    private volatile boolean closed;
+
+    public GameJournal(Path path, long flushIntervalMillis) {
+        this(path, flushIntervalMillis, DEFAULT_CAPACITY);
+    }
+
+    public GameJournal(Path path, long flushIntervalMillis, int initialCapacity) {
+        long existingSize;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            existingSize = channel.size();
+            int capacity = (int) Math.max(initialCapacity, Math.min(existingSize, Integer.MAX_VALUE));
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+        this.writePosition = findEnd();
+        this.flushedPosition = writePosition;
+        if (existingSize > 0) {
+            clearTail();
+        }
+
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flusher = Thread.ofPlatform()
+                .name("game-journal-flusher")
+                .daemon()
+                .start(this::runFlusher);
+    }
+
+    public synchronized void append(JournalEvent event) {
+        byte[] body = JournalCodec.encode(event);
+        ensureCapacity(HEADER_SIZE + body.length);
+
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        buffer.putInt(writePosition, body.length);
+        buffer.putInt(writePosition + Integer.BYTES, (int) crc.getValue());
+        buffer.put(writePosition + HEADER_SIZE, body);
+        writePosition += HEADER_SIZE + body.length;
+    }
+
+    /**
+     * 저널에 남은 이벤트를 처음부터 순서대로 넘긴다
+     */
+    public synchronized void replay(Consumer<JournalEvent> consumer) {
+        int position = 0;
+        while (position < writePosition) {
+            int length = buffer.getInt(position);
+            ByteBuffer body = buffer.slice(position + HEADER_SIZE, length);
+            consumer.accept(JournalCodec.decode(body));
+            position += HEADER_SIZE + length;
+        }
+    }
+
+    /**
+     * 지금까지 append한 이벤트를 디스크에 동기화한다
+     */
+    public void flush() {
+        MappedByteBuffer target;
+        int from;
+        int to;
+        synchronized (this) {
+            target = buffer;
+            from = flushedPosition;
+            to = writePosition;
+        }
+        if (from == to) {
+            return;
+        }
+        target.force(from, to - from);
+        synchronized (this) {
+            flushedPosition = Math.max(flushedPosition, to);
+        }
+    }
+
+    public synchronized int size() {
+        return writePosition;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    private void runFlusher() {
+        while (!closed) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            flush();
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if ((long) writePosition + size <= buffer.capacity()) {
+            return;
+        }
+        long capacity = buffer.capacity();
+        while (capacity < (long) writePosition + size) {
+            capacity *= 2;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new RepositoryException(JOURNAL_FULL.getMessage());
+        }
+        try {
+            // 이전 매핑은 flusher가 참조하는 동안 그대로 유효하고, 같은 파일 페이지를 공유한다
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    // CRC가 맞는 마지막 이벤트 다음 위치. 쓰다 만 이벤트는 여기서 잘려 나간다
+    private int findEnd() {
+        int position = 0;
+        CRC32C crc = new CRC32C();
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.capacity() - position - HEADER_SIZE) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    // 잘려 나간 이벤트의 찌꺼기가 나중에 이어 쓴 이벤트 뒤에서 되살아나지 않도록 끝 이후를 0으로 채운다
+    private void clearTail() {
+        byte[] zeros = new byte[ZERO_CHUNK_SIZE];
+        int position = writePosition;
+        while (position < buffer.capacity()) {
+            int length = Math.min(zeros.length, buffer.capacity() - position);
+            buffer.put(position, zeros, 0, length);
+            position += length;
+        }
+        buffer.force();
+    }
+}
@@ -0,0 +1,19 @@
+package chess.repository.journal;
+
+import chess.domain.board.storage.StorageType;
+import chess.domain.status.GameStatus;
+import java.util.List;
+
+/**
+ * 스냅숏에 담는 게임 하나. moves는 startFen 국면부터 둔 수(PackedMove)이고, version은 Game의 버전이다
+ */
+public record GameSnapshot(
+        long id,
+        StorageType storageType,
+        String startFen,
+        List<String> playerIds,
+        short[] moves,
+        GameStatus status,
+        long version
+) {
+}
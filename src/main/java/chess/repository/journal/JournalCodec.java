@@ -0,0 +1,97 @@
+package chess.repository.journal;
+
+import static chess.common.message.ErrorMessage.JOURNAL_INVALID_EVENT;
+
+import chess.common.exception.RepositoryException;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.repository.journal.JournalEvent.GameCreated;
+import chess.repository.journal.JournalEvent.GameDeleted;
+import chess.repository.journal.JournalEvent.MoveMade;
+import chess.repository.journal.JournalEvent.MoveUndone;
+import chess.repository.journal.JournalEvent.PlayerJoined;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 본문의 바이너리 형식: [type 1바이트][gameId 8바이트][내용]
+ * GameCreated: [storageType 1][fen 길이 2][fen], PlayerJoined: [id 길이 2][id(UTF-8)],
+ * MoveMade: [from 1][to 1] (Position.index), MoveUndone/GameDeleted: 내용 없음
+ */
+final class JournalCodec {
+
+    private static final byte GAME_CREATED = 1;
+    private static final byte PLAYER_JOINED = 2;
+    private static final byte MOVE_MADE = 3;
+    private static final byte MOVE_UNDONE = 4;
+    private static final byte GAME_DELETED = 5;
+
+    private static final int PREFIX_SIZE = Byte.BYTES + Long.BYTES;
+    private static final int MAX_STRING_LENGTH = Short.MAX_VALUE;
+    private static final StorageType[] STORAGE_TYPES = StorageType.values();
+
+    private JournalCodec() {
+    }
+
+    static byte[] encode(JournalEvent event) {
+        return switch (event) {
+            case GameCreated created -> {
+                byte[] fen = bytesOf(created.fen());
+                yield prefix(GAME_CREATED, event, Byte.BYTES + Short.BYTES + fen.length)
+                        .put((byte) created.storageType().ordinal())
+                        .putShort((short) fen.length)
+                        .put(fen)
+                        .array();
+            }
+            case PlayerJoined joined -> {
+                byte[] playerId = bytesOf(joined.playerId());
+                yield prefix(PLAYER_JOINED, event, Short.BYTES + playerId.length)
+                        .putShort((short) playerId.length)
+                        .put(playerId)
+                        .array();
+            }
+            case MoveMade moved -> prefix(MOVE_MADE, event, 2)
+                    .put((byte) moved.from().index())
+                    .put((byte) moved.to().index())
+                    .array();
+            case MoveUndone undone -> prefix(MOVE_UNDONE, event, 0).array();
+            case GameDeleted deleted -> prefix(GAME_DELETED, event, 0).array();
+        };
+    }
+
+    static JournalEvent decode(ByteBuffer body) {
+        byte type = body.get();
+        long gameId = body.getLong();
+        return switch (type) {
+            case GAME_CREATED -> {
+                StorageType storageType = STORAGE_TYPES[body.get()];
+                yield new GameCreated(gameId, storageType, readString(body));
+            }
+            case PLAYER_JOINED -> new PlayerJoined(gameId, readString(body));
+            case MOVE_MADE -> new MoveMade(gameId, Position.ofIndex(body.get()), Position.ofIndex(body.get()));
+            case MOVE_UNDONE -> new MoveUndone(gameId);
+            case GAME_DELETED -> new GameDeleted(gameId);
+            default -> throw new RepositoryException(JOURNAL_INVALID_EVENT.getMessage(String.valueOf(type)));
+        };
+    }
+
+    private static ByteBuffer prefix(byte type, JournalEvent event, int contentSize) {
+        return ByteBuffer.allocate(PREFIX_SIZE + contentSize)
+                .put(type)
+                .putLong(event.gameId());
+    }
+
+    private static byte[] bytesOf(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new RepositoryException(JOURNAL_INVALID_EVENT.getMessage(value));
+        }
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer body) {
+        byte[] bytes = new byte[body.getShort()];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,102 @@
+package chess.repository.journal;
+
+import static chess.common.message.ErrorMessage.JOURNAL_IO_FAILED;
+
+import chess.common.exception.RepositoryException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 세대(generation)별 저널/스냅숏 파일을 관리한다.
+ * journal-N.log는 N세대에 쌓인 이벤트이고, snapshot-N.snap은 N세대 저널을 시작할 때의 게임 상태이다.
+ * 스냅숏 N이 생기면 N보다 이전 세대의 파일은 필요 없으므로 지우거나 archive 디렉터리로 옮긴다.
+ */
+public class JournalDirectory {
+
+    private static final String JOURNAL_PREFIX = "journal-";
+    private static final String JOURNAL_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String ARCHIVE_DIRECTORY = "archive";
+
+    private final Path directory;
+    private final boolean archive;
+
+    public JournalDirectory(Path directory, boolean archive) {
+        this.directory = directory;
+        this.archive = archive;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    public Path journalPath(long generation) {
+        return directory.resolve(fileName(JOURNAL_PREFIX, generation, JOURNAL_SUFFIX));
+    }
+
+    public Path snapshotPath(long generation) {
+        return directory.resolve(fileName(SNAPSHOT_PREFIX, generation, SNAPSHOT_SUFFIX));
+    }
+
+    public List<Long> journalGenerations() {
+        return generations(JOURNAL_PREFIX, JOURNAL_SUFFIX);
+    }
+
+    public List<Long> snapshotGenerations() {
+        return generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * generation보다 이전 세대의 저널과 스냅숏을 지우거나 보관한다
+     */
+    public void retireBefore(long generation) {
+        for (long journal : journalGenerations()) {
+            if (journal < generation) {
+                retire(journalPath(journal));
+            }
+        }
+        for (long snapshot : snapshotGenerations()) {
+            if (snapshot < generation) {
+                retire(snapshotPath(snapshot));
+            }
+        }
+    }
+
+    private void retire(Path path) {
+        try {
+            if (!archive) {
+                Files.deleteIfExists(path);
+                return;
+            }
+            Path archiveDirectory = Files.createDirectories(directory.resolve(ARCHIVE_DIRECTORY));
+            Files.move(path, archiveDirectory.resolve(path.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    private List<Long> generations(String prefix, String suffix) {
+        List<Long> generations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .forEach(generations::add);
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+        return generations;
+    }
+
+    private String fileName(String prefix, long generation, String suffix) {
+        return String.format("%s%016d%s", prefix, generation, suffix);
+    }
+}
@@ -0,0 +1,33 @@
+package chess.repository.journal;
+
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+
+/**
+ * 저널에 한 건씩 남기는 게임 이벤트. 게임은 GameCreated부터 순서대로 다시 적용해 복원한다
+ */
+public sealed interface JournalEvent {
+
+    long gameId();
+
+    /**
+     * fen은 게임이 시작된 국면
+     */
+    record GameCreated(long gameId, StorageType storageType, String fen) implements JournalEvent {
+    }
+
+    /**
+     * 참가 순서가 곧 색이다 (먼저 참가한 플레이어가 흰색)
+     */
+    record PlayerJoined(long gameId, String playerId) implements JournalEvent {
+    }
+
+    record MoveMade(long gameId, Position from, Position to) implements JournalEvent {
+    }
+
+    record MoveUndone(long gameId) implements JournalEvent {
+    }
+
+    record GameDeleted(long gameId) implements JournalEvent {
+    }
+}
@@ -0,0 +1,168 @@
+package chess.repository.journal;
+
+import static chess.common.message.ErrorMessage.JOURNAL_INVALID_SNAPSHOT;
+import static chess.common.message.ErrorMessage.JOURNAL_IO_FAILED;
+
+import chess.common.exception.RepositoryException;
+import chess.domain.board.storage.StorageType;
+import chess.domain.status.GameStatus;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 스냅숏 파일 형식: [magic 4][version 1][nextId 8] 뒤에 게임마다 [1][게임], 끝에 [0][게임 수 4][CRC32C 4]
+ * 게임: [id 8][storageType 1][fen 길이 2][fen][참가자 수 1]([id 길이 2][id])*[status 1][게임 버전 8][수 개수 4][PackedMove 2]*
+ * 형식 1에는 게임 버전이 없어, 읽을 때 참가자 수 + 수 개수로 채운다.
+ * 임시 파일에 다 쓰고 동기화한 뒤 이름을 바꾸므로, 이름이 붙은 스냅숏은 항상 완전하다.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x43485353;
+    private static final byte VERSION = 2;
+    private static final byte VERSION_WITHOUT_GAME_VERSION = 1;
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private static final StorageType[] STORAGE_TYPES = StorageType.values();
+    private static final GameStatus[] STATUSES = GameStatus.values();
+
+    private SnapshotFile() {
+    }
+
+    public static int write(Path path, long nextId, Iterator<GameSnapshot> games) {
+        return write(path, nextId, games, true);
+    }
+
+    /**
+     * durable이 false이면 디스크 동기화(fsync)를 건너뛴다. 재시작하면 버리는 파일에 쓴다
+     */
+    public static int write(Path path, long nextId, Iterator<GameSnapshot> games, boolean durable) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        int count = 0;
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(
+                     new BufferedOutputStream(new CheckedOutputStream(file, crc), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(nextId);
+            while (games.hasNext()) {
+                out.writeByte(1);
+                writeGame(out, games.next());
+                count++;
+            }
+            out.writeByte(0);
+            out.writeInt(count);
+            out.flush();
+            file.write(ByteBuffer.allocate(Integer.BYTES).putInt((int) crc.getValue()).array());
+            if (durable) {
+                file.getFD().sync();
+            }
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+        try {
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+        return count;
+    }
+
+    public static SnapshotContents read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(path, buffer);
+        } catch (IOException e) {
+            throw new RepositoryException(JOURNAL_IO_FAILED.getMessage(e.getMessage()));
+        }
+    }
+
+    private static SnapshotContents read(Path path, ByteBuffer buffer) {
+        int bodySize = buffer.limit() - Integer.BYTES;
+        if (bodySize < Integer.BYTES + 1 + Long.BYTES || buffer.getInt(0) != MAGIC
+                || (buffer.get(4) != VERSION && buffer.get(4) != VERSION_WITHOUT_GAME_VERSION)) {
+            throw new RepositoryException(JOURNAL_INVALID_SNAPSHOT.getMessage(path.toString()));
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, bodySize));
+        if ((int) crc.getValue() != buffer.getInt(bodySize)) {
+            throw new RepositoryException(JOURNAL_INVALID_SNAPSHOT.getMessage(path.toString()));
+        }
+
+        ByteBuffer in = buffer.slice(0, bodySize);
+        boolean hasGameVersion = buffer.get(4) == VERSION;
+        in.position(Integer.BYTES + 1);
+        long nextId = in.getLong();
+        List<GameSnapshot> games = new ArrayList<>();
+        while (in.get() == 1) {
+            games.add(readGame(in, hasGameVersion));
+        }
+        return new SnapshotContents(nextId, games);
+    }
+
+    private static void writeGame(DataOutputStream out, GameSnapshot game) throws IOException {
+        out.writeLong(game.id());
+        out.writeByte(game.storageType().ordinal());
+        writeString(out, game.startFen());
+        out.writeByte(game.playerIds().size());
+        for (String playerId : game.playerIds()) {
+            writeString(out, playerId);
+        }
+        out.writeByte(game.status().ordinal());
+        out.writeLong(game.version());
+        out.writeInt(game.moves().length);
+        for (short move : game.moves()) {
+            out.writeShort(move);
+        }
+    }
+
+    private static GameSnapshot readGame(ByteBuffer in, boolean hasGameVersion) {
+        long id = in.getLong();
+        StorageType storageType = STORAGE_TYPES[in.get()];
+        String startFen = readString(in);
+        int playerCount = in.get();
+        List<String> playerIds = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            playerIds.add(readString(in));
+        }
+        GameStatus status = STATUSES[in.get()];
+        long version = hasGameVersion ? in.getLong() : -1;
+        short[] moves = new short[in.getInt()];
+        in.asShortBuffer().get(moves);
+        in.position(in.position() + moves.length * Short.BYTES);
+        if (!hasGameVersion) {
+            version = playerCount + moves.length;
+        }
+        return new GameSnapshot(id, storageType, startFen, List.copyOf(playerIds), moves, status, version);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public record SnapshotContents(long nextId, List<GameSnapshot> games) {
+    }
+}
@@ -0,0 +1,116 @@
+package chess.service;
+
+import chess.domain.game.GameView;
+import chess.dto.GameMessageWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 게임이 바뀔 때마다 /topic/games/{id}로 바뀐 내용을 방송한다. 요청 스레드는 뷰를 큐에 넣고 바로 돌아간다.
+ * 게임 id로 worker를 고르므로 한 게임의 메시지는 한 worker가 넣은 순서대로 보내고, 서로 다른 게임은 worker 수만큼 동시에 보낸다.
+ * 메시지는 worker가 한 번만 JSON으로 만들고, 브로커는 만들어진 바이트를 구독자 모두에게 그대로 보낸다.
+ * <p>
+ * 바로 앞 버전의 뷰가 있으면 바뀐 칸만 담은 델타를 보내고, 없으면(메모리에 다시 올라온 게임 등) 전체 스냅숏을 보낸다.
+ * 구독을 시작한 클라이언트와 버전을 놓친 클라이언트는 /app/games/{id}를 구독해 스냅숏을 따로 받는다 (GameSubscriptionController).
+ * <p>
+ * worker마다 큐는 capacity / workers개로 제한한다. 큐가 차면 publish가 자리가 날 때까지 기다리므로,
+ * 방송이 밀리면 그 게임의 다음 명령이 늦어질 뿐 메시지를 버리거나 메모리를 더 쓰지 않는다.
+ */
+public class GameBroadcaster implements AutoCloseable {
+
+    private static final String DESTINATION_PREFIX = "/topic/games/";
+
+    private final GameMessageSender sender;
+    private final List<BlockingQueue<Update>> queues;
+    private final List<Thread> workers;
+    private volatile boolean closed;
+
+    public GameBroadcaster(GameMessageSender sender, int workers, int capacity) {
+        this.sender = sender;
+        this.queues = new ArrayList<>(workers);
+        this.workers = new ArrayList<>(workers);
+        int queueCapacity = Math.max(1, capacity / workers);
+        for (int i = 0; i < workers; i++) {
+            BlockingQueue<Update> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            this.workers.add(Thread.ofPlatform()
+                    .name("game-broadcast-" + i)
+                    .daemon()
+                    .start(() -> runWorker(queue)));
+        }
+    }
+
+    /**
+     * previous는 명령 전에 게시되어 있던 뷰(없으면 null)이다.
+     * 한 게임의 뷰는 버전 순서대로 넣어야 한다. GameService는 게임의 명령 순서 안에서 부른다
+     */
+    public void publish(GameView previous, GameView view) {
+        if (closed) {
+            return;
+        }
+        BlockingQueue<Update> queue = queues.get(Math.floorMod(view.gameId(), queues.size()));
+        try {
+            queue.put(new Update(previous, view));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPendingCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    /**
+     * 더 받지 않고, 큐에 남은 메시지를 모두 보낸 뒤 worker를 멈춘다.
+     * 닫는 쪽이 인터럽트되면 인터럽트 상태를 되살리고 worker를 더 기다리지 않는다. 남은 메시지는 worker가 마저 보낸다
+     */
+    @Override
+    public void close() {
+        closed = true;
+        workers.forEach(Thread::interrupt);
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWorker(BlockingQueue<Update> queue) {
+        while (!closed) {
+            try {
+                send(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        Update remaining;
+        while ((remaining = queue.poll()) != null) {
+            send(remaining);
+        }
+    }
+
+    // 보내지 못한 메시지는 버린다. 구독자는 다음 델타에서 버전이 빈 것을 보고 스냅숏을 다시 받는다
+    private void send(Update update) {
+        GameView view = update.view();
+        try {
+            byte[] payload = update.message().getBytes(StandardCharsets.UTF_8);
+            sender.send(DESTINATION_PREFIX + view.gameId(), payload);
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    private record Update(GameView previous, GameView view) {
+
+        private String message() {
+            if (previous != null && previous.version() + 1 == view.version()) {
+                return GameMessageWriter.writeDelta(previous, view);
+            }
+            return GameMessageWriter.writeSnapshot(view);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package chess.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임마다 메일박스를 두고, 한 게임의 명령은 들어온 순서대로 하나씩 실행한다.
+ * 메일박스에 명령이 생기면 가상 스레드 하나가 비울 때까지 실행하고 끝나므로, 쉬는 게임은 스레드도 메일박스도 차지하지 않는다.
+ * 서로 다른 게임의 명령은 전역 잠금 없이 동시에 실행된다.
+ * <p>
+ * 메일박스를 만들고 없애는 일과 명령을 넣는 일은 모두 lanes.compute 안에서 하므로, 한 게임에 메일박스가 둘 생기지 않는다.
+ */
+@Component
+public class GameCommandExecutor {
+
+    private final Map<Long, Mailbox> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * 명령을 gameId의 메일박스에 넣고 실행이 끝날 때까지 기다린다. 명령이 던진 예외는 그대로 다시 던진다
+     */
+    public <T> T execute(Long gameId, Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                result.complete(command.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        };
+
+        Mailbox mailbox = lanes.compute(gameId, (id, current) -> {
+            Mailbox target = current == null ? new Mailbox() : current;
+            target.tasks.add(task);
+            return target;
+        });
+        if (mailbox.claim()) {
+            Thread.ofVirtual().name("game-" + gameId).start(() -> drain(gameId, mailbox));
+        }
+        return await(result);
+    }
+
+    public int getActiveLaneCount() {
+        return lanes.size();
+    }
+
+    private void drain(Long gameId, Mailbox mailbox) {
+        while (true) {
+            Runnable task = mailbox.tasks.poll();
+            if (task != null) {
+                task.run();
+                continue;
+            }
+            // 비었으면 메일박스를 없앤다. 그사이 명령이 들어왔으면 계속 실행한다
+            Mailbox remaining = lanes.compute(gameId, (id, current) ->
+                    current == mailbox && mailbox.tasks.isEmpty() ? null : current);
+            if (remaining != mailbox) {
+                return;
+            }
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Mailbox {
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private boolean claimed;
+
+        // 처음 부른 쪽만 true를 받아 실행 스레드를 띄운다
+        private synchronized boolean claim() {
+            if (claimed) {
+                return false;
+            }
+            claimed = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package chess.service;
+
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import java.util.function.Predicate;
+
+/**
+ * 내보낼 게임 조건. playerId가 null이면 참가자와 상관없이 고른다. playerId는 요청한 사람의 세션에서만 채운다
+ */
+public record GameExportFilter(boolean finishedOnly, String playerId) implements Predicate<Game> {
+
+    public static GameExportFilter all() {
+        return new GameExportFilter(false, null);
+    }
+
+    @Override
+    public boolean test(Game game) {
+        if (finishedOnly && !game.isFinished()) {
+            return false;
+        }
+        return playerId == null || game.isPlayer(new Player(playerId));
+    }
+}
@@ -0,0 +1,71 @@
+package chess.service;
+
+import chess.domain.game.Game;
+import chess.domain.move.MoveGenerator;
+import chess.domain.notation.GameExportFormat;
+import chess.domain.notation.GameNotation;
+import chess.domain.notation.PlayerPseudonyms;
+import chess.domain.status.CheckDetector;
+import chess.repository.GameRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+
+/**
+ * 저장된 게임을 PGN 또는 NDJSON으로 출력 스트림에 바로 쓴다. 플레이어는 가명(PlayerPseudonyms)으로만 쓴다.
+ * 게임을 하나씩 기보로 바꿔 쓰고 버리므로, 메모리에는 쓰는 중인 게임 하나와 출력 버퍼만 남는다.
+ */
+@Service
+public class GameExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final GameRepository gameRepository;
+    private final PlayerPseudonyms pseudonyms;
+    private final MoveGenerator moveGenerator;
+    private final CheckDetector checkDetector;
+
+    public GameExportService(GameRepository gameRepository, PlayerPseudonyms pseudonyms,
+                             MoveGenerator moveGenerator, CheckDetector checkDetector) {
+        this.gameRepository = gameRepository;
+        this.pseudonyms = pseudonyms;
+        this.moveGenerator = moveGenerator;
+        this.checkDetector = checkDetector;
+    }
+
+    /**
+     * 내보낸 게임 수를 반환한다. out은 닫지 않는다
+     */
+    public long export(GameExportFilter filter, GameExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = 0;
+        try (Stream<Game> games = gameRepository.findAll().filter(filter)) {
+            Iterator<Game> iterator = games.iterator();
+            while (iterator.hasNext()) {
+                Game game = iterator.next();
+                GameNotation notation;
+                synchronized (game) {
+                    notation = GameNotation.of(game, pseudonyms, moveGenerator, checkDetector);
+                }
+                format.write(notation, writer);
+                count++;
+                // 주기적으로 비워 HTTP 응답이 끝까지 쌓이지 않고 흘러가게 한다
+                if (count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,10 @@
+package chess.service;
+
+/**
+ * JSON으로 만든 메시지를 구독자에게 보낸다. 운영에서는 STOMP 브로커(SimpMessagingTemplate)로 보낸다
+ */
+@FunctionalInterface
+public interface GameMessageSender {
+
+    void send(String destination, byte[] payload);
+}
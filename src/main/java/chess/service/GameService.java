@@ -1,77 +1,134 @@
 package chess.service;
 
 import chess.common.exception.GameNotFoundException;
+import chess.common.exception.VersionConflictException;
 import chess.common.message.ErrorMessage;
 import chess.domain.board.Board;
 import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
 import chess.domain.game.Game;
+import chess.domain.game.GameView;
 import chess.domain.game.Player;
 import chess.domain.status.MovementValidator;
 import chess.domain.status.StatusCalculator;
 import chess.dto.ChessGameResponseDto;
 import chess.dto.MoveRequestDto;
 import chess.repository.GameRepository;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class GameService {
 
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
     private final GameRepository gameRepository;
     private final MovementValidator movementValidator;
     private final StatusCalculator statusCalculator;
+    private final StorageType boardStorageType;
+    private final GameCommandExecutor commandExecutor;
+    private final GameBroadcaster broadcaster;
 
     public GameService(GameRepository gameRepository,
                        MovementValidator movementValidator,
-                       StatusCalculator statusCalculator) {
+                       StatusCalculator statusCalculator,
+                       @Value("${chess.board.storage:MAP}") StorageType boardStorageType,
+                       GameCommandExecutor commandExecutor,
+                       GameBroadcaster broadcaster) {
         this.gameRepository = gameRepository;
         this.movementValidator = movementValidator;
         this.statusCalculator = statusCalculator;
+        this.boardStorageType = boardStorageType;
+        this.commandExecutor = commandExecutor;
+        this.broadcaster = broadcaster;
     }
 
     public ChessGameResponseDto startGame(String playerId) {
-        Board board = new Board();
+        Board board = new Board(boardStorageType);
         board.initialize();
 
         Game game = new Game(board);
         game.join(new Player(playerId));
         Game savedGame = gameRepository.save(game);
 
-        return ChessGameResponseDto.from(savedGame);
+        return ChessGameResponseDto.from(savedGame.publishView());
     }
 
+    // 한 게임의 참가, 수, 무르기는 GameCommandExecutor가 순서대로 하나씩 실행한다 (update 참고)
     public ChessGameResponseDto joinGame(Long gameId, String playerId) {
-        Game game = findGameById(gameId);
-        game.join(new Player(playerId));
-
-        gameRepository.save(game);
-        return ChessGameResponseDto.from(game);
+        Player player = new Player(playerId);
+        return update(gameId, game -> game.join(player));
     }
 
+    // 게시된 뷰만 읽으므로 진행 중인 명령을 기다리지 않는다.
+    // 메모리에 다시 올라온 게임처럼 뷰가 아직 없을 때만 명령 순서에 끼어 한 번 게시한다
     public ChessGameResponseDto load(Long gameId) {
-        Game game = findGameById(gameId);
-        return ChessGameResponseDto.from(game);
+        GameView view = findGameById(gameId).getView();
+        if (view != null) {
+            return ChessGameResponseDto.from(view);
+        }
+        return commandExecutor.execute(gameId, () -> {
+            Game game = findGameById(gameId);
+            synchronized (game) {
+                GameView published = game.getView();
+                return ChessGameResponseDto.from(published != null ? published : game.publishView());
+            }
+        });
     }
 
     public ChessGameResponseDto move(Long gameId, MoveRequestDto moveRequest, String playerId) {
-        Game game = findGameById(gameId);
-
         Position from = Position.from(moveRequest.from());
         Position to = Position.from(moveRequest.to());
         Player player = new Player(playerId);
 
-        game.move(player, from, to, movementValidator, statusCalculator);
-
-        gameRepository.save(game);
-        return ChessGameResponseDto.from(game);
+        return update(gameId, game -> game.move(player, from, to, movementValidator, statusCalculator));
     }
 
     public ChessGameResponseDto undo(Long gameId, String playerId) {
-        Game game = findGameById(gameId);
-
-        game.undo(new Player(playerId));
+        Player player = new Player(playerId);
+        return update(gameId, game -> game.undo(player));
+    }
 
-        gameRepository.save(game);
-        return ChessGameResponseDto.from(game);
+    // 게임은 모니터를 잡고 바꾸는데, 저장소의 writer나 hibernator가 같은 게임을 읽기 때문이다.
+    // 저장은 모니터를 놓은 뒤에 하고 (WriteBehindGameRepository 참고), 바꾸기 전 버전으로 compareAndSave한다.
+    // 그 사이에 writer가 게임을 보더라도 아직 확인되지 않은 버전이므로 쓰지 않는다.
+    // 다른 쪽이 먼저 저장해 충돌하면 명령을 되돌린다. 저장소가 이미 다른 게임 객체를 들고 있으면 그 객체로 다시 하고,
+    // 같은 객체이면 다시 해도 또 충돌하므로 VersionConflictException을 그대로 던진다.
+    // 새 GameView는 저장에 성공한 뒤에만 게시하므로, 읽는 쪽과 관전자는 저장되지 않은 상태를 보지 않는다.
+    // 방송은 명령 순서 안에서 넘겨야 버전 순서대로 나가고, 실제로 보내는 일은 GameBroadcaster의 worker가 한다
+    private ChessGameResponseDto update(Long gameId, Consumer<Game> command) {
+        return commandExecutor.execute(gameId, () -> {
+            for (int attempt = 1; ; attempt++) {
+                Game game = findGameById(gameId);
+                Game.Checkpoint checkpoint;
+                synchronized (game) {
+                    checkpoint = game.checkpoint();
+                    command.accept(game);
+                }
+
+                try {
+                    gameRepository.compareAndSave(game, checkpoint.version());
+                } catch (VersionConflictException e) {
+                    synchronized (game) {
+                        game.rollback(checkpoint);
+                    }
+                    if (attempt == MAX_SAVE_ATTEMPTS || findGameById(gameId) == game) {
+                        throw e;
+                    }
+                    continue;
+                }
+
+                GameView previous;
+                GameView view;
+                synchronized (game) {
+                    previous = game.getView();
+                    view = game.publishView();
+                }
+                broadcaster.publish(previous, view);
+                return ChessGameResponseDto.from(view);
+            }
+        });
     }
 
     private Game findGameById(Long gameId) {
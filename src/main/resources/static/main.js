@@ -2,6 +2,11 @@ const API_BASE = "/games";
 let selectedTile = null;
 let stompClient = null;
 
+// 마지막으로 받은 전체 게임 상태. 델타는 version이 정확히 1 큰 것만 적용한다
+let gameState = null;
+// 스냅숏을 기다리는 동안 도착한 델타
+let pendingDeltas = [];
+
 const PIECE_MAP = {
     'K': '♔', 'Q': '♕', 'R': '♖', 'B': '♗', 'N': '♘', 'P': '♙',
     'k': '♚', 'q': '♛', 'r': '♜', 'b': '♝', 'n': '♞', 'p': '♟'
@@ -65,7 +70,7 @@ function setupGameScreen(gameData, isFlipped) {
 
     // 보드 초기화
     initBoard(isFlipped);
-    renderGame(gameData);
+    applySnapshot(gameData);
 }
 
 // 3. 웹소켓 연결
@@ -77,17 +82,91 @@ function connectWebSocket(gameId) {
     // stompClient.debug = null; // 로그 끄기
 
     stompClient.connect({}, function (frame) {
+        // 델타를 놓치지 않도록 토픽을 먼저 구독한 뒤 현재 상태를 받는다
         stompClient.subscribe(`/topic/games/${gameId}`, function (message) {
-            const gameData = JSON.parse(message.body);
-            renderGame(gameData);
+            handleUpdate(JSON.parse(message.body));
         });
+        requestSnapshot(gameId);
     }, function (error) {
         console.error("WebSocket Error:", error);
     });
 }
 
+// /app/games/{id} 구독은 현재 게임 전체를 이 클라이언트에게만 한 번 보내 준다
+function requestSnapshot(gameId) {
+    const subscription = stompClient.subscribe(`/app/games/${gameId}`, function (message) {
+        subscription.unsubscribe();
+        applySnapshot(JSON.parse(message.body));
+    });
+}
+
+// 토픽 메시지는 board가 있으면 스냅숏, 없으면 바뀐 칸(changes)만 담은 델타이다
+function handleUpdate(data) {
+    if (data.board) {
+        applySnapshot(data);
+        return;
+    }
+    if (!gameState) {
+        pendingDeltas.push(data);
+        return;
+    }
+    applyDelta(data);
+}
+
+function applySnapshot(data) {
+    if (gameState && data.version < gameState.version) return; // 이미 더 새 상태를 들고 있음
+
+    gameState = {...data, board: {...data.board}};
+    renderGame(gameState);
+
+    const buffered = pendingDeltas;
+    pendingDeltas = [];
+    buffered.forEach(applyDelta);
+}
+
+function applyDelta(delta) {
+    if (delta.version <= gameState.version) return; // 스냅숏에 이미 들어 있는 변경
+
+    // 버전이 비면 놓친 메시지가 있으므로 전체 상태를 다시 받는다
+    if (delta.version !== gameState.version + 1) {
+        gameState = null;
+        pendingDeltas = [delta];
+        requestSnapshot(delta.gameId);
+        return;
+    }
+
+    for (const [position, pieceSymbol] of Object.entries(delta.changes)) {
+        if (pieceSymbol === null) {
+            delete gameState.board[position];
+        } else {
+            gameState.board[position] = pieceSymbol;
+        }
+        renderTile(position, pieceSymbol);
+    }
+    gameState.version = delta.version;
+    gameState.currentTurn = delta.currentTurn;
+    gameState.status = delta.status;
+    gameState.lastMove = delta.lastMove;
+    renderInfo(gameState);
+}
+
 // 4. 화면 렌더링 (게임 정보 업데이트)
 function renderGame(data) {
+    renderInfo(data);
+
+    document.querySelectorAll('.tile').forEach(tile => tile.innerText = '');
+    for (const [position, pieceSymbol] of Object.entries(data.board)) {
+        renderTile(position, pieceSymbol);
+    }
+}
+
+function renderTile(position, pieceSymbol) {
+    const tile = document.getElementById(position);
+    if (!tile) return;
+    tile.innerText = pieceSymbol ? (PIECE_MAP[pieceSymbol] || pieceSymbol) : '';
+}
+
+function renderInfo(data) {
     // 게임 정보 업데이트
     document.getElementById('display-game-id').innerText = data.gameId;
     document.getElementById('game-status').innerText = `상태: ${data.status}`;
@@ -101,14 +180,6 @@ function renderGame(data) {
         turnBox.classList.add('black');
     }
     // 턴 색상에 따라 텍스트 색상 변경 (시각적 효과)
-
-    const boardMap = data.board;
-    document.querySelectorAll('.tile').forEach(tile => tile.innerText = '');
-
-    for (const [position, pieceSymbol] of Object.entries(boardMap)) {
-        const tile = document.getElementById(position);
-        if (tile) tile.innerText = PIECE_MAP[pieceSymbol] || pieceSymbol;
-    }
 }
 
 // 5. 타일 클릭 핸들러
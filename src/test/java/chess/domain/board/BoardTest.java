@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import chess.common.exception.PieceNotFoundException;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.BoardSnapshot;
 import chess.domain.piece.Color;
 import chess.domain.piece.Piece;
 import chess.domain.piece.Type;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 @DisplayName("Board 객체 테스트")
@@ -494,4 +497,268 @@ class BoardTest {
         }
 
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("makeMove / unmakeMove 테스트")
+    class MakeUnmakeTest {
+
+        private Board createBoard(StorageType storageType) {
+            Map<Position, Piece> pieces = new HashMap<>();
+            pieces.put(Position.from("E1"), new King(Color.WHITE));
+            pieces.put(Position.from("H1"), new Rook(Color.WHITE));
+            pieces.put(Position.from("E8"), new King(Color.BLACK));
+            pieces.put(Position.from("A7"), new Pawn(Color.WHITE));
+            pieces.put(Position.from("B8"), new Knight(Color.BLACK));
+            pieces.put(Position.from("D5"), new Pawn(Color.WHITE));
+            pieces.put(Position.from("C7"), new Pawn(Color.BLACK));
+            return new Board(pieces, storageType);
+        }
+
+        @ParameterizedTest
+        @EnumSource(StorageType.class)
+        @DisplayName("일반 이동, 잡기, 캐슬링, 앙파상, 승진을 되돌리면 보드가 원래대로 복원된다")
+        void unmakeRestoresBoard(StorageType storageType) {
+            Board board = createBoard(storageType);
+            Map<Position, Piece> initialPieces = Map.copyOf(board.getPieces());
+
+            MoveUndo doublePush = board.makeMove(Position.from("C7"), Position.from("C5"));
+            Map<Position, Piece> afterDoublePush = Map.copyOf(board.getPieces());
+            Position enPassantTarget = board.getEnPassantTarget();
+
+            List<String[]> moves = List.of(
+                    new String[]{"D5", "C6"},
+                    new String[]{"E1", "G1"},
+                    new String[]{"A7", "B8"},
+                    new String[]{"H1", "H8"}
+            );
+
+            for (String[] move : moves) {
+                MoveUndo undo = board.makeMove(Position.from(move[0]), Position.from(move[1]));
+                board.unmakeMove(undo);
+
+                assertThat(board.getPieces()).isEqualTo(afterDoublePush);
+                assertThat(board.getEnPassantTarget()).isEqualTo(enPassantTarget);
+            }
+
+            board.unmakeMove(doublePush);
+            assertThat(board.getPieces()).isEqualTo(initialPieces);
+            assertThat(board.getEnPassantTarget()).isNull();
+        }
+
+        @Test
+        @DisplayName("앙파상 기록에는 잡힌 폰과 그 위치가 담긴다")
+        void enPassantUndoHoldsCapturedPawn() {
+            Board board = createBoard(StorageType.MAP);
+            board.makeMove(Position.from("C7"), Position.from("C5"));
+
+            MoveUndo undo = board.makeMove(Position.from("D5"), Position.from("C6"));
+
+            assertAll(
+                    () -> assertThat(undo.isEnPassant()).isTrue(),
+                    () -> assertThat(undo.capturedPosition()).isEqualTo(Position.from("C5")),
+                    () -> assertThat(board.getPiece(Position.from("C5"))).isNull(),
+                    () -> assertThat(board.getEnPassantTarget()).isNull()
+            );
+        }
+
+        @Test
+        @DisplayName("캐슬링 후에는 앙파상 타겟이 초기화된다")
+        void castlingClearsEnPassantTarget() {
+            Board board = createBoard(StorageType.MAP);
+            board.makeMove(Position.from("C7"), Position.from("C5"));
+
+            MoveUndo undo = board.makeMove(Position.from("E1"), Position.from("G1"));
+
+            assertAll(
+                    () -> assertThat(undo.isCastling()).isTrue(),
+                    () -> assertThat(board.getPiece(Position.from("F1"))).isInstanceOf(Rook.class),
+                    () -> assertThat(board.getEnPassantTarget()).isNull()
+            );
+        }
+
+        @Test
+        @DisplayName("승진 기록에는 승진 전 폰이 담긴다")
+        void promotionUndoHoldsPawn() {
+            Board board = createBoard(StorageType.MAP);
+
+            MoveUndo undo = board.makeMove(Position.from("A7"), Position.from("B8"));
+
+            assertAll(
+                    () -> assertThat(undo.isPromotion()).isTrue(),
+                    () -> assertThat(undo.movedPiece()).isInstanceOf(Pawn.class),
+                    () -> assertThat(undo.capturedPiece()).isInstanceOf(Knight.class),
+                    () -> assertThat(board.getPiece(Position.from("B8"))).isInstanceOf(Queen.class)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Zobrist 해시 테스트")
+    class ZobristKeyTest {
+
+        @ParameterizedTest
+        @EnumSource(StorageType.class)
+        @DisplayName("이동마다 갱신한 해시는 같은 배치로 새로 만든 보드의 해시와 같다")
+        void incrementalKeyMatchesFreshBoard(StorageType storageType) {
+            Board board = new Board(storageType);
+            board.initialize();
+
+            String[][] moves = {{"G1", "F3"}, {"G8", "F6"}, {"E2", "E3"}, {"E7", "E6"}, {"F1", "E2"},
+                    {"F8", "E7"}, {"E1", "G1"}, {"F6", "E4"}};
+            for (String[] move : moves) {
+                board.move(Position.from(move[0]), Position.from(move[1]));
+
+                assertThat(board.getZobristKey()).isEqualTo(new Board(board.getPieces()).getZobristKey());
+            }
+        }
+
+        @Test
+        @DisplayName("나이트가 제자리로 돌아오면 처음과 같은 해시를 가진다")
+        void knightShuffleReturnsToSameKey() {
+            long initialKey = board.getZobristKey();
+
+            board.move(Position.from("G1"), Position.from("F3"));
+            board.move(Position.from("G8"), Position.from("F6"));
+            board.move(Position.from("F3"), Position.from("G1"));
+            board.move(Position.from("F6"), Position.from("G8"));
+
+            assertThat(board.getZobristKey()).isEqualTo(initialKey);
+        }
+
+        @Test
+        @DisplayName("룩이 제자리로 돌아와도 캐슬링 권리를 잃었으므로 해시가 다르다")
+        void lostCastlingRightChangesKey() {
+            Map<Position, Piece> pieces = new HashMap<>();
+            pieces.put(Position.from("E1"), new King(Color.WHITE));
+            pieces.put(Position.from("H1"), new Rook(Color.WHITE));
+            pieces.put(Position.from("E8"), new King(Color.BLACK));
+            Board board = new Board(pieces);
+            long initialKey = board.getZobristKey();
+
+            board.move(Position.from("H1"), Position.from("H2"));
+            board.move(Position.from("H2"), Position.from("H1"));
+
+            assertThat(board.getCastlingRights()).isZero();
+            assertThat(board.getZobristKey()).isNotEqualTo(initialKey);
+        }
+
+        @Test
+        @DisplayName("이동을 되돌리면 해시와 앙파상 타겟이 복원된다")
+        void unmakeRestoresKey() {
+            board.move(Position.from("E2"), Position.from("E4"));
+            long keyBefore = board.getZobristKey();
+
+            MoveUndo undo = board.makeMove(Position.from("D7"), Position.from("D5"));
+            assertThat(board.getZobristKey()).isNotEqualTo(keyBefore);
+
+            board.unmakeMove(undo);
+            assertThat(board.getZobristKey()).isEqualTo(keyBefore);
+            assertThat(board.getEnPassantTarget()).isEqualTo(Position.from("E3"));
+        }
+    }
+
+    @Nested
+    @DisplayName("색상별 기물 목록 테스트")
+    class PieceListsTest {
+
+        @Test
+        @DisplayName("색상별 기물 목록은 매번 새로 만들지 않는 읽기 전용 뷰다")
+        void piecesByTeamIsSameView() {
+            Map<Position, Piece> whitePieces = board.getPiecesByTeam(Color.WHITE);
+
+            board.move(Position.from("E2"), Position.from("E4"));
+
+            assertThat(board.getPiecesByTeam(Color.WHITE)).isSameAs(whitePieces);
+            assertThat(whitePieces).containsKey(Position.from("E4")).doesNotContainKey(Position.from("E2"));
+            assertThatThrownBy(() -> whitePieces.remove(Position.from("E4")))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("캐슬링 후 킹 위치가 갱신되고 되돌리면 복원된다")
+        void castlingUpdatesKingPosition() {
+            Map<Position, Piece> pieces = new HashMap<>();
+            pieces.put(Position.from("E1"), new King(Color.WHITE));
+            pieces.put(Position.from("A1"), new Rook(Color.WHITE));
+            pieces.put(Position.from("E8"), new King(Color.BLACK));
+            Board board = new Board(pieces);
+
+            MoveUndo undo = board.makeMove(Position.from("E1"), Position.from("C1"));
+            assertThat(board.findKingPosition(Color.WHITE)).isEqualTo(Position.from("C1"));
+
+            board.unmakeMove(undo);
+            assertThat(board.findKingPosition(Color.WHITE)).isEqualTo(Position.from("E1"));
+        }
+
+        @Test
+        @DisplayName("앙파상, 승진, 복원 시 종류별 개수가 갱신된다")
+        void countsFollowSpecialMoves() {
+            Map<Position, Piece> pieces = new HashMap<>();
+            pieces.put(Position.from("E1"), new King(Color.WHITE));
+            pieces.put(Position.from("E8"), new King(Color.BLACK));
+            pieces.put(Position.from("E5"), new Pawn(Color.WHITE));
+            pieces.put(Position.from("B7"), new Pawn(Color.WHITE));
+            pieces.put(Position.from("D7"), new Pawn(Color.BLACK));
+            Board board = new Board(pieces);
+
+            board.move(Position.from("D7"), Position.from("D5"));
+            board.move(Position.from("E5"), Position.from("D6"));
+            assertThat(board.getPieceCount(Color.BLACK, Type.PAWN)).isZero();
+
+            board.move(Position.from("B7"), Position.from("B8"));
+            assertAll(
+                    () -> assertThat(board.getPieceCount(Color.WHITE, Type.PAWN)).isEqualTo(1),
+                    () -> assertThat(board.getPieceCount(Color.WHITE, Type.QUEEN)).isEqualTo(1),
+                    () -> assertThat(board.getPiecesByTeam(Color.WHITE)).hasSize(3)
+            );
+
+            board.restore(new BoardSnapshot(pieces, Color.WHITE, null));
+            assertAll(
+                    () -> assertThat(board.getPieceCount(Color.BLACK, Type.PAWN)).isEqualTo(1),
+                    () -> assertThat(board.getPieceCount(Color.WHITE, Type.QUEEN)).isZero(),
+                    () -> assertThat(board.findKingPosition(Color.BLACK)).isEqualTo(Position.from("E8"))
+            );
+        }
+
+        @Test
+        @DisplayName("잡기, 승진, 되돌리기를 거쳐도 기물 구성은 처음부터 다시 센 값과 같다")
+        void materialSignatureFollowsCapturesAndPromotions() {
+            Map<Position, Piece> pieces = new HashMap<>();
+            pieces.put(Position.from("E1"), new King(Color.WHITE));
+            pieces.put(Position.from("E8"), new King(Color.BLACK));
+            pieces.put(Position.from("B7"), new Pawn(Color.WHITE));
+            pieces.put(Position.from("C8"), new Bishop(Color.BLACK));
+            pieces.put(Position.from("F8"), new Bishop(Color.BLACK));
+            Board board = new Board(pieces);
+
+            assertAll(
+                    () -> assertThat(board.getMaterialSignature().bishopCount(Color.BLACK, true)).isEqualTo(1),
+                    () -> assertThat(board.getMaterialSignature().bishopCount(Color.BLACK, false)).isEqualTo(1)
+            );
+
+            MoveUndo undo = board.makeMove(Position.from("B7"), Position.from("C8"));
+            MaterialSignature promoted = board.getMaterialSignature();
+            assertAll(
+                    () -> assertThat(promoted.count(Color.WHITE, Type.PAWN)).isZero(),
+                    () -> assertThat(promoted.count(Color.WHITE, Type.QUEEN)).isEqualTo(1),
+                    () -> assertThat(promoted.bishopCount(Color.BLACK, true)).isZero(),
+                    () -> assertThat(promoted.bishopCount(Color.BLACK, false)).isEqualTo(1),
+                    () -> assertThat(promoted).isEqualTo(new Board(board.getPieces()).getMaterialSignature())
+            );
+
+            board.unmakeMove(undo);
+            assertThat(board.getMaterialSignature()).isEqualTo(new Board(pieces).getMaterialSignature());
+        }
+
+        @Test
+        @DisplayName("복사한 보드는 원본과 같은 목록을 따로 가진다")
+        void copiedBoardHasOwnLists() {
+            Board copied = new Board(board);
+            copied.move(Position.from("E2"), Position.from("E4"));
+
+            assertThat(board.getPiecesByTeam(Color.WHITE)).containsKey(Position.from("E2"));
+            assertThat(copied.getPiecesByTeam(Color.WHITE)).containsKey(Position.from("E4"));
+            assertThat(copied.getPieceCount(Color.WHITE, Type.PAWN)).isEqualTo(8);
+        }
+    }
+}
@@ -35,4 +35,26 @@ class PositionTest {
                     .isInstanceOf(InvalidPositionException.class);
         }
     }
+
+    @Nested
+    @DisplayName("칸 번호(index) 변환 테스트")
+    class IndexTest {
+        @ParameterizedTest
+        @CsvSource(value = {"A1,0", "H1,7", "A2,8", "E4,28", "H8,63"})
+        @DisplayName("Position과 칸 번호는 서로 변환된다")
+        void indexConversion(String algebraicNotation, int expectedIndex) {
+            Position position = Position.from(algebraicNotation);
+
+            assertThat(position.index()).isEqualTo(expectedIndex);
+            assertThat(Position.ofIndex(expectedIndex)).isEqualTo(position);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 64})
+        @DisplayName("범위를 벗어난 칸 번호는 InvalidPositionException이 발생한다")
+        void invalidIndex(int index) {
+            assertThatThrownBy(() -> Position.ofIndex(index))
+                    .isInstanceOf(InvalidPositionException.class);
+        }
+    }
 }
\ No newline at end of file
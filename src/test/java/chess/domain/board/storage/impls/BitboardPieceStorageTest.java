@@ -0,0 +1,158 @@
+package chess.domain.board.storage.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.board.Bitboards;
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.board.storage.PieceStorage;
+import chess.domain.board.storage.StorageType;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import chess.domain.piece.impls.King;
+import chess.domain.piece.impls.Pawn;
+import chess.domain.piece.impls.Queen;
+import chess.domain.piece.impls.Rook;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("BitboardPieceStorage 테스트")
+class BitboardPieceStorageTest {
+
+    private BitboardPieceStorage storage;
+    private final Position a1 = Position.from("A1");
+    private final Position a8 = Position.from("A8");
+    private final Position e4 = Position.from("E4");
+
+    @BeforeEach
+    void setUp() {
+        storage = new BitboardPieceStorage();
+    }
+
+    @Test
+    @DisplayName("기물을 놓으면 종류별, 색상별, 전체 마스크에 비트가 켜진다")
+    void putSetsMasks() {
+        storage.put(a1, new Rook(Color.WHITE));
+
+        long a1Bit = Bitboards.bit(a1);
+        assertAll(
+                () -> assertThat(storage.get(a1)).isInstanceOf(Rook.class),
+                () -> assertThat(storage.getPieceMask(Color.WHITE, Type.ROOK)).isEqualTo(a1Bit),
+                () -> assertThat(storage.getColorMask(Color.WHITE)).isEqualTo(a1Bit),
+                () -> assertThat(storage.getColorMask(Color.BLACK)).isEqualTo(Bitboards.EMPTY),
+                () -> assertThat(storage.getOccupied()).isEqualTo(a1Bit)
+        );
+    }
+
+    @Test
+    @DisplayName("기물이 있는 칸에 다른 기물을 놓으면 기존 기물의 비트가 지워진다")
+    void putOnOccupiedSquareReplacesPiece() {
+        storage.put(e4, new Pawn(Color.BLACK));
+        storage.put(e4, new Queen(Color.WHITE));
+
+        assertAll(
+                () -> assertThat(storage.get(e4)).isInstanceOf(Queen.class),
+                () -> assertThat(storage.getPieceMask(Color.BLACK, Type.PAWN)).isEqualTo(Bitboards.EMPTY),
+                () -> assertThat(storage.getColorMask(Color.BLACK)).isEqualTo(Bitboards.EMPTY),
+                () -> assertThat(storage.getPieceMask(Color.WHITE, Type.QUEEN)).isEqualTo(Bitboards.bit(e4))
+        );
+    }
+
+    @Test
+    @DisplayName("기물을 제거하면 모든 마스크에서 비트가 지워진다")
+    void removeClearsMasks() {
+        storage.put(a1, new Rook(Color.WHITE));
+        storage.remove(a1);
+
+        assertAll(
+                () -> assertThat(storage.get(a1)).isNull(),
+                () -> assertThat(storage.contains(a1)).isFalse(),
+                () -> assertThat(storage.getOccupied()).isEqualTo(Bitboards.EMPTY)
+        );
+    }
+
+    @Test
+    @DisplayName("맵 뷰는 저장소와 함께 바뀐다")
+    void asMapFollowsStorage() {
+        Map<Position, Piece> view = storage.asMap();
+        storage.put(a1, new Rook(Color.WHITE));
+        storage.put(a8, new Rook(Color.BLACK));
+        storage.put(e4, new King(Color.BLACK));
+        storage.remove(a1);
+
+        assertAll(
+                () -> assertThat(view).hasSize(2),
+                () -> assertThat(view).containsKeys(a8, e4),
+                () -> assertThat(view.get(a8)).isEqualTo(storage.get(a8)),
+                () -> assertThat(view.containsKey(a1)).isFalse(),
+                () -> assertThat(storage.asMap() == view).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("복사본을 수정해도 원본은 바뀌지 않는다")
+    void copyIsIndependent() {
+        storage.put(a1, new Rook(Color.WHITE));
+
+        PieceStorage copied = storage.copy();
+        copied.remove(a1);
+
+        assertThat(storage.get(a1)).isNotNull();
+        assertThat(copied.get(a1)).isNull();
+    }
+
+    @Nested
+    @DisplayName("경로 장애물 검사")
+    class PieceBetweenTest {
+
+        @ParameterizedTest
+        @CsvSource(value = {"A1, A8, A3, true", "A1, H8, D4, true", "H1, C1, E1, true", "A1, A8, B3, false",
+                "A1, B3, A2, false", "A1, A2, A3, false"})
+        @DisplayName("두 칸 사이의 점유 여부를 마스크 연산으로 판단한다")
+        void hasPieceBetween(String from, String to, String obstacle, boolean expected) {
+            storage.put(Position.from(obstacle), new Pawn(Color.BLACK));
+
+            assertThat(storage.hasPieceBetween(Position.from(from), Position.from(to))).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("임의의 배치에서 Map 기반 구현과 같은 결과를 낸다")
+        void matchesMapStorage() {
+            Random random = new Random(42);
+            for (int round = 0; round < 20; round++) {
+                Map<Position, Piece> pieces = createRandomPieces(random);
+                Board mapBoard = new Board(pieces, StorageType.MAP);
+                Board bitBoard = new Board(pieces, StorageType.BITBOARD);
+
+                for (int from = 0; from < 64; from++) {
+                    for (int to = 0; to < 64; to++) {
+                        Position fromPosition = Position.ofIndex(from);
+                        Position toPosition = Position.ofIndex(to);
+                        assertThat(bitBoard.hasObstacleInPath(fromPosition, toPosition))
+                                .isEqualTo(mapBoard.hasObstacleInPath(fromPosition, toPosition));
+                    }
+                }
+                assertThat(bitBoard.getPieces()).isEqualTo(mapBoard.getPieces());
+            }
+        }
+
+        private Map<Position, Piece> createRandomPieces(Random random) {
+            Map<Position, Piece> pieces = new HashMap<>();
+            for (int index = 0; index < 64; index++) {
+                if (random.nextInt(4) == 0) {
+                    pieces.put(Position.ofIndex(index), new Pawn(Color.WHITE));
+                }
+            }
+            return pieces;
+        }
+    }
+}
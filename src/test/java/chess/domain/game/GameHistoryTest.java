@@ -1,11 +1,19 @@
 package chess.domain.game;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
 import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.impls.Rook;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,23 +33,26 @@ class GameHistoryTest {
     @Test
     @DisplayName("이동 전 상태를 저장하고 이동 후 상태로 업데이트하면 기록이 남는다")
     void saveAndUpdateHistory() {
-        history.saveHistory(board, Color.WHITE);
+        history.saveHistory(createMove());
         history.updateHistory(board, Color.BLACK, false);
 
         assertThat(history.getFiftyMoveCount()).isEqualTo(1);
         assertThat(history.getRepetitionCount(board, Color.BLACK)).isEqualTo(1);
+        assertThat(history.getMoveCount()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("Undo를 수행하면 이전 50수 카운트가 복구되고 현재 상태의 반복 카운트가 감소한다")
     void undoHistoryRestoresState() {
-        history.saveHistory(board, Color.WHITE);
+        MoveUndo move = createMove();
+        history.saveHistory(move);
         history.updateHistory(board, Color.BLACK, false);
-        BoardSnapshot restoredSnapshot = history.undoHistory(board, Color.BLACK);
+        MoveUndo lastMove = history.undoHistory(board, Color.BLACK);
 
-        assertThat(restoredSnapshot.turn()).isEqualTo(Color.WHITE);
+        assertThat(lastMove).isEqualTo(move);
         assertThat(history.getFiftyMoveCount()).isEqualTo(0);
         assertThat(history.getRepetitionCount(board, Color.BLACK)).isEqualTo(0);
+        assertThat(history.getMoveCount()).isZero();
     }
 
     @Test
@@ -50,6 +61,38 @@ class GameHistoryTest {
         assertThatThrownBy(() -> history.undoHistory(board, Color.WHITE));
     }
 
+    @Test
+    @DisplayName("기록한 이동을 역순으로 되돌리면 잡기와 캐슬링 전의 보드로 돌아간다")
+    void undoAllMovesRestoresInitialBoard() {
+        Board board = new Board();
+        board.initialize();
+        Map<Position, Piece> initialPieces = new HashMap<>(board.getPieces());
+        long initialKey = board.getZobristKey();
+
+        String[][] moves = {{"E2", "E4"}, {"D7", "D5"}, {"E4", "D5"}, {"G8", "F6"}, {"G1", "F3"}, {"F6", "D5"},
+                {"F1", "C4"}, {"C7", "C5"}, {"E1", "G1"}, {"B8", "C6"}};
+        List<Integer> fiftyMoveCounts = new ArrayList<>();
+        for (String[] move : moves) {
+            fiftyMoveCounts.add(history.getFiftyMoveCount());
+            history.saveHistory(board.makeMove(Position.from(move[0]), Position.from(move[1])));
+            history.updateHistory(board, Color.WHITE, false);
+        }
+
+        for (int i = moves.length - 1; i >= 0; i--) {
+            board.unmakeMove(history.undoHistory(board, Color.WHITE));
+            assertThat(history.getFiftyMoveCount()).isEqualTo(fiftyMoveCounts.get(i));
+        }
+
+        assertThat(board.getPieces()).isEqualTo(initialPieces);
+        assertThat(board.getZobristKey()).isEqualTo(initialKey);
+    }
+
+    private MoveUndo createMove() {
+        Position from = Position.from("A1");
+        Position to = Position.from("A2");
+        return new MoveUndo(from, to, new Rook(Color.WHITE), null, to, null, false, null);
+    }
+
     @Nested
     @DisplayName("updateHistory 테스트")
     class updateHistoryTest {
@@ -83,4 +126,68 @@ class GameHistoryTest {
             assertThat(history.getRepetitionCount(board, Color.WHITE)).isEqualTo(3);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("반복 국면 키 테스트")
+    class RepetitionKeyTest {
+
+        @Test
+        @DisplayName("기물이 움직였다 돌아와도 같은 국면이면 반복으로 센다")
+        void samePositionAfterKnightShuffleIsCounted() {
+            Board board = new Board();
+            board.initialize();
+            history.updateHistory(board, Color.WHITE, true);
+
+            String[][] moves = {{"G1", "F3"}, {"G8", "F6"}, {"F3", "G1"}, {"F6", "G8"}};
+            Color turn = Color.WHITE;
+            for (String[] move : moves) {
+                board.move(Position.from(move[0]), Position.from(move[1]));
+                turn = turn.opposite();
+                history.updateHistory(board, turn, false);
+            }
+
+            assertThat(history.getRepetitionCount(board, Color.WHITE)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("기록이 처음 크기를 넘어 늘어나도 같은 국면의 위치 키를 비교해 센다")
+        void countAfterGrowingRecords() {
+            Board board = new Board();
+            board.initialize();
+            history.updateHistory(board, Color.WHITE, true);
+
+            String[][] moves = {{"G1", "F3"}, {"G8", "F6"}, {"F3", "G1"}, {"F6", "G8"}};
+            Color turn = Color.WHITE;
+            for (int round = 0; round < 20; round++) {
+                for (String[] move : moves) {
+                    board.move(Position.from(move[0]), Position.from(move[1]));
+                    turn = turn.opposite();
+                    history.updateHistory(board, turn, false);
+                }
+            }
+
+            assertAll(
+                    () -> assertThat(history.getRepetitionCount(board, Color.WHITE)).isEqualTo(21),
+                    () -> assertThat(history.getRepetitionCount(board, Color.BLACK)).isZero()
+            );
+        }
+
+        @Test
+        @DisplayName("폰 이동이나 잡기 이전에 나온 국면은 해시가 같아도 반복으로 세지 않는다")
+        void positionsBeforeIrreversibleMoveAreNotCounted() {
+            history.updateHistory(board, Color.WHITE, false);
+            history.updateHistory(board, Color.WHITE, false);
+            history.updateHistory(board, Color.WHITE, true);
+
+            assertThat(history.getRepetitionCount(board, Color.WHITE)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("배치가 같아도 차례가 다르면 다른 국면이다")
+        void differentTurnIsDifferentPosition() {
+            history.updateHistory(board, Color.WHITE, false);
+
+            assertThat(history.getRepetitionCount(board, Color.BLACK)).isZero();
+        }
+    }
+}
@@ -13,13 +13,13 @@ import static org.mockito.Mockito.when;
 import chess.common.exception.EmptyHistoryException;
 import chess.common.exception.GameFinishedException;
 import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
 import chess.domain.board.Position;
 import chess.domain.piece.Color;
 import chess.domain.piece.impls.Rook;
 import chess.domain.status.GameStatus;
 import chess.domain.status.MovementValidator;
 import chess.domain.status.StatusCalculator;
-import java.util.HashMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,14 +44,15 @@ class GameTest {
     }
 
     @Test
-    @DisplayName("move 실행 시 검증 -> 저장 -> 이동 -> 업데이트 -> 판정 순서로 실행된다")
+    @DisplayName("move 실행 시 검증 -> 이동 -> 기록 저장 -> 업데이트 -> 판정 순서로 실행된다")
     void moveExecutesInCorrectOrder() {
         Position from = Position.from("A1");
         Position to = Position.from("A2");
         Player player = new Player("1");
         game.join(player);
 
-        when(board.getPiece(from)).thenReturn(new Rook(Color.WHITE));
+        MoveUndo move = new MoveUndo(from, to, new Rook(Color.WHITE), null, to, null, false, null);
+        when(board.makeMove(from, to)).thenReturn(move);
         when(calculator.calculateNextStatus(game)).thenReturn(GameStatus.ONGOING);
 
         game.move(player, from, to, validator, calculator);
@@ -59,9 +60,9 @@ class GameTest {
         InOrder inOrder = inOrder(validator, history, board, calculator);
 
         inOrder.verify(validator).validate(from, to, board, Color.WHITE);
-        inOrder.verify(history).saveHistory(board, Color.WHITE);
-        inOrder.verify(board).move(from, to);
-        inOrder.verify(history).updateHistory(eq(board), eq(Color.BLACK), any(Boolean.class));
+        inOrder.verify(board).makeMove(from, to);
+        inOrder.verify(history).saveHistory(move);
+        inOrder.verify(history).updateHistory(eq(board), eq(Color.BLACK), eq(false));
         inOrder.verify(calculator).calculateNextStatus(game);
 
         assertThat(game.getCurrentTurn()).isEqualTo(Color.BLACK);
@@ -79,17 +80,19 @@ class GameTest {
     }
 
     @Test
-    @DisplayName("undo 실행 시 이전 상태를 복원하고 턴을 되돌린다")
+    @DisplayName("undo 실행 시 마지막 이동을 되돌리고 턴을 되돌린다")
     void undoRestoresState() {
-        BoardSnapshot snapshot = new BoardSnapshot(new HashMap<>(), Color.WHITE, null);
-        when(history.undoHistory(board, Color.WHITE)).thenReturn(snapshot);
+        Position from = Position.from("A1");
+        Position to = Position.from("A2");
+        MoveUndo lastMove = new MoveUndo(from, to, new Rook(Color.WHITE), null, to, null, false, null);
+        when(history.undoHistory(board, Color.WHITE)).thenReturn(lastMove);
         Player player1 = new Player("1");
         Player player2 = new Player("2");
         game.join(player1);
         game.join(player2);
         game.undo(player2);
 
-        verify(board).restore(any());
+        verify(board).unmakeMove(lastMove);
         assertThat(game.getCurrentTurn()).isEqualTo(Color.WHITE);
         assertThat(game.getStatus()).isEqualTo(GameStatus.ONGOING);
     }
@@ -0,0 +1,122 @@
+package chess.domain.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.ChessException;
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.move.MoveGenerator;
+import chess.domain.piece.Color;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("게임 뷰 테스트")
+class GameViewTest {
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+    private final MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+    private final StatusCalculator calculator = new StatusCalculator(
+            new CheckmateDetector(checkDetector, validator),
+            new StalemateDetector(validator, checkDetector),
+            new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+            new PositionAnalyzer(checkDetector, moveGenerator));
+
+    @Test
+    @DisplayName("뷰에는 게시할 때의 게임 버전이 담기고, 이전 뷰는 이후의 수에 영향을 받지 않는다")
+    void publishVersionedView() {
+        Board board = new Board();
+        board.initialize();
+        Game game = new Game(board);
+        Player white = new Player("white");
+        game.join(white);
+        game.join(new Player("black"));
+
+        GameView first = game.publishView();
+        game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+        GameView second = game.publishView();
+
+        assertAll(
+                () -> assertThat(first.version()).isEqualTo(2L),
+                () -> assertThat(second.version()).isEqualTo(3L),
+                () -> assertThat(game.getView()).isEqualTo(second),
+                () -> assertThat(first.board().get("E2")).isEqualTo("P"),
+                () -> assertThat(first.board().get("E4")).isNull(),
+                () -> assertThat(first.currentTurn()).isEqualTo(Color.WHITE),
+                () -> assertThat(second.board().get("E4")).isEqualTo("P"),
+                () -> assertThat(second.currentTurn()).isEqualTo(Color.BLACK)
+        );
+    }
+
+    @Test
+    @DisplayName("참가, 수, 무르기가 성공할 때마다 게임 버전이 1씩 오르고, 실패하면 그대로이다")
+    void versionIncreasesOnEveryChange() {
+        Board board = new Board();
+        board.initialize();
+        Game game = new Game(board);
+        Player white = new Player("white");
+        Player black = new Player("black");
+        game.join(white);
+        game.join(black);
+        game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+        game.undo(white);
+
+        assertThatThrownBy(() -> game.move(white, Position.from("E2"), Position.from("E5"), validator, calculator))
+                .isInstanceOf(ChessException.class);
+        assertThat(game.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("앞 뷰와 비교해 바뀐 칸만 돌려주고, 마지막 수는 무르면 그 앞의 수가 된다")
+    void changesSincePreviousView() {
+        Board board = new Board();
+        board.initialize();
+        Game game = new Game(board);
+        Player white = new Player("white");
+        Player black = new Player("black");
+        game.join(white);
+        game.join(black);
+        game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+        game.move(black, Position.from("D7"), Position.from("D5"), validator, calculator);
+        GameView before = game.publishView();
+        game.move(white, Position.from("E4"), Position.from("D5"), validator, calculator);
+        GameView capture = game.publishView();
+        game.undo(white);
+        GameView undone = game.publishView();
+
+        assertAll(
+                () -> assertThat(capture.changesSince(before).size()).isEqualTo(2),
+                () -> assertThat(capture.changesSince(before).get("D5")).isEqualTo("P"),
+                () -> assertThat(capture.changesSince(before).containsKey("E4")).isTrue(),
+                () -> assertThat(capture.changesSince(before).get("E4")).isNull(),
+                () -> assertThat(capture.lastMove()).isEqualTo(new GameView.LastMove("E4", "D5")),
+                () -> assertThat(undone.changesSince(capture).get("D5")).isEqualTo("p"),
+                () -> assertThat(undone.changesSince(capture).get("E4")).isEqualTo("P"),
+                () -> assertThat(undone.lastMove()).isEqualTo(new GameView.LastMove("D7", "D5"))
+        );
+    }
+
+    @Test
+    @DisplayName("게시하기 전에는 뷰가 없고, 뷰의 보드는 바꿀 수 없다")
+    void viewIsImmutable() {
+        Board board = new Board();
+        board.initialize();
+        Game game = new Game(board);
+
+        assertThat(game.getView()).isNull();
+        GameView view = game.publishView();
+        assertThatThrownBy(() -> view.board().put("E4", "P"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,155 @@
+package chess.domain.move;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.impls.Bishop;
+import chess.domain.piece.impls.King;
+import chess.domain.piece.impls.Knight;
+import chess.domain.piece.impls.Pawn;
+import chess.domain.piece.impls.Queen;
+import chess.domain.piece.impls.Rook;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.MovementValidator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("MoveGenerator 테스트")
+class MoveGeneratorTest {
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+    private final MovementValidator movementValidator = new MovementValidator(checkDetector);
+
+    @Test
+    @DisplayName("초기 배치에서 흰색의 합법 수는 20개다")
+    void initialPositionHas20Moves() {
+        Board board = new Board();
+        board.initialize();
+
+        assertThat(moveGenerator.countLegalMoves(board, Color.WHITE)).isEqualTo(20);
+        assertThat(moveGenerator.hasLegalMove(board, Color.WHITE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("핀에 걸린 기물은 핀 방향으로만 움직일 수 있다")
+    void pinnedPieceMovesAlongPinRay() {
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("E1"), new King(Color.WHITE));
+        pieces.put(Position.from("E2"), new Rook(Color.WHITE));
+        pieces.put(Position.from("D2"), new Knight(Color.WHITE));
+        pieces.put(Position.from("E8"), new Rook(Color.BLACK));
+        pieces.put(Position.from("B4"), new Bishop(Color.BLACK));
+        pieces.put(Position.from("H8"), new King(Color.BLACK));
+        Board board = new Board(pieces);
+
+        List<Move> moves = moveGenerator.generateLegalMoves(board, Color.WHITE);
+        List<Position> rookTargets = moves.stream()
+                .filter(move -> move.from().equals(Position.from("E2")))
+                .map(Move::to)
+                .toList();
+
+        assertAll(
+                () -> assertThat(moves.stream().map(Move::from).toList()).doesNotContain(Position.from("D2")),
+                () -> assertThat(rookTargets).containsExactlyInAnyOrder(Position.from("E3"), Position.from("E4"),
+                        Position.from("E5"), Position.from("E6"), Position.from("E7"), Position.from("E8"))
+        );
+    }
+
+    @Test
+    @DisplayName("이중 체크에서는 킹만 움직일 수 있다")
+    void doubleCheckAllowsOnlyKingMoves() {
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("E1"), new King(Color.WHITE));
+        pieces.put(Position.from("A4"), new Queen(Color.WHITE));
+        pieces.put(Position.from("E8"), new Rook(Color.BLACK));
+        pieces.put(Position.from("D3"), new Knight(Color.BLACK));
+        pieces.put(Position.from("H8"), new King(Color.BLACK));
+        Board board = new Board(pieces);
+
+        List<Move> moves = moveGenerator.generateLegalMoves(board, Color.WHITE);
+
+        assertThat(moves).isNotEmpty();
+        assertThat(moves.stream().map(Move::from).distinct().toList()).containsExactly(Position.from("E1"));
+    }
+
+    @Test
+    @DisplayName("캐슬링, 앙파상, 승진은 각각의 수 종류로 생성된다")
+    void specialMovesHaveTypes() {
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("E1"), new King(Color.WHITE));
+        pieces.put(Position.from("H1"), new Rook(Color.WHITE));
+        pieces.put(Position.from("B7"), new Pawn(Color.WHITE));
+        pieces.put(Position.from("E5"), new Pawn(Color.WHITE));
+        pieces.put(Position.from("D7"), new Pawn(Color.BLACK));
+        pieces.put(Position.from("H8"), new King(Color.BLACK));
+        Board board = new Board(pieces);
+        board.move(Position.from("D7"), Position.from("D5"));
+
+        List<Move> moves = moveGenerator.generateLegalMoves(board, Color.WHITE);
+
+        assertThat(moves).contains(
+                new Move(Position.from("E1"), Position.from("G1"), MoveType.CASTLING),
+                new Move(Position.from("E5"), Position.from("D6"), MoveType.EN_PASSANT),
+                new Move(Position.from("B7"), Position.from("B8"), MoveType.PROMOTION)
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageType.class)
+    @DisplayName("무작위 대국의 모든 국면에서 validate 기반 전수 검사와 같은 수를 생성한다")
+    void matchesBruteForceValidation(StorageType storageType) {
+        Random random = new Random(7);
+        for (int game = 0; game < 8; game++) {
+            Board board = new Board(storageType);
+            board.initialize();
+            Color turn = Color.WHITE;
+
+            for (int ply = 0; ply < 60; ply++) {
+                List<Move> moves = moveGenerator.generateLegalMoves(board, turn);
+                assertThat(toSquares(moves)).isEqualTo(bruteForce(board, turn));
+                if (moves.isEmpty()) {
+                    break;
+                }
+
+                Move move = moves.get(random.nextInt(moves.size()));
+                board.move(move.from(), move.to());
+                turn = turn.opposite();
+            }
+        }
+    }
+
+    private Set<String> toSquares(List<Move> moves) {
+        Set<String> squares = new HashSet<>();
+        for (Move move : moves) {
+            squares.add(move.from() + "-" + move.to());
+        }
+        return squares;
+    }
+
+    private Set<String> bruteForce(Board board, Color turn) {
+        Set<String> squares = new HashSet<>();
+        for (Position from : List.copyOf(board.getPiecesByTeam(turn).keySet())) {
+            for (int index = 0; index < 64; index++) {
+                Position to = Position.ofIndex(index);
+                if (movementValidator.isLegalMove(from, to, board, turn)) {
+                    squares.add(from + "-" + to);
+                }
+            }
+        }
+        return squares;
+    }
+}
@@ -0,0 +1,157 @@
+package chess.domain.move;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.RuleViolationException;
+import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
+import chess.domain.board.Position;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import chess.domain.piece.impls.King;
+import chess.domain.piece.impls.Knight;
+import chess.domain.piece.impls.Pawn;
+import chess.domain.piece.impls.Rook;
+import chess.domain.status.CheckDetector;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("PackedMove 테스트")
+class PackedMoveTest {
+
+    private final MoveGenerator moveGenerator = new MoveGenerator(new CheckDetector());
+
+    @ParameterizedTest
+    @EnumSource(value = MoveType.class, names = {"NORMAL", "DOUBLE_PAWN_PUSH", "CASTLING", "EN_PASSANT"})
+    @DisplayName("모든 출발/도착 칸 조합을 인코딩했다가 그대로 되돌린다")
+    void encodeAndDecodeAllSquares(MoveType type) {
+        for (int from = 0; from < 64; from++) {
+            for (int to = 0; to < 64; to++) {
+                Move move = new Move(Position.ofIndex(from), Position.ofIndex(to), type);
+                short packed = PackedMove.of(move);
+
+                assertThat(PackedMove.toMove(packed)).isEqualTo(move);
+                assertThat(PackedMove.promotionType(packed)).isNull();
+                assertThat(packed).isGreaterThanOrEqualTo((short) 0);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Type.class, names = {"KNIGHT", "BISHOP", "ROOK", "QUEEN"})
+    @DisplayName("승진 기물을 플래그에 담는다")
+    void encodePromotionType(Type promotionType) {
+        short packed = PackedMove.encodePromotion(Position.from("B7"), Position.from("B8"), promotionType);
+
+        assertAll(
+                () -> assertThat(PackedMove.type(packed)).isEqualTo(MoveType.PROMOTION),
+                () -> assertThat(PackedMove.promotionType(packed)).isEqualTo(promotionType),
+                () -> assertThat(PackedMove.from(packed)).isEqualTo(Position.from("B7")),
+                () -> assertThat(PackedMove.to(packed)).isEqualTo(Position.from("B8"))
+        );
+    }
+
+    @Test
+    @DisplayName("킹이나 폰으로는 승진할 수 없다")
+    void cannotPromoteToKingOrPawn() {
+        assertThatThrownBy(() -> PackedMove.encodePromotion(Position.from("B7"), Position.from("B8"), Type.KING))
+                .isInstanceOf(RuleViolationException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"E2, E4, DOUBLE_PAWN_PUSH", "E1, G1, CASTLING", "D5, E6, EN_PASSANT", "B7, B8, PROMOTION",
+            "H1, H2, NORMAL"})
+    @DisplayName("좌표만 있는 요청은 보드를 보고 이동 종류를 판단한다")
+    void inferTypeFromBoard(String from, String to, MoveType expectedType) {
+        Board board = createSpecialMoveBoard();
+
+        short packed = PackedMove.of(board, Position.from(from), Position.from(to));
+
+        assertThat(PackedMove.type(packed)).isEqualTo(expectedType);
+        assertThat(PackedMove.from(packed)).isEqualTo(Position.from(from));
+        assertThat(PackedMove.to(packed)).isEqualTo(Position.from(to));
+    }
+
+    @Test
+    @DisplayName("보드는 플래그의 승진 기물로 승진시키고, 되돌리면 폰으로 돌아온다")
+    void boardAppliesUnderPromotion() {
+        Board board = createSpecialMoveBoard();
+
+        MoveUndo undo = board.makeMove(
+                PackedMove.encodePromotion(Position.from("B7"), Position.from("B8"), Type.KNIGHT));
+        assertThat(board.getPiece(Position.from("B8")).getType()).isEqualTo(Type.KNIGHT);
+        assertThat(board.getPieceCount(Color.WHITE, Type.KNIGHT)).isEqualTo(1);
+
+        board.unmakeMove(undo);
+        assertThat(board.getPiece(Position.from("B7")).getType()).isEqualTo(Type.PAWN);
+        assertThat(board.getPieceCount(Color.WHITE, Type.KNIGHT)).isZero();
+    }
+
+    @Test
+    @DisplayName("PackedMove 적용 결과는 좌표로 적용한 결과와 같다")
+    void packedMoveMatchesCoordinateMove() {
+        Random random = new Random(7);
+        for (int game = 0; game < 20; game++) {
+            Board board = new Board();
+            board.initialize();
+            Color turn = Color.WHITE;
+            MoveList moves = new MoveList();
+
+            for (int ply = 0; ply < 60; ply++) {
+                moveGenerator.generateLegalMoves(board, turn, moves);
+                if (moves.isEmpty()) {
+                    break;
+                }
+                short move = moves.get(random.nextInt(moves.size()));
+
+                Board expected = new Board(board);
+                expected.move(PackedMove.from(move), PackedMove.to(move));
+                board.makeMove(move);
+
+                assertThat(board.getPieces()).isEqualTo(expected.getPieces());
+                assertThat(board.getZobristKey()).isEqualTo(expected.getZobristKey());
+                turn = turn.opposite();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("MoveList는 다시 채울 때 이전 수를 비운다")
+    void moveListIsReusable() {
+        Board board = new Board();
+        board.initialize();
+        MoveList moves = new MoveList(4);
+
+        moveGenerator.generateLegalMoves(board, Color.WHITE, moves);
+        moveGenerator.generateLegalMoves(board, Color.WHITE, moves);
+
+        short e2e4 = PackedMove.encode(Position.from("E2"), Position.from("E4"), MoveType.DOUBLE_PAWN_PUSH);
+        assertThat(moves.size()).isEqualTo(20);
+        assertThat(moves.contains(e2e4)).isTrue();
+    }
+
+    // 흰색: 킹 E1, 룩 H1, 폰 E2, 앙파상 가능한 폰 D5, 승진 직전 폰 B7 / 검은색: 방금 E7-E5로 전진한 폰
+    private Board createSpecialMoveBoard() {
+        Map<Position, Piece> pieces = new HashMap<>();
+        pieces.put(Position.from("E1"), new King(Color.WHITE));
+        pieces.put(Position.from("H1"), new Rook(Color.WHITE));
+        pieces.put(Position.from("E2"), new Pawn(Color.WHITE));
+        pieces.put(Position.from("D5"), new Pawn(Color.WHITE).afterMove());
+        pieces.put(Position.from("B7"), new Pawn(Color.WHITE).afterMove());
+        pieces.put(Position.from("G8"), new King(Color.BLACK));
+        pieces.put(Position.from("E7"), new Pawn(Color.BLACK));
+        pieces.put(Position.from("A8"), new Knight(Color.BLACK));
+        Board board = new Board(pieces);
+        board.move(Position.from("E7"), Position.from("E5"));
+        return board;
+    }
+}
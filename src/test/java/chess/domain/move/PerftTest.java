@@ -0,0 +1,79 @@
+package chess.domain.move;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.domain.notation.Fen;
+import chess.domain.notation.FenPosition;
+import chess.domain.piece.Color;
+import chess.domain.status.CheckDetector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("Perft 테스트")
+class PerftTest {
+
+    private final Perft perft = new Perft(new MoveGenerator(new CheckDetector()));
+
+    @ParameterizedTest(name = "{0} 저장 방식, 깊이 {1}의 노드 수는 {2}이다")
+    @CsvSource(value = {
+            "MAP, 1, 20",
+            "MAP, 2, 400",
+            "MAP, 3, 8902",
+            "BITBOARD, 3, 8902",
+            "BITBOARD, 4, 197281"
+    })
+    @DisplayName("초기 배치의 노드 수가 알려진 값과 같다")
+    void initialPositionNodeCounts(StorageType storageType, int depth, long expectedNodes) {
+        Board board = new Board(storageType);
+        board.initialize();
+
+        assertThat(perft.count(board, Color.WHITE, depth)).isEqualTo(expectedNodes);
+    }
+
+    // 승진이 나오지 않는 깊이까지만 비교한다 (이 도메인은 퀸 승진만 생성한다)
+    @ParameterizedTest(name = "{0} 깊이 {2}의 노드 수는 {3}이다")
+    @CsvSource(value = {
+            "kiwipete; r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1; 1; 48",
+            "kiwipete; r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1; 2; 2039",
+            "kiwipete; r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1; 3; 97862",
+            "position 3; 8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1; 4; 43238"
+    }, delimiter = ';')
+    @DisplayName("캐슬링, 앙파상, 핀이 많은 국면의 노드 수가 알려진 값과 같다")
+    void knownPositionNodeCounts(String name, String fen, int depth, long expectedNodes) {
+        FenPosition position = Fen.parse(fen, StorageType.BITBOARD);
+
+        assertThat(perft.count(position.board(), position.turn(), depth)).isEqualTo(expectedNodes);
+    }
+
+    @Test
+    @DisplayName("divide는 첫 수별 노드 수를 나누어 보여주고 합이 전체 노드 수와 같다")
+    void divideSplitsNodesByRootMove() {
+        Board board = new Board();
+        board.initialize();
+
+        PerftResult result = perft.divide(board, Color.WHITE, 3);
+
+        Move e2e4 = new Move(Position.from("E2"), Position.from("E4"), MoveType.DOUBLE_PAWN_PUSH);
+        assertThat(result.divide()).hasSize(20);
+        assertThat(result.divide().get(e2e4)).isEqualTo(600L);
+        assertThat(result.nodes()).isEqualTo(8902L);
+    }
+
+    @Test
+    @DisplayName("perft 후에는 보드가 원래 상태로 돌아온다")
+    void perftLeavesBoardUnchanged() {
+        Board board = new Board();
+        board.initialize();
+        long key = board.getZobristKey();
+
+        perft.count(board, Color.WHITE, 3);
+
+        assertThat(board.getZobristKey()).isEqualTo(key);
+        assertThat(board.getPiecesByTeam(Color.WHITE)).hasSize(16);
+    }
+}
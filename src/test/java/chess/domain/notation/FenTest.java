@@ -0,0 +1,188 @@
+package chess.domain.notation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.InvalidFenException;
+import chess.domain.board.Board;
+import chess.domain.board.CastlingRight;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.MoveType;
+import chess.domain.piece.Color;
+import chess.domain.piece.Type;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("FEN 테스트")
+class FenTest {
+
+    @ParameterizedTest
+    @EnumSource(StorageType.class)
+    @DisplayName("초기 배치 FEN은 initialize한 보드와 같은 보드를 만든다")
+    void parseInitialPosition(StorageType storageType) {
+        Board expected = new Board(storageType);
+        expected.initialize();
+
+        FenPosition position = Fen.parse(Fen.INITIAL, storageType);
+
+        assertAll(
+                () -> assertThat(position.board().getPieces()).isEqualTo(expected.getPieces()),
+                () -> assertThat(position.board().getZobristKey()).isEqualTo(expected.getZobristKey()),
+                () -> assertThat(position.board().getCastlingRights()).isEqualTo(expected.getCastlingRights()),
+                () -> assertThat(position.turn()).isEqualTo(Color.WHITE),
+                () -> assertThat(position.halfmoveClock()).isZero(),
+                () -> assertThat(position.fullmoveNumber()).isEqualTo(1)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3",
+            "r3k2r/8/8/8/8/8/8/R3K2R b Kq - 12 40"
+    })
+    @DisplayName("불러온 게임을 다시 내보내면 같은 FEN이 나온다")
+    void roundTrip(String fen) {
+        assertThat(Fen.of(Fen.parseGame(fen))).isEqualTo(fen);
+    }
+
+    @Test
+    @DisplayName("캐슬링 권리가 없는 킹과 룩은 움직인 기물로 불러온다")
+    void castlingRightsBecomeMovedFlags() {
+        Board board = Fen.parse("r3k2r/8/8/8/8/8/8/R3K2R w Kq - 0 1").board();
+
+        assertAll(
+                () -> assertThat(board.getPiece(Position.from("E1")).isMoved()).isFalse(),
+                () -> assertThat(board.getPiece(Position.from("H1")).isMoved()).isFalse(),
+                () -> assertThat(board.getPiece(Position.from("A1")).isMoved()).isTrue(),
+                () -> assertThat(board.getPiece(Position.from("H8")).isMoved()).isTrue(),
+                () -> assertThat(board.getCastlingRights()).isEqualTo(
+                        CastlingRight.WHITE_KING_SIDE.mask() | CastlingRight.BLACK_QUEEN_SIDE.mask())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"4k3/8/8/8/8/8/8/3K3R w K - 0 1", "4k3/8/8/8/8/8/8/R2K4 w Q - 0 1"})
+    @DisplayName("캐슬링 권리가 있어도 킹이 시작 칸에 없으면 움직인 킹으로 불러와 캐슬링할 수 없다")
+    void castlingRightIgnoredWhenKingIsOffStartSquare(String fen) {
+        Board board = Fen.parse(fen).board();
+        MoveGenerator moveGenerator = new MoveGenerator(new CheckDetector());
+
+        assertAll(
+                () -> assertThat(board.getPiece(Position.from("D1")).isMoved()).isTrue(),
+                () -> assertThat(board.getCastlingRights()).isZero(),
+                () -> assertThat(moveGenerator.generateLegalMoves(board, Color.WHITE).stream()
+                        .anyMatch(move -> move.type() == MoveType.CASTLING)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("수를 두어 만든 국면과 같은 FEN을 불러온 국면은 같은 보드이다")
+    void playedPositionMatchesParsedPosition() {
+        Game game = createGame();
+        Player white = new Player("white");
+        Player black = new Player("black");
+        game.join(white);
+        game.join(black);
+
+        CheckDetector checkDetector = new CheckDetector();
+        MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+        MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+        StatusCalculator calculator = new StatusCalculator(new CheckmateDetector(checkDetector, validator),
+                new StalemateDetector(validator, checkDetector),
+                new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+                new PositionAnalyzer(checkDetector, moveGenerator));
+
+        game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+        game.move(black, Position.from("G8"), Position.from("F6"), validator, calculator);
+
+        String fen = "rnbqkb1r/pppppppp/5n2/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 1 2";
+        Board parsed = Fen.parse(fen).board();
+        assertAll(
+                () -> assertThat(Fen.of(game)).isEqualTo(fen),
+                () -> assertThat(parsed.getPieces()).isEqualTo(game.getBoard().getPieces()),
+                () -> assertThat(parsed.getZobristKey()).isEqualTo(game.getBoard().getZobristKey())
+        );
+    }
+
+    @Test
+    @DisplayName("반수 카운터는 50수 카운트로, 전체 수 번호는 시작 수로 불러온다")
+    void countersMapToHistory() {
+        Game game = Fen.parseGame("8/8/8/4k3/8/8/8/4K3 b - - 12 30");
+
+        assertAll(
+                () -> assertThat(game.getCurrentTurn()).isEqualTo(Color.BLACK),
+                () -> assertThat(game.getHistory().getFiftyMoveCount()).isEqualTo(12),
+                () -> assertThat(game.getHistory().getPlyCount()).isEqualTo(59),
+                () -> assertThat(game.getHistory().getRepetitionCount(game.getBoard(), Color.BLACK)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("반수/전체 수 카운터를 생략하면 0, 1로 불러온다")
+    void countersAreOptional() {
+        FenPosition position = Fen.parse("8/8/8/4k3/8/8/8/4K3 w - -");
+
+        assertThat(position.halfmoveClock()).isZero();
+        assertThat(position.fullmoveNumber()).isEqualTo(1);
+    }
+
+    private Game createGame() {
+        Board board = new Board();
+        board.initialize();
+        return new Game(board);
+    }
+
+    @Nested
+    @DisplayName("잘못된 FEN")
+    class InvalidFenTest {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/ppppxppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQxq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KKkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq e5 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - a 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 0"
+        })
+        @DisplayName("형식이 맞지 않으면 예외를 던진다")
+        void invalidFenThrowsException(String fen) {
+            assertThatThrownBy(() -> Fen.parse(fen))
+                    .isInstanceOf(InvalidFenException.class);
+        }
+
+        @Test
+        @DisplayName("한 색에 킹이 아닌 기물이 15개를 넘으면 기물 수를 셀 수 없으므로 예외를 던진다")
+        void tooManyPiecesThrowsException() {
+            assertThat(Fen.parse("QQQQQQQQ/QQQQQQQ1/8/8/8/8/8/k6K w - - 0 1").board()
+                    .getPieceCount(Color.WHITE, Type.QUEEN)).isEqualTo(15);
+            assertThatThrownBy(() -> Fen.parse("QQQQQQQQ/QQQQQQQQ/8/8/8/8/8/k6K w - - 0 1"))
+                    .isInstanceOf(InvalidFenException.class);
+        }
+    }
+}
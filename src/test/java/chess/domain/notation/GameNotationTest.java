@@ -0,0 +1,185 @@
+package chess.domain.notation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import chess.domain.move.MoveGenerator;
+import chess.domain.piece.Color;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.GameStatus;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("기보 내보내기 테스트")
+class GameNotationTest {
+
+    private final Player white = new Player("white");
+    private final Player black = new Player("black");
+
+    private final PlayerPseudonyms pseudonyms = new PlayerPseudonyms("key".getBytes(StandardCharsets.UTF_8));
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+    private final MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+    private final StatusCalculator calculator = new StatusCalculator(
+            new CheckmateDetector(checkDetector, validator),
+            new StalemateDetector(validator, checkDetector),
+            new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+            new PositionAnalyzer(checkDetector, moveGenerator));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("둔 수를 SAN 수순으로, 게임 상태를 결과로 만든다")
+    void createFromGame() {
+        Game game = playScholarsMate();
+
+        GameNotation notation = GameNotation.of(game, pseudonyms, moveGenerator, checkDetector);
+
+        assertAll(
+                () -> assertThat(notation.moves()).isEqualTo(
+                        List.of("e4", "e5", "Bc4", "Nc6", "Qh5", "Nf6", "Qxf7#")),
+                () -> assertThat(notation.status()).isEqualTo(GameStatus.CHECKMATE_WHITE_WIN),
+                () -> assertThat(notation.result()).isEqualTo(PgnResult.WHITE_WIN),
+                () -> assertThat(notation.startFen()).isNull(),
+                () -> assertThat(notation.white()).isEqualTo(pseudonyms.of(white)),
+                () -> assertThat(notation.white().length()).isEqualTo(16)
+        );
+    }
+
+    @Test
+    @DisplayName("플레이어 id 대신 key마다 정해지는 가명을 쓴다")
+    void writePseudonymsInsteadOfPlayerIds() throws IOException {
+        PlayerPseudonyms other = new PlayerPseudonyms("other".getBytes(StandardCharsets.UTF_8));
+        StringBuilder out = new StringBuilder();
+
+        GameExportFormat.PGN.write(GameNotation.of(playScholarsMate(), pseudonyms, moveGenerator, checkDetector), out);
+        GameExportFormat.NDJSON.write(GameNotation.of(playScholarsMate(), pseudonyms, moveGenerator, checkDetector),
+                out);
+
+        assertAll(
+                () -> assertThat(out.toString().contains("[White \"white\"]")).isFalse(),
+                () -> assertThat(out.toString().contains(":\"white\"")).isFalse(),
+                () -> assertThat(out.toString().contains(":\"black\"")).isFalse(),
+                () -> assertThat(pseudonyms.of(new Player("white"))).isEqualTo(pseudonyms.of(white)),
+                () -> assertThat(pseudonyms.of(white).equals(pseudonyms.of(black))).isFalse(),
+                () -> assertThat(pseudonyms.of(white).equals(other.of(white))).isFalse(),
+                () -> assertThat(pseudonyms.of(null)).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("기보를 만들어도 게임의 보드는 바뀌지 않는다")
+    void gameBoardIsUntouched() {
+        Game game = playScholarsMate();
+        long zobristKey = game.getBoard().getZobristKey();
+
+        GameNotation.of(game, pseudonyms, moveGenerator, checkDetector);
+
+        assertThat(game.getBoard().getZobristKey()).isEqualTo(zobristKey);
+    }
+
+    @Test
+    @DisplayName("PGN으로 쓰면 수 번호와 결과가 붙는다")
+    void writePgn() throws IOException {
+        GameNotation notation = GameNotation.of(playScholarsMate(), pseudonyms, moveGenerator, checkDetector);
+        StringBuilder out = new StringBuilder();
+
+        GameExportFormat.PGN.write(notation, out);
+
+        String text = out.toString();
+        assertThat(text).contains("[White \"" + pseudonyms.of(white) + "\"]\n");
+        assertThat(text).contains("[Result \"1-0\"]\n");
+        assertThat(text).endsWith("\n1. e4 e5 2. Bc4 Nc6 3. Qh5 Nf6 4. Qxf7# 1-0\n\n");
+    }
+
+    @Test
+    @DisplayName("FEN에서 시작한 게임은 SetUp/FEN 태그와 흑의 첫 수 번호를 쓴다")
+    void writePgnFromFen() throws IOException {
+        Game game = Fen.parseGame("4k3/8/4K3/8/8/8/8/7R b - - 3 40");
+        game.join(white);
+        game.join(black);
+        game.move(black, Position.from("E8"), Position.from("D8"), validator, calculator);
+        StringBuilder out = new StringBuilder();
+
+        GameExportFormat.PGN.write(GameNotation.of(game, pseudonyms, moveGenerator, checkDetector), out);
+
+        String text = out.toString();
+        assertThat(text).contains("[FEN \"4k3/8/4K3/8/8/8/8/7R b - - 3 40\"]\n");
+        assertThat(text).endsWith("\n40... Kd8 *\n\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 게임 하나를 JSON 한 줄로 쓴다")
+    void writeNdjson() throws IOException {
+        GameNotation notation = GameNotation.of(playScholarsMate(), pseudonyms, moveGenerator, checkDetector);
+        StringBuilder out = new StringBuilder();
+
+        GameExportFormat.NDJSON.write(notation, out);
+
+        assertThat(out.toString()).isEqualTo("{\"id\":null,\"white\":\"" + pseudonyms.of(white)
+                + "\",\"black\":\"" + pseudonyms.of(black) + "\","
+                + "\"status\":\"CHECKMATE_WHITE_WIN\",\"result\":\"1-0\",\"fen\":null,"
+                + "\"moves\":[\"e4\",\"e5\",\"Bc4\",\"Nc6\",\"Qh5\",\"Nf6\",\"Qxf7#\"]}\n");
+    }
+
+    @Test
+    @DisplayName("내보낸 PGN은 다시 가져와도 모두 유효하다")
+    void exportedPgnCanBeImported() throws IOException {
+        StringBuilder out = new StringBuilder();
+        GameExportFormat.PGN.write(GameNotation.of(playScholarsMate(), pseudonyms, moveGenerator, checkDetector), out);
+        GameExportFormat.PGN.write(GameNotation.of(playCastlingGame(), pseudonyms, moveGenerator, checkDetector), out);
+        Path file = tempDir.resolve("export.pgn");
+        Files.writeString(file, out);
+        List<PgnImportError> errors = new ArrayList<>();
+
+        PgnImportReport report = new PgnImporter(validator, calculator, moveGenerator)
+                .importFile(file, 1, errors::add);
+
+        assertThat(report.games()).isEqualTo(2);
+        assertThat(report.validGames()).isEqualTo(2);
+        assertThat(errors.isEmpty()).isTrue();
+    }
+
+    private Game playScholarsMate() {
+        return play("E2-E4", "E7-E5", "F1-C4", "B8-C6", "D1-H5", "G8-F6", "H5-F7");
+    }
+
+    private Game playCastlingGame() {
+        return play("E2-E4", "E7-E5", "G1-F3", "B8-C6", "F1-C4", "G8-F6", "E1-G1", "F6-E4", "D2-D4", "E5-D4");
+    }
+
+    private Game play(String... moves) {
+        Board board = new Board();
+        board.initialize();
+        Game game = new Game(board);
+        game.join(white);
+        game.join(black);
+        for (String move : moves) {
+            String[] squares = move.split("-");
+            Player player = game.getCurrentTurn() == Color.WHITE ? white : black;
+            game.move(player, Position.from(squares[0]), Position.from(squares[1]), validator, calculator);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,181 @@
+package chess.domain.notation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.game.Game;
+import chess.domain.move.MoveGenerator;
+import chess.domain.piece.Color;
+import chess.domain.piece.Type;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.GameStatus;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("PGN 가져오기 테스트")
+class PgnImporterTest {
+
+    private static final String SCHOLARS_MATE = """
+            [Event "1"]
+            [Result "1-0"]
+
+            1. e4 e5 2. Bc4 Nc6 3. Qh5 Nf6 4. Qxf7# 1-0
+
+            """;
+    private static final String ILLEGAL_MOVE = """
+            [Event "2"]
+            [Result "*"]
+
+            1. e4 e5 2. Ke3 *
+
+            """;
+    private static final String FROM_FEN = """
+            [Event "3"]
+            [SetUp "1"]
+            [FEN "4k3/8/4K3/8/8/8/8/7R w - - 0 1"]
+            [Result "1-0"]
+
+            1. Rh8# 1-0
+
+            """;
+    private static final String WRONG_RESULT = """
+            [Event "4"]
+            [Result "0-1"]
+
+            1. e4 e5 2. Bc4 Nc6
+            3. Qh5 Nf6 4. Qxf7# 0-1
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("게임마다 다시 두어 보고, 실패한 게임은 순번과 수를 함께 알린다")
+    void importGames() throws IOException {
+        Path file = write(SCHOLARS_MATE + ILLEGAL_MOVE + FROM_FEN + WRONG_RESULT);
+        List<PgnImportError> errors = Collections.synchronizedList(new ArrayList<>());
+
+        PgnImportReport report = createImporter().importFile(file, 2, errors::add);
+
+        List<PgnImportError> sorted = new ArrayList<>(errors);
+        sorted.sort(Comparator.comparingLong(PgnImportError::gameNumber));
+        assertAll(
+                () -> assertThat(report.games()).isEqualTo(4),
+                () -> assertThat(report.validGames()).isEqualTo(2),
+                () -> assertThat(report.errorCount()).isEqualTo(2),
+                () -> assertThat(report.plies()).isEqualTo(7 + 2 + 1 + 7),
+                () -> assertThat(sorted.size()).isEqualTo(2),
+                () -> assertThat(sorted.get(0).gameNumber()).isEqualTo(2),
+                () -> assertThat(sorted.get(0).ply()).isEqualTo(3),
+                () -> assertThat(sorted.get(0).move()).isEqualTo("Ke3"),
+                () -> assertThat(sorted.get(1).gameNumber()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    @DisplayName("규칙 위반이 아닌 예외가 나도 그 게임만 실패로 알리고 나머지 게임은 계속 가져온다")
+    void reportUnexpectedException() throws IOException {
+        Path file = write(SCHOLARS_MATE + FROM_FEN + SCHOLARS_MATE);
+        List<PgnImportError> errors = Collections.synchronizedList(new ArrayList<>());
+        CheckDetector checkDetector = new CheckDetector();
+        MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+        MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+        StatusCalculator failing = new StatusCalculator(new CheckmateDetector(checkDetector, validator),
+                new StalemateDetector(validator, checkDetector),
+                new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+                new PositionAnalyzer(checkDetector, moveGenerator)) {
+            @Override
+            public GameStatus calculateNextStatus(Game game) {
+                if (game.getBoard().findPositions(Color.WHITE, Type.PAWN).isEmpty()) {
+                    throw new IllegalStateException("계산 실패");
+                }
+                return super.calculateNextStatus(game);
+            }
+        };
+
+        PgnImportReport report = new PgnImporter(validator, failing, moveGenerator).importFile(file, 1, errors::add);
+
+        assertAll(
+                () -> assertThat(report.games()).isEqualTo(3),
+                () -> assertThat(report.validGames()).isEqualTo(2),
+                () -> assertThat(errors.size()).isEqualTo(1),
+                () -> assertThat(errors.get(0).gameNumber()).isEqualTo(2),
+                () -> assertThat(errors.get(0).ply()).isEqualTo(1),
+                () -> assertThat(errors.get(0).message()).isEqualTo("IllegalStateException: 계산 실패")
+        );
+    }
+
+    @Test
+    @DisplayName("매핑 크기보다 큰 게임도 창을 늘려 빠짐없이 읽는다")
+    void readGamesLargerThanWindow() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            text.append(SCHOLARS_MATE);
+        }
+        Path file = write(text.toString());
+        List<String> games = new ArrayList<>();
+
+        new PgnReader(32).read(file, games::add);
+
+        assertThat(games.size()).isEqualTo(20);
+        assertThat(games.get(19)).isEqualTo(SCHOLARS_MATE);
+    }
+
+    @Test
+    @DisplayName("여러 줄 주석 안에서 '['로 시작하는 줄은 다음 게임의 시작으로 보지 않는다")
+    void keepMultiLineCommentInGame() throws IOException {
+        String commented = """
+                [Event "5"]
+                [Result "1-0"]
+
+                1. e4 {백이 중앙을 잡는다.
+                [참고] 다른 게임의 태그처럼 보이는 줄
+                } e5 2. Bc4 ; 이 줄의 { 는 주석이 아니다
+                Nc6 3. Qh5 Nf6 4. Qxf7# 1-0
+
+                """;
+        Path file = write(commented + SCHOLARS_MATE);
+        List<String> games = new ArrayList<>();
+
+        new PgnReader(32).read(file, games::add);
+
+        assertAll(
+                () -> assertThat(games.size()).isEqualTo(2),
+                () -> assertThat(games.get(0)).isEqualTo(commented),
+                () -> assertThat(games.get(1)).isEqualTo(SCHOLARS_MATE)
+        );
+    }
+
+    private Path write(String text) throws IOException {
+        Path file = tempDir.resolve("games.pgn");
+        Files.writeString(file, text);
+        return file;
+    }
+
+    private PgnImporter createImporter() {
+        CheckDetector checkDetector = new CheckDetector();
+        MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+        MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+        StatusCalculator calculator = new StatusCalculator(new CheckmateDetector(checkDetector, validator),
+                new StalemateDetector(validator, checkDetector),
+                new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+                new PositionAnalyzer(checkDetector, moveGenerator));
+        return new PgnImporter(validator, calculator, moveGenerator);
+    }
+}
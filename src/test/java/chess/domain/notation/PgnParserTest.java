@@ -0,0 +1,65 @@
+package chess.domain.notation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.InvalidNotationException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PGN 파서 테스트")
+class PgnParserTest {
+
+    @Test
+    @DisplayName("태그와 수순, 결과를 읽는다")
+    void parseTagsAndMoves() {
+        String text = """
+                [Event "Club \\"Open\\""]
+                [White "Kim"]
+                [Result "1-0"]
+
+                1. e4 e5 2. Bc4 Nc6 3. Qh5 Nf6 4. Qxf7# 1-0
+                """;
+
+        PgnGame game = PgnParser.parse(text);
+
+        assertAll(
+                () -> assertThat(game.tag("Event")).isEqualTo("Club \"Open\""),
+                () -> assertThat(game.tag("White")).isEqualTo("Kim"),
+                () -> assertThat(game.moves()).isEqualTo(
+                        List.of("e4", "e5", "Bc4", "Nc6", "Qh5", "Nf6", "Qxf7#")),
+                () -> assertThat(game.result()).isEqualTo("1-0")
+        );
+    }
+
+    @Test
+    @DisplayName("주석, 변화수, NAG, 붙어 있는 수 번호는 건너뛴다")
+    void skipCommentsAndVariations() {
+        String text = """
+                1.e4 {최선} e5 $1 (1... c5 2. Nf3 (2. c3) d6) 2.Nf3 ; 줄 주석
+                2...Nc6 *
+                """;
+
+        PgnGame game = PgnParser.parse(text);
+
+        assertThat(game.moves()).isEqualTo(List.of("e4", "e5", "Nf3", "Nc6"));
+        assertThat(game.result()).isEqualTo("*");
+    }
+
+    @Test
+    @DisplayName("수순에 결과가 없으면 Result 태그를 결과로 쓴다")
+    void resultFallsBackToTag() {
+        PgnGame game = PgnParser.parse("[Result \"1/2-1/2\"]\n1. d4 d5");
+
+        assertThat(game.result()).isEqualTo("1/2-1/2");
+    }
+
+    @Test
+    @DisplayName("값이 따옴표로 감싸지지 않은 태그는 예외를 던진다")
+    void invalidTagThrowsException() {
+        assertThatThrownBy(() -> PgnParser.parse("[Event Open]\n1. e4"))
+                .isInstanceOf(InvalidNotationException.class);
+    }
+}
@@ -0,0 +1,127 @@
+package chess.domain.notation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.common.exception.InvalidNotationException;
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.MoveType;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.status.CheckDetector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("SAN 테스트")
+class SanTest {
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+
+    @ParameterizedTest
+    @CsvSource(value = {"e4, E2, E4", "Nf3, G1, F3", "Nc3+, B1, C3", "e3!?, E2, E3", "Pe4, E2, E4"})
+    @DisplayName("초기 배치에서 SAN을 출발/도착 칸으로 바꾼다")
+    void parseFromInitialPosition(String san, String from, String to) {
+        Board board = new Board();
+        board.initialize();
+
+        short move = San.parse(board, Color.WHITE, san, moveGenerator);
+
+        assertThat(PackedMove.from(move)).isEqualTo(Position.from(from));
+        assertThat(PackedMove.to(move)).isEqualTo(Position.from(to));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"Nbd7, B8", "Nfd7, F6", "N8d7, B8"})
+    @DisplayName("출발 칸 힌트로 같은 칸에 갈 수 있는 기물을 구분한다")
+    void disambiguate(String san, String from) {
+        Board board = Fen.parse("rn2kb1r/ppp1pppp/5n2/8/8/8/PPPPPPPP/RNBQKBNR b KQkq - 0 1").board();
+
+        short move = San.parse(board, Color.BLACK, san, moveGenerator);
+
+        assertThat(PackedMove.from(move)).isEqualTo(Position.from(from));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"O-O, G1", "0-0-0, C1", "O-O-O+, C1"})
+    @DisplayName("캐슬링 표기를 캐슬링 수로 바꾼다")
+    void parseCastling(String san, String to) {
+        Board board = Fen.parse("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1").board();
+
+        short move = San.parse(board, Color.WHITE, san, moveGenerator);
+
+        assertThat(PackedMove.type(move)).isEqualTo(MoveType.CASTLING);
+        assertThat(PackedMove.to(move)).isEqualTo(Position.from(to));
+    }
+
+    @Test
+    @DisplayName("퀸 승진 표기를 승진 수로 바꾼다")
+    void parseQueenPromotion() {
+        Board board = Fen.parse("8/1P6/8/8/8/8/8/k6K w - - 0 1").board();
+
+        short move = San.parse(board, Color.WHITE, "b8=Q+", moveGenerator);
+
+        assertThat(PackedMove.type(move)).isEqualTo(MoveType.PROMOTION);
+    }
+
+    @Test
+    @DisplayName("퀸 이외의 승진은 지원하지 않는다")
+    void underPromotionIsUnsupported() {
+        Board board = Fen.parse("8/1P6/8/8/8/8/8/k6K w - - 0 1").board();
+
+        assertThatThrownBy(() -> San.parse(board, Color.WHITE, "b8=N", moveGenerator))
+                .isInstanceOf(InvalidNotationException.class);
+    }
+
+    @Test
+    @DisplayName("같은 칸으로 갈 수 있는 기물이 여럿이면 예외를 던진다")
+    void ambiguousMoveThrowsException() {
+        Board board = Fen.parse("rn2kb1r/ppp1pppp/5n2/8/8/8/PPPPPPPP/RNBQKBNR b KQkq - 0 1").board();
+
+        assertThatThrownBy(() -> San.parse(board, Color.BLACK, "Nd7", moveGenerator))
+                .isInstanceOf(InvalidNotationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"e5", "Ke2", "O-O", "Nf4", "", "+", "Zf3", "e9"})
+    @DisplayName("둘 수 없거나 형식이 틀린 수는 예외를 던진다")
+    void illegalOrInvalidMoveThrowsException(String san) {
+        Board board = new Board();
+        board.initialize();
+
+        assertThatThrownBy(() -> San.parse(board, Color.WHITE, san, moveGenerator))
+                .isInstanceOf(InvalidNotationException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "rn2kb1r/ppp1pppp/5n2/8/8/8/PPPPPPPP/RNBQKBNR b KQkq - 0 1, B8, D7, Nbd7",
+            "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1, E1, G1, O-O",
+            "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1, E1, C1, O-O-O",
+            "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1, A1, A8, Rxa8+",
+            "4k3/8/4K3/8/8/8/8/7R w - - 0 1, H1, H8, Rh8#",
+            "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3, E5, D6, exd6",
+            "8/1P6/8/8/8/8/8/1k5K w - - 0 1, B7, B8, b8=Q+",
+            "4k3/8/8/8/8/8/8/R4RK1 w - - 0 1, A1, D1, Rad1",
+            "4k3/Q7/8/8/8/8/8/Q3K1Q1 w - - 0 1, A1, D4, Qa1d4",
+            "4k3/Q7/8/8/8/8/8/Q3K3 w - - 0 1, A1, D4, Q1d4"
+    })
+    @DisplayName("합법 수를 SAN으로 쓴다")
+    void formatMove(String fen, String from, String to, String expected) {
+        FenPosition position = Fen.parse(fen);
+        Board board = position.board();
+        short move = PackedMove.of(board, Position.from(from), Position.from(to));
+        long zobristKey = board.getZobristKey();
+
+        String san = San.format(board, position.turn(), move, moveGenerator, checkDetector);
+
+        assertThat(san).isEqualTo(expected);
+        assertThat(board.getZobristKey()).isEqualTo(zobristKey);
+        assertThat(San.parse(board, position.turn(), san, moveGenerator)).isEqualTo(move);
+    }
+}
@@ -2,6 +2,7 @@ package chess.domain.status;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import chess.domain.board.Bitboards;
 import chess.domain.board.Board;
 import chess.domain.board.Position;
 import chess.domain.piece.Color;
@@ -16,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -145,6 +147,44 @@ class CheckDetectorTest {
         );
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideAttackScenarios")
+    @DisplayName("빈 칸에 대한 공격 여부는 실제 공격 규칙으로 판단한다")
+    void isSquareAttackedUsesAttackRules(String description, Board board, String target, boolean expectedResult) {
+        boolean actualResult = detector.isSquareAttacked(board, Position.from(target), Color.BLACK);
+
+        assertThat(actualResult).isEqualTo(expectedResult);
+    }
+
+    static Stream<Arguments> provideAttackScenarios() {
+        return Stream.of(
+                Arguments.of("폰은 대각선 앞 칸을 공격함", createBoard("D7", new Pawn(Color.BLACK)), "E6", true),
+                Arguments.of("폰은 바로 앞 칸을 공격하지 않음", createBoard("E7", new Pawn(Color.BLACK)), "E6", false),
+                Arguments.of("폰의 두 칸 전진은 공격이 아님", createBoard("E7", new Pawn(Color.BLACK)), "E5", false),
+                Arguments.of("킹은 옆 칸을 공격함", createBoard("E8", new King(Color.BLACK)), "F7", true),
+                Arguments.of("킹의 캐슬링 이동은 공격이 아님", createBoard("E8", new King(Color.BLACK)), "G8", false),
+                Arguments.of("퀸은 막히지 않은 대각선을 공격함", createBoard("A8", new Queen(Color.BLACK)), "H1", true),
+                Arguments.of("첫 기물에서 공격이 멈춤",
+                        createBoard("A8", new Queen(Color.BLACK), "D5", new Pawn(Color.WHITE)), "H1", false)
+        );
+    }
+
+    @Test
+    @DisplayName("한 칸을 공격하는 기물들의 위치를 마스크로 반환한다")
+    void getAttackersReturnsAttackerMask() {
+        Board board = createBoard(
+                "E1", new King(Color.WHITE),
+                "E8", new Rook(Color.BLACK),
+                "D3", new Knight(Color.BLACK),
+                "H4", new Bishop(Color.BLACK)
+        );
+
+        long attackers = detector.getAttackers(board, Position.from("E1"), Color.BLACK);
+
+        assertThat(attackers).isEqualTo(Bitboards.bit(Position.from("E8")) | Bitboards.bit(Position.from("D3"))
+                | Bitboards.bit(Position.from("H4")));
+    }
+
     private static Board createBoard(Object... args) {
         Map<Position, Piece> map = new HashMap<>();
         for (int i = 0; i < args.length; i += 2) {
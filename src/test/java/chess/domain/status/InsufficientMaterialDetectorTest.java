@@ -115,6 +115,27 @@ class InsufficientMaterialDetectorTest {
                         ),
                         true
                 ),
+                Arguments.of(
+                        "킹 + 같은 색 칸 비숍 2개 vs 킹",
+                        createMap(
+                                "A1", new King(Color.WHITE),
+                                "C1", new Bishop(Color.WHITE),
+                                "E3", new Bishop(Color.WHITE),
+                                "H8", new King(Color.BLACK)
+                        ),
+                        true
+                ),
+                Arguments.of(
+                        "킹 + 비숍 vs 킹 + 비숍 2개, 모두 같은 색 칸",
+                        createMap(
+                                "A1", new King(Color.WHITE),
+                                "B1", new Bishop(Color.WHITE),
+                                "H8", new King(Color.BLACK),
+                                "G8", new Bishop(Color.BLACK),
+                                "E8", new Bishop(Color.BLACK)
+                        ),
+                        true
+                ),
 
                 Arguments.of(
                         "폰이 있으면 무승부가 아님",
@@ -163,6 +184,27 @@ class InsufficientMaterialDetectorTest {
                                 "H7", new Pawn(Color.BLACK)
                         ),
                         false
+                ),
+                Arguments.of(
+                        "킹 + 다른 색 칸 비숍 2개 vs 킹",
+                        createMap(
+                                "A1", new King(Color.WHITE),
+                                "C1", new Bishop(Color.WHITE),
+                                "F1", new Bishop(Color.WHITE),
+                                "H8", new King(Color.BLACK)
+                        ),
+                        false
+                ),
+                Arguments.of(
+                        "킹 + 비숍 2개 vs 킹 + 나이트",
+                        createMap(
+                                "A1", new King(Color.WHITE),
+                                "C1", new Bishop(Color.WHITE),
+                                "E3", new Bishop(Color.WHITE),
+                                "H8", new King(Color.BLACK),
+                                "G8", new Knight(Color.BLACK)
+                        ),
+                        false
                 )
         );
     }
@@ -12,12 +12,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import chess.common.exception.IllegalMoveException;
 import chess.common.exception.PieceNotFoundException;
 import chess.common.exception.RuleViolationException;
 import chess.domain.board.Board;
+import chess.domain.board.MoveUndo;
 import chess.domain.board.Position;
 import chess.domain.piece.Color;
 import chess.domain.piece.Piece;
@@ -160,14 +162,15 @@ class MovementValidatorTest {
         when(movingPiece.getColor()).thenReturn(WHITE_COLOR);
         when(movingPiece.isMoveValid(any(), any(), any())).thenReturn(true);
 
-        Board mockedVirtualBoard = mock(Board.class);
-        when(board.movePieceVirtually(any(), any())).thenReturn(mockedVirtualBoard);
+        MoveUndo undo = new MoveUndo(from, to, movingPiece, null, to, null, false, null);
+        when(board.makeMove(from, to)).thenReturn(undo);
 
         when(checkDetector.isCheck(any(Board.class), eq(WHITE_COLOR))).thenReturn(true);
 
         assertThatThrownBy(() -> movementValidator.validate(from, to, board, WHITE_COLOR))
                 .isInstanceOf(IllegalMoveException.class)
                 .hasMessageContaining(RULE_KING_IN_CHECK_AFTER_MOVE.getMessage());
+        verify(board).unmakeMove(undo);
     }
 
     @Nested
@@ -0,0 +1,95 @@
+package chess.domain.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.game.Game;
+import chess.domain.game.GameHistory;
+import chess.domain.move.MoveGenerator;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.Type;
+import chess.domain.piece.impls.King;
+import chess.domain.piece.impls.Pawn;
+import chess.domain.piece.impls.Queen;
+import chess.domain.piece.impls.Rook;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PositionAnalyzer 테스트")
+class PositionAnalyzerTest {
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+    private final PositionAnalyzer positionAnalyzer = new PositionAnalyzer(checkDetector, moveGenerator);
+    private final StatusCalculator statusCalculator = new StatusCalculator(
+            new CheckmateDetector(checkDetector, new MovementValidator(checkDetector, moveGenerator)),
+            new StalemateDetector(new MovementValidator(checkDetector, moveGenerator), checkDetector),
+            new FiftyMoveDetector(),
+            new RepetitionDetector(),
+            new InsufficientMaterialDetector(),
+            positionAnalyzer
+    );
+
+    @Test
+    @DisplayName("초기 배치는 체크가 아니고 합법 수가 있으며 기물 수가 집계된다")
+    void analyzeInitialPosition() {
+        Board board = new Board();
+        board.initialize();
+        Game game = new Game(board);
+
+        PositionAnalysis analysis = positionAnalyzer.analyze(game);
+
+        assertAll(
+                () -> assertThat(analysis.inCheck()).isFalse(),
+                () -> assertThat(analysis.hasLegalMove()).isTrue(),
+                () -> assertThat(analysis.material().count(Color.WHITE, Type.PAWN)).isEqualTo(8),
+                () -> assertThat(analysis.material().total(Color.BLACK)).isEqualTo(16),
+                () -> assertThat(analysis.repetitionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("체크메이트 국면은 체크이면서 합법 수가 없다")
+    void analyzeCheckmate() {
+        Game game = createGame(Color.WHITE,
+                "A1", new King(Color.WHITE),
+                "B2", new Pawn(Color.WHITE),
+                "B1", new Pawn(Color.WHITE),
+                "A8", new Rook(Color.BLACK),
+                "H8", new King(Color.BLACK));
+
+        PositionAnalysis analysis = positionAnalyzer.analyze(game);
+
+        assertThat(analysis.inCheck()).isTrue();
+        assertThat(analysis.hasLegalMove()).isFalse();
+        assertThat(statusCalculator.calculateNextStatus(game)).isEqualTo(GameStatus.CHECKMATE_BLACK_WIN);
+    }
+
+    @Test
+    @DisplayName("스테일메이트 국면은 체크가 아니면서 합법 수가 없다")
+    void analyzeStalemate() {
+        Game game = createGame(Color.BLACK,
+                "A8", new King(Color.BLACK),
+                "B6", new Queen(Color.WHITE),
+                "H1", new King(Color.WHITE));
+
+        PositionAnalysis analysis = positionAnalyzer.analyze(game);
+
+        assertThat(analysis.inCheck()).isFalse();
+        assertThat(analysis.hasLegalMove()).isFalse();
+        assertThat(statusCalculator.calculateNextStatus(game)).isEqualTo(GameStatus.STALEMATE_DRAW);
+    }
+
+    private Game createGame(Color turn, Object... placements) {
+        Map<Position, Piece> pieces = new HashMap<>();
+        for (int i = 0; i < placements.length; i += 2) {
+            pieces.put(Position.from((String) placements[i]), (Piece) placements[i + 1]);
+        }
+        return new Game(null, new Board(pieces), turn, GameStatus.ONGOING, new GameHistory());
+    }
+}
@@ -0,0 +1,73 @@
+package chess.domain.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.common.exception.IllegalMoveException;
+import chess.common.exception.PieceNotFoundException;
+import chess.common.exception.RuleViolationException;
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.piece.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("ValidationResult 테스트")
+class ValidationResultTest {
+
+    @Test
+    @DisplayName("LEGAL은 예외를 던지지 않는다")
+    void legalDoesNotThrow() {
+        assertThatCode(ValidationResult.LEGAL::throwIfIllegal).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("위반 결과는 기존과 같은 종류의 예외와 메시지로 변환된다")
+    void illegalResultThrowsMatchingException() {
+        assertThatThrownBy(ValidationResult.PIECE_NOT_FOUND::throwIfIllegal)
+                .isInstanceOf(PieceNotFoundException.class);
+        assertThatThrownBy(ValidationResult.RULE_PATH_BLOCKED::throwIfIllegal)
+                .isInstanceOf(RuleViolationException.class)
+                .hasMessage(ValidationResult.RULE_PATH_BLOCKED.getErrorMessage().getMessage());
+        assertThatThrownBy(ValidationResult.CASTLING_ROOK_MOVED::throwIfIllegal)
+                .isInstanceOf(IllegalMoveException.class);
+    }
+
+    @Nested
+    @DisplayName("MovementValidator.evaluate 테스트")
+    class EvaluateTest {
+
+        private final MovementValidator movementValidator = new MovementValidator(new CheckDetector());
+        private Board board;
+
+        @BeforeEach
+        void setUp() {
+            board = new Board();
+            board.initialize();
+        }
+
+        @ParameterizedTest
+        @CsvSource(value = {
+                "E2, E4, LEGAL",
+                "E3, E4, PIECE_NOT_FOUND",
+                "E7, E5, RULE_WRONG_TURN_PIECE",
+                "E2, E2, RULE_SAME_POSITION_MOVE",
+                "D1, D2, RULE_FRIENDLY_FIRE",
+                "E2, E5, RULE_INVALID_PIECE_MOVE",
+                "A1, A3, RULE_PATH_BLOCKED",
+                "C1, A3, RULE_PATH_BLOCKED"
+        })
+        @DisplayName("위반한 규칙을 예외 없이 반환한다")
+        void evaluateReturnsViolatedRule(String from, String to, ValidationResult expected) {
+            ValidationResult result = movementValidator.evaluate(Position.from(from), Position.from(to), board,
+                    Color.WHITE);
+
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+}
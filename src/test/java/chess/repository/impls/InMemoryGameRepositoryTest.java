@@ -0,0 +1,171 @@
+package chess.repository.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.VersionConflictException;
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import chess.domain.move.MoveGenerator;
+import chess.domain.notation.Fen;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("메모리 저장소 테스트")
+class InMemoryGameRepositoryTest {
+
+    private final Player white = new Player("white");
+    private final Player black = new Player("black");
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+    private final MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+    private final StatusCalculator calculator = new StatusCalculator(
+            new CheckmateDetector(checkDetector, validator),
+            new StalemateDetector(validator, checkDetector),
+            new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+            new PositionAnalyzer(checkDetector, moveGenerator));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("오래 쓰지 않은 게임은 디스크로 내리고, findById가 같은 상태로 다시 올린다")
+    void hibernateIdleGame() {
+        try (InMemoryGameRepository repository = new InMemoryGameRepository(
+                new HibernationStore(tempDir), 20, 0)) {
+            Game game = repository.save(playedGame());
+
+            await(() -> repository.getResidentCount() == 0);
+            Game restored = repository.findById(game.getId()).orElseThrow();
+
+            assertAll(
+                    () -> assertThat(repository.getResidentCount()).isEqualTo(1),
+                    () -> assertThat(Fen.of(restored)).isEqualTo(Fen.of(game)),
+                    () -> assertThat(restored.getHistory().getMoves()).isEqualTo(game.getHistory().getMoves()),
+                    () -> assertThat(restored.getWhitePlayer()).isEqualTo(white),
+                    () -> assertThat(restored.getBlackPlayer()).isEqualTo(black),
+                    () -> assertThat(restored.getStatus()).isEqualTo(game.getStatus()),
+                    () -> assertThat(restored.getVersion()).isEqualTo(game.getVersion()),
+                    () -> assertThat(restored.getPendingChanges().isEmpty()).isTrue()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("메모리에 둘 게임 수를 넘으면 가장 오래 쓰지 않은 게임부터 내린다")
+    void evictLeastRecentlyUsed() {
+        try (InMemoryGameRepository repository = new InMemoryGameRepository(
+                new HibernationStore(tempDir), 0, 2)) {
+            Game first = repository.save(playedGame());
+            Game second = repository.save(playedGame());
+            repository.findById(first.getId());
+            repository.save(playedGame());
+
+            await(() -> repository.getResidentCount() == 2);
+
+            assertAll(
+                    () -> assertThat(repository.findById(first.getId()).orElseThrow()).isEqualTo(first),
+                    () -> assertThat(repository.findById(second.getId()).orElseThrow() == second).isFalse(),
+                    () -> assertThat(repository.findAll().count()).isEqualTo(3L)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("내려간 게임도 findAll에 나오고, 삭제하면 디스크에서도 지운다")
+    void findAndDeleteHibernatedGame() {
+        try (InMemoryGameRepository repository = new InMemoryGameRepository(
+                new HibernationStore(tempDir), 20, 0)) {
+            Game kept = repository.save(playedGame());
+            Game deleted = repository.save(playedGame());
+            await(() -> repository.getResidentCount() == 0);
+
+            repository.deleteById(deleted.getId());
+
+            assertAll(
+                    () -> assertThat(repository.findAll().map(Game::getId).toList()).isEqualTo(
+                            List.of(kept.getId())),
+                    () -> assertThat(repository.getResidentCount()).isZero(),
+                    () -> assertThat(repository.findById(deleted.getId()).isPresent()).isFalse()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("compareAndSave는 저장된 버전이 기대한 버전일 때만 저장하고, 내려간 게임의 버전과도 비교한다")
+    void compareAndSaveWithStoredVersion() {
+        try (InMemoryGameRepository repository = new InMemoryGameRepository(
+                new HibernationStore(tempDir), 20, 0)) {
+            Game game = repository.save(playedGame());
+            await(() -> repository.getResidentCount() == 0);
+
+            Game stale = playedGame();
+            GameIdInjector.inject(stale, game.getId());
+            stale.move(black, Position.from("D7"), Position.from("D6"), validator, calculator);
+            assertThatThrownBy(() -> repository.compareAndSave(stale, 4))
+                    .isInstanceOf(VersionConflictException.class);
+
+            Game restored = repository.findById(game.getId()).orElseThrow();
+            restored.move(black, Position.from("D7"), Position.from("D6"), validator, calculator);
+            repository.compareAndSave(restored, 5);
+
+            assertAll(
+                    () -> assertThat(repository.findById(game.getId()).orElseThrow().getVersion()).isEqualTo(6L),
+                    () -> assertThatThrownBy(() -> repository.compareAndSave(restored, 5))
+                            .isInstanceOf(VersionConflictException.class)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 변경이 있는 게임은 오래 쓰지 않아도 내리지 않는다")
+    void keepGameWithUnsavedChanges() throws InterruptedException {
+        try (InMemoryGameRepository repository = new InMemoryGameRepository(
+                new HibernationStore(tempDir), 20, 0)) {
+            Game game = repository.save(playedGame());
+            game.move(black, Position.from("D7"), Position.from("D6"), validator, calculator);
+
+            Thread.sleep(100);
+
+            assertThat(repository.getResidentCount()).isEqualTo(1);
+        }
+    }
+
+    private Game playedGame() {
+        Board board = new Board(StorageType.BITBOARD);
+        board.initialize();
+        Game game = new Game(board);
+        game.join(white);
+        game.join(black);
+        game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+        game.move(black, Position.from("C7"), Position.from("C5"), validator, calculator);
+        game.move(white, Position.from("G1"), Position.from("F3"), validator, calculator);
+        return game;
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,403 @@
+package chess.repository.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.RepositoryException;
+import chess.common.exception.VersionConflictException;
+import chess.domain.board.Board;
+import chess.domain.board.Position;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import chess.domain.move.MoveGenerator;
+import chess.domain.notation.Fen;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.GameStatus;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import chess.repository.journal.GameJournal;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("저널 저장소 테스트")
+class JournalGameRepositoryTest {
+
+    private static final int CAPACITY = 4096;
+
+    private final Player white = new Player("white");
+    private final Player black = new Player("black");
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+    private final MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+    private final StatusCalculator calculator = new StatusCalculator(
+            new CheckmateDetector(checkDetector, validator),
+            new StalemateDetector(validator, checkDetector),
+            new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+            new PositionAnalyzer(checkDetector, moveGenerator));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("다시 열면 생성, 참가, 수, 무르기를 재생해 같은 게임을 복원한다")
+    void replayOnStartup() {
+        Game game;
+        Long deletedId;
+        try (JournalGameRepository repository = open()) {
+            game = repository.save(newGame());
+            game.join(white);
+            repository.save(game);
+            game.join(black);
+            repository.save(game);
+            move(repository, game, white, "E2", "E4");
+            move(repository, game, black, "E7", "E5");
+            game.undo(black);
+            repository.save(game);
+            move(repository, game, black, "C7", "C5");
+            move(repository, game, white, "G1", "F3");
+
+            deletedId = repository.save(newGame()).getId();
+            repository.deleteById(deletedId);
+        }
+
+        try (JournalGameRepository repository = open()) {
+            Game restored = repository.findById(game.getId()).orElseThrow();
+
+            assertAll(
+                    () -> assertThat(Fen.of(restored)).isEqualTo(Fen.of(game)),
+                    () -> assertThat(restored.getHistory().getMoves()).isEqualTo(game.getHistory().getMoves()),
+                    () -> assertThat(restored.getWhitePlayer()).isEqualTo(white),
+                    () -> assertThat(restored.getBlackPlayer()).isEqualTo(black),
+                    () -> assertThat(repository.findById(deletedId).isPresent()).isFalse(),
+                    () -> assertThat(repository.save(newGame()).getId()).isEqualTo(deletedId + 1)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("무른 수를 그대로 다시 두어도 재생하거나 스냅숏에서 복원한 게임의 버전은 저장한 버전과 같다")
+    void keepVersionAcrossUndoAndRedo() {
+        Game game;
+        try (JournalGameRepository repository = open()) {
+            game = repository.save(newGame());
+            game.join(white);
+            game.join(black);
+            move(repository, game, white, "E2", "E4");
+            game.undo(white);
+            game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+            repository.save(game);
+
+            repository.snapshot();
+
+            game.undo(white);
+            game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+            repository.save(game);
+        }
+
+        try (JournalGameRepository repository = open()) {
+            Game restored = repository.findById(game.getId()).orElseThrow();
+
+            assertAll(
+                    () -> assertThat(game.getVersion()).isEqualTo(7L),
+                    () -> assertThat(restored.getVersion()).isEqualTo(game.getVersion()),
+                    () -> assertThat(restored.getHistory().getMoves()).isEqualTo(game.getHistory().getMoves())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("저장 사이에 두었다가 무른 수도 게임이 실행한 명령 순서대로 기록되어 재생된다")
+    void journalCommandsBetweenSaves() {
+        Game game;
+        try (JournalGameRepository repository = open()) {
+            game = newGame();
+            game.join(white);
+            game.join(black);
+            repository.save(game);
+            game.move(white, Position.from("E2"), Position.from("E4"), validator, calculator);
+            game.move(black, Position.from("E7"), Position.from("E5"), validator, calculator);
+            game.undo(black);
+            game.move(black, Position.from("E7"), Position.from("E6"), validator, calculator);
+            repository.save(game);
+        }
+
+        try (JournalGameRepository repository = open()) {
+            Game restored = repository.findById(game.getId()).orElseThrow();
+
+            assertAll(
+                    () -> assertThat(eventTypes(1)).isEqualTo(List.of("GameCreated", "PlayerJoined", "PlayerJoined",
+                            "MoveMade", "MoveMade", "MoveUndone", "MoveMade")),
+                    () -> assertThat(restored.getVersion()).isEqualTo(6L),
+                    () -> assertThat(Fen.of(restored)).isEqualTo(Fen.of(game))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("스냅숏은 아직 저장하지 않은 수와 무르기를 빼고 쓰므로, 이어서 저장한 변경과 겹치지 않는다")
+    void snapshotExcludesUnsavedChanges() {
+        Game game;
+        try (JournalGameRepository repository = open()) {
+            game = newGame();
+            game.join(white);
+            game.join(black);
+            repository.save(game);
+            move(repository, game, white, "E2", "E4");
+            move(repository, game, black, "E7", "E5");
+
+            game.undo(black);
+            game.move(black, Position.from("D7"), Position.from("D5"), validator, calculator);
+            game.move(white, Position.from("E4"), Position.from("D5"), validator, calculator);
+            repository.snapshot();
+            repository.save(game);
+        }
+
+        try (JournalGameRepository repository = open()) {
+            Game restored = repository.findById(game.getId()).orElseThrow();
+
+            assertAll(
+                    () -> assertThat(eventTypes(2)).isEqualTo(List.of("MoveUndone", "MoveMade", "MoveMade")),
+                    () -> assertThat(restored.getVersion()).isEqualTo(7L),
+                    () -> assertThat(Fen.of(restored)).isEqualTo(Fen.of(game))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("쌓인 변경으로 게임 버전을 설명할 수 없으면 기록하지 않고 예외를 던진다")
+    void rejectVersionWithoutChanges() {
+        try (JournalGameRepository repository = open()) {
+            Game game = newGame();
+            game.restoreMoves(new short[0], GameStatus.ONGOING, 5);
+
+            assertThatThrownBy(() -> repository.save(game))
+                    .isInstanceOf(RepositoryException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("compareAndSave는 저널에 남긴 버전이 기대한 버전과 다르면 기록하지 않고 예외를 던진다")
+    void rejectStaleVersion() {
+        try (JournalGameRepository repository = open()) {
+            Game game = repository.save(newGame());
+            game.join(white);
+            repository.compareAndSave(game, 0);
+            game.join(black);
+
+            assertThatThrownBy(() -> repository.compareAndSave(game, 0))
+                    .isInstanceOf(VersionConflictException.class);
+            repository.compareAndSave(game, 1);
+            repository.deleteById(game.getId());
+            assertThatThrownBy(() -> repository.compareAndSave(game, 2))
+                    .isInstanceOf(VersionConflictException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("재생한 게임에 이어 둔 수도 다시 재생된다")
+    void continueAfterReplay() {
+        Long id;
+        try (JournalGameRepository repository = open()) {
+            Game game = repository.save(newGame());
+            id = game.getId();
+            game.join(white);
+            game.join(black);
+            move(repository, game, white, "F2", "F3");
+            move(repository, game, black, "E7", "E5");
+        }
+        try (JournalGameRepository repository = open()) {
+            Game game = repository.findById(id).orElseThrow();
+            move(repository, game, white, "G2", "G4");
+            move(repository, game, black, "D8", "H4");
+        }
+        try (JournalGameRepository repository = open()) {
+            assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(GameStatus.CHECKMATE_BLACK_WIN);
+        }
+    }
+
+    @Test
+    @DisplayName("저널이 매핑 크기를 넘으면 늘려서 계속 기록한다")
+    void growJournal() {
+        try (JournalGameRepository repository = open(64)) {
+            for (int i = 0; i < 50; i++) {
+                repository.save(newGame());
+            }
+        }
+        assertThat(journalSize(1)).isGreaterThan(64);
+
+        try (JournalGameRepository repository = open(64)) {
+            assertThat(repository.findAll().count()).isEqualTo(50L);
+        }
+    }
+
+    @Test
+    @DisplayName("쓰다 만 마지막 이벤트는 버리고 그 앞까지 복원한다")
+    void ignoreTornWrite() throws IOException {
+        try (JournalGameRepository repository = open()) {
+            Game game = repository.save(newGame());
+            game.join(white);
+            game.join(black);
+            repository.save(game);
+        }
+        int validSize = journalSize(1);
+        try (JournalGameRepository repository = open()) {
+            move(repository, repository.findById(1L).orElseThrow(), white, "E2", "E4");
+        }
+        try (FileChannel channel = FileChannel.open(journalPath(1), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), validSize + 9);
+        }
+
+        try (JournalGameRepository repository = open()) {
+            assertThat(repository.findById(1L).orElseThrow().getHistory().getMoveCount()).isZero();
+        }
+        assertThat(journalSize(1)).isEqualTo(validSize);
+    }
+
+    @Test
+    @DisplayName("스냅숏 이후에는 스냅숏과 그 뒤 세대의 저널만으로 복원한다")
+    void restoreFromSnapshot() {
+        Game game;
+        Long deletedId;
+        try (JournalGameRepository repository = open()) {
+            game = repository.save(newGame());
+            game.join(white);
+            game.join(black);
+            move(repository, game, white, "E2", "E4");
+            move(repository, game, black, "E7", "E5");
+            deletedId = repository.save(newGame()).getId();
+
+            repository.snapshot();
+
+            move(repository, game, white, "G1", "F3");
+            repository.deleteById(deletedId);
+        }
+
+        try (JournalGameRepository repository = open()) {
+            Game restored = repository.findById(game.getId()).orElseThrow();
+
+            assertAll(
+                    () -> assertThat(repository.getGeneration()).isEqualTo(2L),
+                    () -> assertThat(Files.exists(journalPath(1))).isFalse(),
+                    () -> assertThat(Fen.of(restored)).isEqualTo(Fen.of(game)),
+                    () -> assertThat(restored.getHistory().getMoves()).isEqualTo(game.getHistory().getMoves()),
+                    () -> assertThat(restored.getBlackPlayer()).isEqualTo(black),
+                    () -> assertThat(repository.findById(deletedId).isPresent()).isFalse(),
+                    () -> assertThat(repository.save(newGame()).getId()).isEqualTo(deletedId + 1)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("스냅숏에서 복원한 게임에 이어 둔 수는 규칙 검사를 거쳐 끝난 상태까지 복원된다")
+    void continueAfterSnapshot() {
+        Long id;
+        try (JournalGameRepository repository = open()) {
+            Game game = repository.save(newGame());
+            id = game.getId();
+            game.join(white);
+            game.join(black);
+            move(repository, game, white, "F2", "F3");
+            move(repository, game, black, "E7", "E5");
+            repository.snapshot();
+        }
+        try (JournalGameRepository repository = open()) {
+            Game game = repository.findById(id).orElseThrow();
+            move(repository, game, white, "G2", "G4");
+            move(repository, game, black, "D8", "H4");
+            repository.snapshot();
+        }
+        try (JournalGameRepository repository = open()) {
+            assertAll(
+                    () -> assertThat(repository.getGeneration()).isEqualTo(3L),
+                    () -> assertThat(repository.findById(id).orElseThrow().getStatus())
+                            .isEqualTo(GameStatus.CHECKMATE_BLACK_WIN)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("archive를 켜면 스냅숏 이전 세대의 파일을 지우지 않고 archive 디렉터리로 옮긴다")
+    void archiveRetiredFiles() {
+        try (JournalGameRepository repository = new JournalGameRepository(tempDir, 1, 0, true, CAPACITY,
+                validator, calculator)) {
+            repository.save(newGame());
+            repository.snapshot();
+            repository.save(newGame());
+            repository.snapshot();
+        }
+
+        assertAll(
+                () -> assertThat(Files.exists(journalPath(1))).isFalse(),
+                () -> assertThat(Files.exists(tempDir.resolve("archive").resolve("journal-0000000000000001.log")))
+                        .isTrue(),
+                () -> assertThat(Files.exists(tempDir.resolve("archive").resolve("snapshot-0000000000000002.snap")))
+                        .isTrue(),
+                () -> assertThat(Files.exists(tempDir.resolve("snapshot-0000000000000003.snap"))).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("이전 세대 저널에 기록이 없으면 스냅숏을 만들지 않는다")
+    void skipEmptySnapshot() {
+        try (JournalGameRepository repository = open()) {
+            repository.snapshot();
+
+            assertThat(repository.getGeneration()).isEqualTo(1L);
+        }
+    }
+
+    private JournalGameRepository open() {
+        return open(CAPACITY);
+    }
+
+    private JournalGameRepository open(int capacity) {
+        return new JournalGameRepository(tempDir, 1, 0, false, capacity, validator, calculator);
+    }
+
+    private Path journalPath(long generation) {
+        return tempDir.resolve(String.format("journal-%016d.log", generation));
+    }
+
+    private List<String> eventTypes(long generation) {
+        List<String> types = new ArrayList<>();
+        try (GameJournal journal = new GameJournal(journalPath(generation), 1, CAPACITY)) {
+            journal.replay(event -> types.add(event.getClass().getSimpleName()));
+        }
+        return types;
+    }
+
+    private int journalSize(long generation) {
+        try (GameJournal journal = new GameJournal(journalPath(generation), 1, CAPACITY)) {
+            return journal.size();
+        }
+    }
+
+    private void move(JournalGameRepository repository, Game game, Player player, String from, String to) {
+        game.move(player, Position.from(from), Position.from(to), validator, calculator);
+        repository.save(game);
+    }
+
+    private Game newGame() {
+        Board board = new Board(StorageType.BITBOARD);
+        board.initialize();
+        return new Game(board);
+    }
+}
@@ -0,0 +1,219 @@
+package chess.repository.impls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.VersionConflictException;
+import chess.domain.board.Board;
+import chess.domain.game.Game;
+import chess.domain.game.Player;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("write-behind 저장소 테스트")
+class WriteBehindGameRepositoryTest {
+
+    private static final long NEVER = 60_000;
+
+    private final CountingGameRepository delegate = new CountingGameRepository();
+
+    @Test
+    @DisplayName("새 게임은 바로 저장해 id를 받고, 이후 save는 flush할 때까지 모아 둔다")
+    void deferSaves() {
+        try (WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 1024, NEVER)) {
+            Game game = repository.save(newGame());
+            game.join(new Player("white"));
+            repository.save(game);
+
+            assertAll(
+                    () -> assertThat(game.getId()).isEqualTo(1L),
+                    () -> assertThat(delegate.saves.get()).isEqualTo(1),
+                    () -> assertThat(repository.getPendingCount()).isEqualTo(1),
+                    () -> assertThat(repository.findById(game.getId()).orElseThrow()).isEqualTo(game)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 전에 같은 게임을 여러 번 save하면 한 번만 쓴다")
+    void coalesceSaves() {
+        try (WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 1024, NEVER)) {
+            Game game = repository.save(newGame());
+            for (int i = 0; i < 10; i++) {
+                repository.save(game);
+            }
+            repository.flush();
+
+            assertAll(
+                    () -> assertThat(delegate.saves.get()).isEqualTo(2),
+                    () -> assertThat(repository.getPendingCount()).isZero()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("compareAndSave는 쓰기 전이라도 이 저장소에 저장한 버전과 비교한다")
+    void compareWithPendingVersion() {
+        try (WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 1024, NEVER)) {
+            Game game = repository.save(newGame());
+            game.join(new Player("white"));
+            repository.compareAndSave(game, 0);
+            game.join(new Player("black"));
+
+            assertThatThrownBy(() -> repository.compareAndSave(game, 0))
+                    .isInstanceOf(VersionConflictException.class);
+            repository.compareAndSave(game, 1);
+
+            assertAll(
+                    () -> assertThat(delegate.saves.get()).isEqualTo(1),
+                    () -> assertThat(repository.getPendingCount()).isEqualTo(1)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 대기 중인 게임이 capacity개가 되면 save를 부른 스레드가 직접 쓴다")
+    void flushOnCapacity() {
+        try (WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 3, NEVER)) {
+            Game first = repository.save(newGame());
+            Game second = repository.save(newGame());
+            Game third = repository.save(newGame());
+            repository.save(first);
+            repository.save(second);
+            assertThat(repository.getPendingCount()).isEqualTo(2);
+
+            repository.save(third);
+
+            assertAll(
+                    () -> assertThat(repository.getPendingCount()).isZero(),
+                    () -> assertThat(delegate.saves.get()).isEqualTo(6)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("writer 스레드가 flush 주기마다 쌓인 게임을 쓴다")
+    void writeInBackground() throws InterruptedException {
+        try (WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 1024, 1)) {
+            Game game = repository.save(newGame());
+            repository.save(game);
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (repository.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertThat(delegate.saves.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제하면 쓰기 대기 중인 게임도 버린다")
+    void deletePending() {
+        try (WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 1024, NEVER)) {
+            Game game = repository.save(newGame());
+            repository.save(game);
+
+            repository.deleteById(game.getId());
+            repository.flush();
+
+            assertAll(
+                    () -> assertThat(repository.findById(game.getId()).isPresent()).isFalse(),
+                    () -> assertThat(delegate.saves.get()).isEqualTo(1)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("게임이 compareAndSave로 확인받지 않은 버전으로 바뀌어 있으면 writer는 그 게임을 쓰지 않고 남겨 둔다")
+    void skipUnconfirmedVersion() throws InterruptedException {
+        try (WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 2, 1024, NEVER)) {
+            Game game = repository.save(newGame());
+            Game other = repository.save(newGame());
+            repository.save(game);
+            Game.Checkpoint checkpoint;
+            synchronized (game) {
+                checkpoint = game.checkpoint();
+                game.join(new Player("white"));
+            }
+
+            repository.save(other);
+            for (int i = 0; i < 500 && delegate.saves.get() < 3; i++) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(20);
+            int savesWhileUnconfirmed = delegate.saves.get();
+            int pendingWhileUnconfirmed = repository.getPendingCount();
+
+            synchronized (game) {
+                game.rollback(checkpoint);
+            }
+            repository.flush();
+
+            assertAll(
+                    () -> assertThat(savesWhileUnconfirmed).isEqualTo(3),
+                    () -> assertThat(pendingWhileUnconfirmed).isEqualTo(1),
+                    () -> assertThat(delegate.saves.get()).isEqualTo(4),
+                    () -> assertThat(game.getWhitePlayer()).isNull()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("닫으면 남은 게임을 쓰고 원래 저장소도 닫는다")
+    void flushOnClose() {
+        WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 1024, NEVER);
+        Game game = repository.save(newGame());
+        repository.save(game);
+
+        repository.close();
+
+        assertAll(
+                () -> assertThat(delegate.saves.get()).isEqualTo(2),
+                () -> assertThat(delegate.closed).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("닫는 스레드가 인터럽트되어 있으면 writer를 기다리지 않고 남은 게임을 쓴 뒤 인터럽트 상태를 남겨 둔다")
+    void closeWhenInterrupted() {
+        WriteBehindGameRepository repository = new WriteBehindGameRepository(delegate, 16, 1024, NEVER);
+        Game game = repository.save(newGame());
+        repository.save(game);
+
+        Thread.currentThread().interrupt();
+        repository.close();
+        boolean interrupted = Thread.interrupted();
+
+        assertAll(
+                () -> assertThat(interrupted).isTrue(),
+                () -> assertThat(delegate.saves.get()).isEqualTo(2),
+                () -> assertThat(delegate.closed).isTrue()
+        );
+    }
+
+    private Game newGame() {
+        Board board = new Board();
+        board.initialize();
+        return new Game(board);
+    }
+
+    private static class CountingGameRepository extends InMemoryGameRepository implements AutoCloseable {
+
+        private final AtomicInteger saves = new AtomicInteger();
+        private boolean closed;
+
+        @Override
+        public Game save(Game game) {
+            saves.incrementAndGet();
+            return super.save(game);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
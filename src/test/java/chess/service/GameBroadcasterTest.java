@@ -0,0 +1,160 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.game.GameView;
+import chess.domain.game.GameView.LastMove;
+import chess.domain.piece.Color;
+import chess.domain.status.GameStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("게임 방송 테스트")
+class GameBroadcasterTest {
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    @DisplayName("한 게임의 뷰는 넣은 순서대로 JSON으로 만들어 그 게임의 토픽에 보낸다")
+    void sendInOrderPerGame() {
+        try (GameBroadcaster broadcaster = new GameBroadcaster(this::record, 4, 1024)) {
+            for (long version = 1; version <= 100; version++) {
+                broadcaster.publish(null, view(1L, version, Map.of("E4", "P")));
+                broadcaster.publish(null, view(2L, version, Map.of("E4", "P")));
+            }
+        }
+
+        List<String> first = sent.stream().filter(message -> message.startsWith("/topic/games/1 ")).toList();
+        List<String> expected = new ArrayList<>();
+        for (long version = 1; version <= 100; version++) {
+            expected.add("/topic/games/1 {\"type\":\"snapshot\",\"gameId\":1,\"version\":" + version
+                    + ",\"currentTurn\":\"WHITE\",\"status\":\"ONGOING\",\"board\":{\"E4\":\"P\"}"
+                    + ",\"lastMove\":null}");
+        }
+        assertAll(
+                () -> assertThat(sent.size()).isEqualTo(200),
+                () -> assertThat(first).isEqualTo(expected)
+        );
+    }
+
+    @Test
+    @DisplayName("바로 앞 버전의 뷰가 있으면 바뀐 칸만 델타로 보내고, 버전이 비면 스냅숏을 보낸다")
+    void sendDeltaFromPreviousVersion() {
+        GameView before = view(1L, 3, Map.of("E2", "P", "D7", "p"));
+        GameView after = new GameView(1L, 4, Color.BLACK, GameStatus.ONGOING, Map.of("E4", "P", "D7", "p"),
+                new LastMove("E2", "E4"));
+
+        try (GameBroadcaster broadcaster = new GameBroadcaster(this::record, 1, 16)) {
+            broadcaster.publish(before, after);
+            broadcaster.publish(view(1L, 1, Map.of()), after);
+        }
+
+        assertAll(
+                () -> assertThat(sent.get(0)).isEqualTo("/topic/games/1 {\"type\":\"delta\",\"gameId\":1,\"version\":4"
+                        + ",\"currentTurn\":\"BLACK\",\"status\":\"ONGOING\",\"changes\":{"
+                        + changes(after.changesSince(before)) + "},\"lastMove\":{\"from\":\"E2\",\"to\":\"E4\"}}"),
+                () -> assertThat(after.changesSince(before).size()).isEqualTo(2),
+                () -> assertThat(sent.get(1).startsWith("/topic/games/1 {\"type\":\"snapshot\"")).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("큐가 차면 publish는 worker가 자리를 비울 때까지 기다린다")
+    void blockWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        GameMessageSender slow = (destination, payload) -> {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            record(destination, payload);
+        };
+
+        try (GameBroadcaster broadcaster = new GameBroadcaster(slow, 1, 1)) {
+            broadcaster.publish(null, view(1L, 1, Map.of()));
+            sending.await(5, TimeUnit.SECONDS);
+            broadcaster.publish(null, view(1L, 2, Map.of()));
+
+            Thread publisher = Thread.ofPlatform().start(() -> broadcaster.publish(null, view(1L, 3, Map.of())));
+            publisher.join(100);
+            boolean blocked = publisher.isAlive();
+
+            release.countDown();
+            publisher.join();
+
+            assertThat(blocked).isTrue();
+        }
+        assertThat(sent.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("닫는 스레드가 인터럽트되어 있으면 보내는 중인 worker를 기다리지 않고 인터럽트 상태를 남겨 둔다")
+    void closeWhenInterrupted() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        GameMessageSender slow = (destination, payload) -> {
+            sending.countDown();
+            awaitUninterruptibly(release);
+            record(destination, payload);
+            delivered.countDown();
+        };
+        GameBroadcaster broadcaster = new GameBroadcaster(slow, 1, 16);
+        broadcaster.publish(null, view(1L, 1, Map.of()));
+        sending.await(5, TimeUnit.SECONDS);
+
+        Thread.currentThread().interrupt();
+        broadcaster.close();
+        boolean interrupted = Thread.interrupted();
+        int sentBeforeRelease = sent.size();
+
+        release.countDown();
+        assertAll(
+                () -> assertThat(interrupted).isTrue(),
+                () -> assertThat(sentBeforeRelease).isZero(),
+                () -> assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue()
+        );
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(String destination, byte[] payload) {
+        sent.add(destination + " " + new String(payload, StandardCharsets.UTF_8));
+    }
+
+    private GameView view(Long gameId, long version, Map<String, String> board) {
+        return new GameView(gameId, version, Color.WHITE, GameStatus.ONGOING, board, null);
+    }
+
+    // HashMap의 순서를 따르므로 기대값도 같은 Map을 돌며 만든다
+    private String changes(Map<String, String> changes) {
+        List<String> squares = new ArrayList<>();
+        changes.forEach((square, piece) -> squares.add(
+                "\"" + square + "\":" + (piece == null ? "null" : "\"" + piece + "\"")));
+        return String.join(",", squares);
+    }
+}
@@ -0,0 +1,94 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.common.exception.ChessException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("게임별 명령 실행기 테스트")
+class GameCommandExecutorTest {
+
+    private final GameCommandExecutor executor = new GameCommandExecutor();
+
+    @Test
+    @DisplayName("한 게임의 명령은 여러 스레드에서 넣어도 하나씩 실행된다")
+    void runCommandsOfOneGameOneByOne() throws Exception {
+        List<Integer> unsafe = new ArrayList<>();
+        int threads = 8;
+        int commands = 500;
+
+        ExecutorService callers = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(callers.submit(() -> {
+                for (int i = 0; i < commands; i++) {
+                    executor.execute(1L, () -> unsafe.add(unsafe.size()));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        callers.shutdown();
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < threads * commands; i++) {
+            expected.add(i);
+        }
+        assertThat(unsafe).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("서로 다른 게임의 명령은 기다리지 않고 동시에 실행된다")
+    void runDifferentGamesInParallel() throws Exception {
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        Thread first = Thread.ofPlatform().start(() -> executor.execute(1L, () -> {
+            try {
+                return secondStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        boolean secondRan = executor.execute(2L, () -> {
+            secondStarted.countDown();
+            return true;
+        });
+        first.join();
+
+        assertThat(secondRan).isTrue();
+    }
+
+    @Test
+    @DisplayName("명령이 던진 예외는 그대로 호출한 쪽에 전달되고, 다음 명령은 계속 실행된다")
+    void propagateException() {
+        assertThatThrownBy(() -> executor.execute(1L, () -> {
+            throw new ChessException("실패");
+        })).isInstanceOf(ChessException.class);
+
+        assertThat(executor.execute(1L, () -> "다음")).isEqualTo("다음");
+    }
+
+    @Test
+    @DisplayName("실행할 명령이 없는 게임의 메일박스는 남지 않는다")
+    void removeIdleMailbox() throws Exception {
+        executor.execute(1L, () -> 1);
+        executor.execute(2L, () -> 2);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (executor.getActiveLaneCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertThat(executor.getActiveLaneCount()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.common.exception.VersionConflictException;
+import chess.domain.board.storage.StorageType;
+import chess.domain.game.Game;
+import chess.domain.move.MoveGenerator;
+import chess.domain.notation.Fen;
+import chess.domain.status.CheckDetector;
+import chess.domain.status.CheckmateDetector;
+import chess.domain.status.FiftyMoveDetector;
+import chess.domain.status.InsufficientMaterialDetector;
+import chess.domain.status.MovementValidator;
+import chess.domain.status.PositionAnalyzer;
+import chess.domain.status.RepetitionDetector;
+import chess.domain.status.StalemateDetector;
+import chess.domain.status.StatusCalculator;
+import chess.dto.ChessGameResponseDto;
+import chess.dto.MoveRequestDto;
+import chess.repository.impls.InMemoryGameRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("게임 서비스 테스트")
+class GameServiceTest {
+
+    private final CheckDetector checkDetector = new CheckDetector();
+    private final MoveGenerator moveGenerator = new MoveGenerator(checkDetector);
+    private final MovementValidator validator = new MovementValidator(checkDetector, moveGenerator);
+    private final StatusCalculator calculator = new StatusCalculator(
+            new CheckmateDetector(checkDetector, validator),
+            new StalemateDetector(validator, checkDetector),
+            new FiftyMoveDetector(), new RepetitionDetector(), new InsufficientMaterialDetector(),
+            new PositionAnalyzer(checkDetector, moveGenerator));
+
+    private final ConflictingGameRepository repository = new ConflictingGameRepository();
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private final GameBroadcaster broadcaster = new GameBroadcaster(
+            (destination, payload) -> sent.add(destination), 1, 16);
+    private final GameService gameService = new GameService(repository, validator, calculator,
+            StorageType.BITBOARD, new GameCommandExecutor(), broadcaster);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("저장이 충돌하면 수를 되돌리고, 게임과 게시된 뷰는 충돌 전 그대로이며 다음 명령은 이어서 저장된다")
+    void rollBackRejectedMove() {
+        Long gameId = gameService.startGame("white").gameId();
+        gameService.joinGame(gameId, "black");
+        Game game = repository.findById(gameId).orElseThrow();
+        String fen = Fen.of(game);
+
+        repository.conflict = true;
+        assertThatThrownBy(() -> gameService.move(gameId, new MoveRequestDto("E2", "E4"), "white"))
+                .isInstanceOf(VersionConflictException.class);
+        repository.conflict = false;
+
+        ChessGameResponseDto loaded = gameService.load(gameId);
+        assertAll(
+                () -> assertThat(game.getVersion()).isEqualTo(2L),
+                () -> assertThat(Fen.of(game)).isEqualTo(fen),
+                () -> assertThat(loaded.version()).isEqualTo(2L),
+                () -> assertThat(loaded.board().get("E2")).isEqualTo("P"),
+                () -> assertThat(gameService.move(gameId, new MoveRequestDto("E2", "E4"), "white").version())
+                        .isEqualTo(3L)
+        );
+    }
+
+    @Test
+    @DisplayName("저장이 충돌한 무르기는 물린 수를 다시 두어 되돌린다")
+    void rollBackRejectedUndo() {
+        Long gameId = gameService.startGame("white").gameId();
+        gameService.joinGame(gameId, "black");
+        gameService.move(gameId, new MoveRequestDto("E2", "E4"), "white");
+        Game game = repository.findById(gameId).orElseThrow();
+        String fen = Fen.of(game);
+
+        repository.conflict = true;
+        assertThatThrownBy(() -> gameService.undo(gameId, "white"))
+                .isInstanceOf(VersionConflictException.class);
+
+        assertAll(
+                () -> assertThat(game.getVersion()).isEqualTo(3L),
+                () -> assertThat(Fen.of(game)).isEqualTo(fen),
+                () -> assertThat(game.getHistory().getMoveCount()).isEqualTo(1),
+                () -> assertThat(gameService.load(gameId).version()).isEqualTo(3L)
+        );
+    }
+
+    private static class ConflictingGameRepository extends InMemoryGameRepository {
+
+        private volatile boolean conflict;
+
+        @Override
+        public Game compareAndSave(Game game, long expectedVersion) {
+            if (conflict) {
+                throw new VersionConflictException("conflict");
+            }
+            return super.compareAndSave(game, expectedVersion);
+        }
+    }
+}